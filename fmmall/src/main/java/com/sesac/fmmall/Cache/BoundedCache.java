@@ -0,0 +1,178 @@
+package com.sesac.fmmall.Cache;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * 크기 제한 + TTL 만료가 있는 간단한 인메모리 캐시
+ * - 최대 개수를 넘으면 가장 오래 사용되지 않은 항목부터 제거한다 (LRU).
+ * - 저장 후 ttlMillis 가 지나면 조회 시 만료 처리한다.
+ * - 적중/미스/제거 횟수와 loader 로 읽어온 횟수/시간을 센다.
+ * - loader 가 읽는 도중 같은 키가 무효화되면 읽어온 값은 저장하지 않는다 (키별 무효화 세대 비교).
+ */
+public class BoundedCache<K, V> {
+
+    private final int maxSize;
+    private final long ttlNanos;
+
+    private final LinkedHashMap<K, Entry<V>> entries;
+
+    // loader 가 실행 중인 키의 무효화 세대 (entries 락으로 보호, 읽는 중인 키만 들고 있다)
+    private final Map<K, PendingLoad> pendingLoads = new HashMap<>();
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder loadNanos = new LongAdder();
+
+    public BoundedCache(int maxSize, long ttlMillis) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("캐시 최대 크기는 1 이상이어야 합니다.");
+        }
+        this.maxSize = maxSize;
+        this.ttlNanos = ttlMillis * 1_000_000L;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, Entry<V>> eldest) {
+                if (size() > BoundedCache.this.maxSize) {
+                    evictions.increment();
+                    return true;
+                }
+                return false;
+            }
+        };
+    }
+
+    /**
+     * 캐시 조회 (없거나 만료됐으면 null)
+     */
+    public V get(K key) {
+        synchronized (entries) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && entry.expiresAt - System.nanoTime() > 0) {
+                hits.increment();
+                return entry.value;
+            }
+            if (entry != null) {
+                entries.remove(key);
+                evictions.increment();
+            }
+        }
+        misses.increment();
+        return null;
+    }
+
+    /**
+     * 캐시 조회 후 없으면 loader 로 읽어서 저장한다. (loader 가 null 을 주면 저장하지 않음)
+     * - loader 는 락 밖에서 실행되므로 같은 키를 동시에 여러 번 읽을 수 있다.
+     * - loader 를 부르기 전에 키의 무효화 세대를 기억해 두고, 읽는 사이 invalidate 가 있었으면 저장하지 않는다.
+     *   → 커밋 전 값을 읽은 요청이 afterCompletion 제거 뒤에 예전 값을 다시 넣어 TTL 동안 남기는 일이 없다.
+     */
+    public V get(K key, Function<K, V> loader) {
+        V cached = get(key);
+        if (cached != null) {
+            return cached;
+        }
+
+        PendingLoad pending;
+        long generation;
+        synchronized (entries) {
+            pending = pendingLoads.computeIfAbsent(key, k -> new PendingLoad());
+            pending.loaders++;
+            generation = pending.generation;
+        }
+
+        V loaded = null;
+        long startedAt = System.nanoTime();
+        try {
+            loaded = loader.apply(key);
+        } finally {
+            loads.increment();
+            loadNanos.add(System.nanoTime() - startedAt);
+
+            synchronized (entries) {
+                if (--pending.loaders == 0) {
+                    pendingLoads.remove(key);
+                }
+                if (loaded != null && pending.generation == generation) {
+                    entries.put(key, new Entry<>(loaded, System.nanoTime() + ttlNanos));
+                }
+            }
+        }
+        return loaded;
+    }
+
+    public void put(K key, V value) {
+        synchronized (entries) {
+            entries.put(key, new Entry<>(value, System.nanoTime() + ttlNanos));
+        }
+    }
+
+    public void invalidate(K key) {
+        synchronized (entries) {
+            entries.remove(key);
+            PendingLoad pending = pendingLoads.get(key);
+            if (pending != null) {
+                pending.generation++;
+            }
+        }
+    }
+
+    /**
+     * 데이터 변경 시 캐시 제거
+     * - 지금 바로 제거하고, 트랜잭션 안이면 트랜잭션이 끝난 뒤(커밋/롤백) 한 번 더 제거한다.
+     *   → 커밋 전에 다시 읽혀 들어간 예전 값이나, 롤백된 변경이 캐시에 남지 않는다.
+     */
+    public void invalidateAfterTransaction(K key) {
+        invalidate(key);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    invalidate(key);
+                }
+            });
+        }
+    }
+
+    public void invalidateAll() {
+        synchronized (entries) {
+            entries.clear();
+            pendingLoads.values().forEach(pending -> pending.generation++);
+        }
+    }
+
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    public int getMaxSize() { return maxSize; }
+
+    public long getHitCount() { return hits.sum(); }
+
+    public long getMissCount() { return misses.sum(); }
+
+    public long getEvictionCount() { return evictions.sum(); }
+
+    public long getLoadCount() { return loads.sum(); }
+
+    public long getTotalLoadNanos() { return loadNanos.sum(); }
+
+    private record Entry<V>(V value, long expiresAt) {
+    }
+
+    private static final class PendingLoad {
+        private int loaders;
+        private long generation;
+    }
+}
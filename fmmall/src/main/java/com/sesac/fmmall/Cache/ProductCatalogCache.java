@@ -0,0 +1,51 @@
+package com.sesac.fmmall.Cache;
+
+import com.sesac.fmmall.DTO.CacheStatsResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.function.Function;
+
+/**
+ * 상품 상세 조회 캐시 (productId → ProductResponseDTO)
+ * - 상품 정보는 자주 바뀌지 않으므로 상세 조회 결과를 크기 제한 LRU 로 보관한다.
+ * - 상품 등록/수정/삭제(ProductService), 재고 변경(OrderService, ProductStockService) 시 해당 상품만 제거한다.
+ * - TTL 은 제거 누락에 대비한 안전장치이다.
+ */
+@Component
+public class ProductCatalogCache {
+
+    @Value("${fmmall.cache.product.max-size:5000}")
+    private int maxSize;
+
+    @Value("${fmmall.cache.product.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private BoundedCache<Integer, ProductResponseDTO> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    public ProductResponseDTO get(int productId, Function<Integer, ProductResponseDTO> loader) {
+        return cache.get(productId, loader);
+    }
+
+    /**
+     * 상품 정보/재고 변경 시 호출 (트랜잭션이 끝난 뒤에도 한 번 더 제거)
+     */
+    public void evict(int productId) {
+        cache.invalidateAfterTransaction(productId);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatsResponseDTO getStats() {
+        return CacheStatsResponseDTO.from("productCatalog", cache);
+    }
+}
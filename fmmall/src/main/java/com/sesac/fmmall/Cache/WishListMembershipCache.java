@@ -0,0 +1,65 @@
+package com.sesac.fmmall.Cache;
+
+import com.sesac.fmmall.DTO.CacheStatsResponseDTO;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.Function;
+
+/**
+ * 위시리스트 포함 여부 캐시 (userId → 찜한 상품 ID 정렬 배열)
+ * - 상품 목록 화면의 하트 표시용. Integer 집합 대신 int[] 로 들고 있어 사용자당 상품 하나에 4바이트.
+ * - 포함 여부는 이진 탐색으로 확인한다.
+ * - 위시리스트 추가/삭제(WishListService) 시 해당 사용자만 제거한다. TTL 은 제거 누락에 대비한 안전장치이다.
+ */
+@Component
+public class WishListMembershipCache {
+
+    @Value("${fmmall.cache.wishlist.max-size:10000}")
+    private int maxSize;
+
+    @Value("${fmmall.cache.wishlist.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private BoundedCache<Integer, int[]> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    /**
+     * 사용자가 찜한 상품 ID (오름차순 정렬, 없으면 빈 배열)
+     */
+    public int[] get(int userId, Function<Integer, Collection<Integer>> loader) {
+        return cache.get(userId, id -> toSortedArray(loader.apply(id)));
+    }
+
+    public static boolean contains(int[] sortedProductIds, int productId) {
+        return Arrays.binarySearch(sortedProductIds, productId) >= 0;
+    }
+
+    /**
+     * 위시리스트 변경 시 호출 (트랜잭션이 끝난 뒤에도 한 번 더 제거)
+     */
+    public void evict(int userId) {
+        cache.invalidateAfterTransaction(userId);
+    }
+
+    public void evictAll() {
+        cache.invalidateAll();
+    }
+
+    public CacheStatsResponseDTO getStats() {
+        return CacheStatsResponseDTO.from("wishListMembership", cache);
+    }
+
+    private static int[] toSortedArray(Collection<Integer> productIds) {
+        int[] sorted = productIds.stream().mapToInt(Integer::intValue).toArray();
+        Arrays.sort(sorted);
+        return sorted;
+    }
+}
@@ -4,6 +4,7 @@ import com.sesac.fmmall.Security.JwtAuthorizationFilter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
 import org.springframework.security.config.annotation.method.configuration.EnableMethodSecurity;
@@ -42,6 +43,7 @@ public class SecurityConfig {
                         .requestMatchers("/Category/**").permitAll()
                         .requestMatchers("/RowCategory/**").permitAll()
                         .requestMatchers("/Brand/**").permitAll()
+                        .requestMatchers(HttpMethod.GET, "/Review/product/**").permitAll()
                         .requestMatchers("/swagger-ui/**", "/v3/api-docs/**").permitAll()
 
                         // 일반 사용자
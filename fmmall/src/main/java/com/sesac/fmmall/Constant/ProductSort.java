@@ -0,0 +1,24 @@
+package com.sesac.fmmall.Constant;
+
+import org.springframework.data.domain.Sort;
+
+/**
+ * 상품 목록 정렬 기준
+ * - 동점일 때 순서가 흔들리지 않도록 마지막에 productId 를 붙인다.
+ */
+public enum ProductSort {
+    LATEST(Sort.by("createdAt").descending().and(Sort.by("productId").descending())),
+    PRICE_ASC(Sort.by("price").ascending().and(Sort.by("productId").ascending())),
+    PRICE_DESC(Sort.by("price").descending().and(Sort.by("productId").descending())),
+    NAME(Sort.by("name").ascending().and(Sort.by("productId").ascending()));
+
+    private final Sort sort;
+
+    ProductSort(Sort sort) {
+        this.sort = sort;
+    }
+
+    public Sort getSort() {
+        return sort;
+    }
+}
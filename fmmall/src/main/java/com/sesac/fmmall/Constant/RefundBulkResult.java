@@ -0,0 +1,8 @@
+package com.sesac.fmmall.Constant;
+
+public enum RefundBulkResult {
+    SUCCESS,        // 상태 변경 성공
+    NOT_FOUND,          // 환불 정보 없음
+    INVALID_STATE,      // 현재 상태에서 요청한 상태로 변경할 수 없음
+    ALREADY_PROCESSED   // 다른 관리자가 먼저 요청한 상태로 바꿔 둠 (이번 요청으로는 바뀐 것 없음)
+}
@@ -1,8 +1,28 @@
 package com.sesac.fmmall.Constant;
 
+import java.util.EnumSet;
+import java.util.Set;
+
 public enum RefundStatus {
     REQUESTED,   // 환불 신청됨
     APPROVED,    // 관리자 승인
     REJECTED,    // 관리자 거절
-    COMPLETED    // 실제 환불 완료
-}
\ No newline at end of file
+    COMPLETED;   // 실제 환불 완료
+
+    /**
+     * 상태 전이표: 이 상태로 바뀔 수 있는 이전 상태들
+     * REQUESTED → APPROVED → COMPLETED
+     * REQUESTED → REJECTED
+     */
+    public Set<RefundStatus> allowedSources() {
+        return switch (this) {
+            case APPROVED, REJECTED -> EnumSet.of(REQUESTED);
+            case COMPLETED -> EnumSet.of(APPROVED);
+            case REQUESTED -> EnumSet.noneOf(RefundStatus.class);
+        };
+    }
+
+    public boolean canTransitionTo(RefundStatus next) {
+        return next.allowedSources().contains(this);
+    }
+}
@@ -0,0 +1,12 @@
+package com.sesac.fmmall.Constant;
+
+/**
+ * 상품별 리뷰 피드 정렬 기준
+ * - LATEST: 수정일 최신순
+ * - RATING: 평점 높은순 (평점 없는 리뷰는 제외), 같은 평점은 최신순
+ * - 둘 다 동점일 때 순서가 흔들리지 않도록 마지막에 reviewId 를 붙인다.
+ */
+public enum ReviewSort {
+    LATEST,
+    RATING
+}
@@ -0,0 +1,11 @@
+package com.sesac.fmmall.Constant;
+
+/**
+ * 자동완성 제안 종류
+ * - PRODUCT: 상품명, MODEL: 모델명, BRAND: 브랜드명
+ */
+public enum SuggestionType {
+    PRODUCT,
+    MODEL,
+    BRAND
+}
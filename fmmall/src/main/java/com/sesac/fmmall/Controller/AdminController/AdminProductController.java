@@ -1,8 +1,12 @@
 package com.sesac.fmmall.Controller.AdminController;
 
+import com.sesac.fmmall.Cache.ProductCatalogCache;
+import com.sesac.fmmall.DTO.CacheStatsResponseDTO;
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductStockShardResponseDTO;
 import com.sesac.fmmall.Service.ProductService;
+import com.sesac.fmmall.Service.ProductStockService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
@@ -13,6 +17,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "[관리자] 상품 관리 API")
 @RestController
 @RequestMapping("/Admin/Product")
@@ -20,6 +26,8 @@ import org.springframework.web.bind.annotation.*;
 public class AdminProductController {
 
     private final ProductService productService;
+    private final ProductStockService productStockService;
+    private final ProductCatalogCache productCatalogCache;
 
     @PreAuthorize("hasRole('ADMIN')")
     @Operation(summary = "[관리자] 상품 등록", description = "관리자가 새로운 상품을 등록합니다.")
@@ -61,4 +69,42 @@ public class AdminProductController {
 
         return ResponseEntity.ok().build();
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 전체 상품 내보내기",
+            description = "상품 번호순으로 전체 상품을 내려받습니다. 최대 개수(fmmall.product.export-limit, 기본 5000)까지만 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 내보내기 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/export")
+    public ResponseEntity<List<ProductResponseDTO>> adminExportProducts(){
+        return ResponseEntity.ok(productService.exportProducts());
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 상품 재고 샤딩 설정",
+            description = "한정 판매 등 주문이 몰리는 상품의 재고를 shardCount 개로 나눠서 관리합니다. 0 또는 1 이면 샤딩을 해제합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "재고 샤딩 설정 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 샤드 개수"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    @PutMapping("/stockShard/{productId}")
+    public ResponseEntity<ProductStockShardResponseDTO> adminChangeStockShard(@PathVariable int productId, @RequestParam int shardCount){
+        ProductStockShardResponseDTO result = productStockService.changeShardCount(productId, shardCount);
+        return ResponseEntity.ok(result);
+    }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 상품 상세 캐시 통계", description = "상품 상세 조회 캐시의 적중률과 DB 조회(로드) 시간을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponseDTO> adminProductCacheStats(){
+        return ResponseEntity.ok(productCatalogCache.getStats());
+    }
 }
@@ -1,5 +1,8 @@
 package com.sesac.fmmall.Controller.AdminController;
 
+import com.sesac.fmmall.Controller.BaseController;
+import com.sesac.fmmall.DTO.Refund.RefundBulkRequest;
+import com.sesac.fmmall.DTO.Refund.RefundBulkResponse;
 import com.sesac.fmmall.DTO.Refund.RefundResponse;
 import com.sesac.fmmall.Service.RefundService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -9,16 +12,13 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
-import org.springframework.web.bind.annotation.PathVariable;
-import org.springframework.web.bind.annotation.PutMapping;
-import org.springframework.web.bind.annotation.RequestMapping;
-import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.bind.annotation.*;
 
 @Tag(name = "[관리자] 환불 관리 API")
 @RestController
 @RequestMapping("/Admin/Refund")
 @RequiredArgsConstructor
-public class AdminRefundController {
+public class AdminRefundController extends BaseController {
 
     private final RefundService refundService;
 
@@ -73,4 +73,19 @@ public class AdminRefundController {
         return ResponseEntity.ok(response);
     }
 
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 환불 일괄 처리",
+            description = "여러 환불을 한 번에 승인(APPROVED) / 거절(REJECTED) / 완료(COMPLETED) 처리합니다. 환불 ID 별 처리 결과를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "일괄 처리 완료 (건별 결과 포함)"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 처리할 환불 없음, 잘못된 상태)"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @PutMapping("/bulk")
+    public ResponseEntity<RefundBulkResponse> processRefundsInBulk(
+            @RequestBody RefundBulkRequest request
+    ) {
+        RefundBulkResponse response = refundService.processRefundsInBulk(request, getCurrentUserId());
+        return ResponseEntity.ok(response);
+    }
 }
@@ -1,6 +1,8 @@
 package com.sesac.fmmall.Controller.AdminController;
 
+import com.sesac.fmmall.DTO.CacheStatsResponseDTO;
 import com.sesac.fmmall.DTO.User.UserResponseDto;
+import com.sesac.fmmall.Security.UserPrincipalCache;
 import com.sesac.fmmall.Service.UserService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -20,6 +22,7 @@ import java.util.List;
 public class AdminUserController {
     
     private final UserService userService;
+    private final UserPrincipalCache userPrincipalCache;
     // private final JwtTokenProvider jwtTokenProvider; // 현재 이 컨트롤러에서는 직접 사용되지 않으므로 주석 처리 또는 제거 가능
 
     @PreAuthorize("hasRole('ADMIN')")
@@ -55,4 +58,15 @@ public class AdminUserController {
         userService.adminDeleteUser(userId); // UserService에 adminDeleteUser() 메소드가 있다고 가정
         return ResponseEntity.noContent().build();
     }
+
+    @PreAuthorize("hasRole('ADMIN')")
+    @Operation(summary = "[관리자] 인증 사용자 캐시 통계", description = "JWT 인증 시 사용하는 사용자 캐시의 적중/미스 횟수를 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @GetMapping("/principalCache/stats")
+    public ResponseEntity<CacheStatsResponseDTO> adminPrincipalCacheStats() {
+        return ResponseEntity.ok(userPrincipalCache.getStats());
+    }
 }
@@ -1,6 +1,8 @@
 package com.sesac.fmmall.Controller.AdminController;
 
+import com.sesac.fmmall.Cache.WishListMembershipCache;
 import com.sesac.fmmall.Controller.BaseController;
+import com.sesac.fmmall.DTO.CacheStatsResponseDTO;
 import com.sesac.fmmall.DTO.WishList.WishListResponseDTO;
 import com.sesac.fmmall.Service.WishListService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -24,6 +26,7 @@ import java.util.List;
 public class AdminWishListController extends BaseController {
 
     private final WishListService wishListService;
+    private final WishListMembershipCache wishListMembershipCache;
 
     @Operation(summary = "[관리자] 모든 위시리스트 조회", description = "시스템의 모든 위시리스트를 조회합니다.")
     @ApiResponses({
@@ -48,4 +51,15 @@ public class AdminWishListController extends BaseController {
         wishListService.deleteAllWishList();
         return ResponseEntity.noContent().build();
     }
+
+    @Operation(summary = "[관리자] 위시리스트 포함 여부 캐시 통계", description = "상품 목록 하트 표시용 캐시의 적중률과 DB 조회(로드) 시간을 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+            @ApiResponse(responseCode = "403", description = "관리자 권한 없음")
+    })
+    @PreAuthorize("hasRole('ADMIN')")
+    @GetMapping("/cache/stats")
+    public ResponseEntity<CacheStatsResponseDTO> membershipCacheStats() {
+        return ResponseEntity.ok(wishListMembershipCache.getStats());
+    }
 }
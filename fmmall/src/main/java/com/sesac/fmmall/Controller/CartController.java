@@ -1,8 +1,10 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.DTO.CartItem.CartItemCheckRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
 import com.sesac.fmmall.DTO.CartResponseDTO;
+import com.sesac.fmmall.DTO.CartSummaryResponseDTO;
 import com.sesac.fmmall.Service.CartService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -50,6 +52,68 @@ public class CartController extends BaseController {
         return ResponseEntity.ok(response);
     }
 
+    @Operation(summary = "장바구니 상품 추가 (요약 응답)",
+            description = "장바구니에 상품을 추가하고, 전체 목록 대신 추가된 항목과 장바구니 합계만 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "201", description = "상품 추가 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 상품 ID 또는 수량 누락)"),
+            @ApiResponse(responseCode = "404", description = "사용자 또는 상품을 찾을 수 없음")
+    })
+    @PostMapping("/insert/summary")
+    public ResponseEntity<CartSummaryResponseDTO> addCartItemSummary(
+            @RequestBody CartItemCreateRequestDTO requestDTO
+    ) {
+        CartSummaryResponseDTO response = cartService.createCartItemSummary(getCurrentUserId(), requestDTO);
+        return ResponseEntity.status(HttpStatus.CREATED).body(response);
+    }
+
+    @Operation(summary = "장바구니 상품 수량 변경 (요약 응답)",
+            description = "장바구니 상품의 수량을 변경하고, 전체 목록 대신 변경된 항목과 장바구니 합계만 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "수량 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: 수량 누락)"),
+            @ApiResponse(responseCode = "404", description = "사용자 또는 장바구니 항목을 찾을 수 없음")
+    })
+    @PutMapping("/modify/{cartItemId}/summary")
+    public ResponseEntity<CartSummaryResponseDTO> modifyCartItemSummary(
+            @PathVariable int cartItemId,
+            @RequestBody CartItemUpdateRequestDTO requestDTO
+    ) {
+        CartSummaryResponseDTO response =
+                cartService.updateCartItemQuantitySummary(getCurrentUserId(), cartItemId, requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "장바구니 상품 주문 선택/해제",
+            description = "장바구니 주문에 포함할지(Y/N) 변경하고, 변경된 항목과 장바구니 합계를 반환합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "선택 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: checkStatus 가 Y/N 이 아님)"),
+            @ApiResponse(responseCode = "404", description = "장바구니 항목을 찾을 수 없음")
+    })
+    @PutMapping("/check/{cartItemId}")
+    public ResponseEntity<CartSummaryResponseDTO> checkCartItem(
+            @PathVariable int cartItemId,
+            @RequestBody CartItemCheckRequestDTO requestDTO
+    ) {
+        CartSummaryResponseDTO response = cartService.updateCheckStatus(getCurrentUserId(), cartItemId, requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
+    @Operation(summary = "장바구니 전체 주문 선택/해제", description = "장바구니의 모든 상품을 주문 선택(Y) 또는 해제(N)합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "선택 변경 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (예: checkStatus 가 Y/N 이 아님)"),
+            @ApiResponse(responseCode = "404", description = "장바구니를 찾을 수 없음")
+    })
+    @PutMapping("/checkAll")
+    public ResponseEntity<CartResponseDTO> checkAllCartItems(
+            @RequestBody CartItemCheckRequestDTO requestDTO
+    ) {
+        CartResponseDTO response = cartService.updateCheckStatusAll(getCurrentUserId(), requestDTO);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "장바구니 상품 삭제", description = "장바구니에서 상품을 삭제합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "204", description = "상품 삭제 성공"),
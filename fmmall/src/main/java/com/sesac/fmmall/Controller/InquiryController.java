@@ -3,6 +3,7 @@ package com.sesac.fmmall.Controller;
 import com.sesac.fmmall.DTO.Inquiry.InquiryModifyRequestDTO;
 import com.sesac.fmmall.DTO.Inquiry.InquiryRequestDTO;
 import com.sesac.fmmall.DTO.Inquiry.InquiryResponseDTO;
+import com.sesac.fmmall.DTO.Inquiry.InquiryWithAnswersResponseDTO;
 import com.sesac.fmmall.Service.InquiryService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -44,6 +45,17 @@ public class InquiryController extends BaseController {
         return ResponseEntity.ok(resultInquiry);
     }
 
+    @Operation(summary = "상품 Q&A 조회", description = "특정 상품의 문의를 최신순으로 페이징하고, 각 문의의 답변을 함께 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "Q&A 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    @GetMapping("/qna/{productId}")
+    public ResponseEntity<Page<InquiryWithAnswersResponseDTO>> findProductQna(@PathVariable int productId, @RequestParam(defaultValue = "1") int curPage) {
+        Page<InquiryWithAnswersResponseDTO> resultInquiry = inquiryService.findInquiryWithAnswersByProductId(productId, curPage);
+        return ResponseEntity.ok(resultInquiry);
+    }
+
     @Operation(summary = "내 문의 목록 조회", description = "자신이 작성한 모든 문의를 최신순으로 페이징하여 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "문의 목록 조회 성공"),
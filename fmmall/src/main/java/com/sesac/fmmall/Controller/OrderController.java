@@ -2,6 +2,7 @@ package com.sesac.fmmall.Controller;
 
 import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderHistoryPageResponse;
 import com.sesac.fmmall.DTO.Order.OrderResponse;
 import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
 import com.sesac.fmmall.Service.OrderService;
@@ -10,10 +11,12 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Tag(name = "주문 API")
@@ -63,6 +66,22 @@ public class OrderController extends BaseController {
         return ResponseEntity.ok(responses);
     }
 
+    @Operation(summary = "내 주문 내역 조회 (커서 페이지)",
+            description = "최신 주문부터 size 개씩 조회합니다. 다음 페이지는 응답의 nextCursorCreatedAt / nextCursorOrderId 를 넘겨서 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "주문 내역 조회 성공")
+    })
+    @GetMapping("/history")
+    public ResponseEntity<OrderHistoryPageResponse> findHistory(
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorCreatedAt,
+            @RequestParam(required = false) Integer cursorOrderId
+    ) {
+        OrderHistoryPageResponse response =
+                orderService.getOrderHistory(getCurrentUserId(), size, cursorCreatedAt, cursorOrderId);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "특정 주문 상세 조회", description = "주문 ID로 특정 주문의 상세 내역을 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "주문 상세 조회 성공"),
@@ -1,13 +1,19 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.DTO.Product.AutocompleteSuggestionDTO;
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
+import com.sesac.fmmall.Service.ProductAutocompleteService;
+import com.sesac.fmmall.Service.ProductSearchService;
 import com.sesac.fmmall.Service.ProductService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springdoc.core.annotations.ParameterObject;
+import org.springframework.data.domain.Page;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -15,23 +21,61 @@ import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+
 @Tag(name = "상품 API")
 @RestController
 @RequestMapping("/Product")
 @RequiredArgsConstructor
 public class ProductController {
     private final ProductService productService;
+    private final ProductSearchService productSearchService;
+    private final ProductAutocompleteService productAutocompleteService;
 
-    @Operation(summary = "전체 상품 조회", description = "모든 상품 목록을 조회합니다.")
+    @Operation(summary = "상품 목록 조회",
+            description = "상품 목록을 페이지 단위로 조회합니다. 카테고리/하위 카테고리/브랜드(brandIds=1,2 로 여러 개)/상태/가격 범위로 거를 수 있고, "
+                    + "sort(LATEST, PRICE_ASC, PRICE_DESC, NAME)로 정렬합니다. 한 페이지 최대 100개")
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공")
+            @ApiResponse(responseCode = "200", description = "상품 목록 조회 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 조회 조건 (예: 최소 가격 > 최대 가격)")
     })
     @GetMapping("/findAll")
-    public ResponseEntity<List<ProductResponseDTO>> findAll() {
-        List<ProductResponseDTO> products = productService.findAllProducts();
+    public ResponseEntity<Page<ProductResponseDTO>> findAll(
+            @ParameterObject ProductSearchConditionDTO condition,
+            @RequestParam(defaultValue = "1") int curPage,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<ProductResponseDTO> products = productService.findProducts(condition, curPage, size);
+        return ResponseEntity.ok(products);
+    }
+
+    @Operation(summary = "상품 검색",
+            description = "상품명/모델명/설명/브랜드/카테고리에서 검색어를 찾아 관련도 순으로 조회합니다. "
+                    + "영문/숫자는 앞부분만 입력해도 찾습니다 (예: QN65). 한 페이지 최대 100개")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "상품 검색 성공"),
+            @ApiResponse(responseCode = "400", description = "검색어 없음")
+    })
+    @GetMapping("/search")
+    public ResponseEntity<Page<ProductResponseDTO>> search(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "1") int curPage,
+            @RequestParam(defaultValue = "20") int size) {
+        Page<ProductResponseDTO> products = productSearchService.search(q, curPage, size);
         return ResponseEntity.ok(products);
     }
 
+    @Operation(summary = "상품 자동완성",
+            description = "입력으로 시작하는 상품명/모델명/브랜드명을 판매량 순으로 제안합니다. "
+                    + "공백과 '-' 는 무시합니다 (예: QN65 → QN65Q80C-KR). 최대 10개")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "자동완성 조회 성공")
+    })
+    @GetMapping("/autocomplete")
+    public ResponseEntity<List<AutocompleteSuggestionDTO>> autocomplete(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(productAutocompleteService.suggest(q, limit));
+    }
+
     @Operation(summary = "상품 상세 조회", description = "상품 ID로 특정 상품의 상세 정보를 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "상품 조회 성공"),
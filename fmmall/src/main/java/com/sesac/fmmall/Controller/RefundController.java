@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.Constant.RefundStatus;
 import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
 import com.sesac.fmmall.DTO.Refund.RefundResponse;
 import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
@@ -9,6 +10,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
@@ -37,14 +39,20 @@ public class RefundController extends BaseController {
         return ResponseEntity.status(HttpStatus.CREATED).body(response);
     }
 
-    @Operation(summary = "내 환불 내역 전체 조회", description = "현재 로그인된 사용자의 모든 환불 내역을 요약하여 조회합니다.")
+    @Operation(summary = "내 환불 내역 조회 (페이지)",
+            description = "현재 로그인된 사용자의 환불 내역을 최신순으로 요약하여 조회합니다. status 로 환불 상태를 필터링할 수 있습니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "환불 내역 조회 성공"),
             @ApiResponse(responseCode = "404", description = "사용자를 찾을 수 없음")
     })
     @GetMapping("/findAll")
-    public ResponseEntity<List<RefundSummaryResponse>> findAllByUser() {
-        List<RefundSummaryResponse> responses = refundService.getRefundsByUser(getCurrentUserId());
+    public ResponseEntity<Slice<RefundSummaryResponse>> findAllByUser(
+            @RequestParam(defaultValue = "1") int curPage,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) RefundStatus status
+    ) {
+        Slice<RefundSummaryResponse> responses =
+                refundService.getRefundsByUser(getCurrentUserId(), status, curPage, size);
         return ResponseEntity.ok(responses);
     }
 
@@ -1,5 +1,7 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.Constant.ReviewSort;
+import com.sesac.fmmall.DTO.Review.ReviewFeedPageResponseDTO;
 import com.sesac.fmmall.DTO.Review.ReviewModifyRequestDTO;
 import com.sesac.fmmall.DTO.Review.ReviewRequestDTO;
 import com.sesac.fmmall.DTO.Review.ReviewResponseDTO;
@@ -10,10 +12,13 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.time.LocalDateTime;
+
 @Tag(name = "리뷰 API")
 @RestController
 @RequestMapping("/Review")
@@ -44,6 +49,26 @@ public class ReviewController extends BaseController {
         return ResponseEntity.ok(resultReview);
     }
 
+    @Operation(summary = "상품별 리뷰 피드 조회",
+            description = "특정 상품의 리뷰를 최신순(LATEST) 또는 평점순(RATING)으로 조회합니다. 다음 페이지는 응답의 nextCursor 값을 그대로 넘겨서 조회합니다.")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "리뷰 피드 조회 성공"),
+            @ApiResponse(responseCode = "404", description = "상품을 찾을 수 없음")
+    })
+    @GetMapping("/product/{productId}")
+    public ResponseEntity<ReviewFeedPageResponseDTO> findProductReviews(
+            @PathVariable int productId,
+            @RequestParam(defaultValue = "LATEST") ReviewSort sort,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime cursorUpdatedAt,
+            @RequestParam(required = false) Double cursorRating,
+            @RequestParam(required = false) Integer cursorReviewId
+    ) {
+        ReviewFeedPageResponseDTO response = reviewService.findReviewsByProduct(
+                productId, sort, size, cursorUpdatedAt, cursorRating, cursorReviewId);
+        return ResponseEntity.ok(response);
+    }
+
     @Operation(summary = "내 리뷰 목록 조회", description = "자신이 작성한 모든 리뷰를 최신순으로 페이징하여 조회합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "리뷰 목록 조회 성공"),
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Controller;
 
+import com.sesac.fmmall.DTO.WishList.WishListMembershipResponseDTO;
 import com.sesac.fmmall.DTO.WishList.WishListRequestDTO;
 import com.sesac.fmmall.DTO.WishList.WishListResponseDTO;
 import com.sesac.fmmall.Service.WishListService;
@@ -12,6 +13,8 @@ import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "위시리스트 API")
 @RestController
 @RequestMapping("/WishList")
@@ -44,6 +47,19 @@ public class WishListController extends BaseController {
         return ResponseEntity.ok(resultWishList);
     }
 
+    @Operation(summary = "위시리스트 포함 여부 일괄 조회",
+            description = "상품 목록 화면에서 보여줄 상품 ID 들 중 내 위시리스트에 있는 상품 ID 만 반환합니다. (최대 200개)")
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "400", description = "상품 ID 가 너무 많음"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/membership")
+    public ResponseEntity<WishListMembershipResponseDTO> findMyWishListMembership(@RequestParam List<Integer> productIds) {
+        WishListMembershipResponseDTO result = wishListService.findWishListedProductIds(getCurrentUserId(), productIds);
+        return ResponseEntity.ok(result);
+    }
+
     @Operation(summary = "위시리스트 토글", description = "상품을 위시리스트에 추가하거나 이미 있으면 제거합니다.")
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "토글 성공"),
@@ -0,0 +1,40 @@
+package com.sesac.fmmall.DTO;
+
+import com.sesac.fmmall.Cache.BoundedCache;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CacheStatsResponseDTO {
+    private String cacheName;
+    private int size;
+    private int maxSize;
+    private long hitCount;
+    private long missCount;
+    private long evictionCount;
+    private double hitRate;
+    private long loadCount;
+    private double averageLoadMillis;
+
+    public static CacheStatsResponseDTO from(String cacheName, BoundedCache<?, ?> cache) {
+        long hits = cache.getHitCount();
+        long misses = cache.getMissCount();
+        long total = hits + misses;
+        long loadCount = cache.getLoadCount();
+
+        return CacheStatsResponseDTO.builder()
+                .cacheName(cacheName)
+                .size(cache.size())
+                .maxSize(cache.getMaxSize())
+                .hitCount(hits)
+                .missCount(misses)
+                .evictionCount(cache.getEvictionCount())
+                .hitRate(total == 0 ? 0.0 : (double) hits / total)
+                .loadCount(loadCount)
+                .averageLoadMillis(loadCount == 0 ? 0.0 : cache.getTotalLoadNanos() / 1_000_000.0 / loadCount)
+                .build();
+    }
+}
@@ -0,0 +1,13 @@
+package com.sesac.fmmall.DTO.CartItem;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@Schema(description = "장바구니 항목 주문 선택 요청 DTO")
+public class CartItemCheckRequestDTO {
+    @Schema(description = "주문 선택 여부 (Y/N)", example = "Y")
+    private String checkStatus;
+}
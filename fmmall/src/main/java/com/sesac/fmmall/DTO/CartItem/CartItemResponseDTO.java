@@ -1,5 +1,7 @@
 package com.sesac.fmmall.DTO.CartItem;
 
+import com.sesac.fmmall.Entity.CartItem;
+import com.sesac.fmmall.Entity.Product;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.*;
 
@@ -31,4 +33,31 @@ public class CartItemResponseDTO {
     private String checkStatus;
     @Schema(description = "장바구니에 추가된 날짜")
     private LocalDateTime addDate;
+
+    // 장바구니 조회 쿼리(JPQL 생성자 표현식)용: 상품 엔티티를 읽지 않고 필요한 컬럼만 받는다.
+    public CartItemResponseDTO(int cartItemId, int productId, String productName, Integer productPrice,
+                               int cartItemQuantity, String checkStatus, LocalDateTime addDate) {
+        this.cartItemId = cartItemId;
+        this.productId = productId;
+        this.productName = productName;
+        this.productPrice = productPrice;
+        this.cartItemQuantity = cartItemQuantity;
+        this.totalPrice = productPrice * cartItemQuantity;
+        this.checkStatus = checkStatus;
+        this.addDate = addDate;
+    }
+
+    public static CartItemResponseDTO from(CartItem cartItem) {
+        Product product = cartItem.getProduct();
+        return CartItemResponseDTO.builder()
+                .cartItemId(cartItem.getCartItemId())
+                .productId(product.getProductId())
+                .productName(product.getName())
+                .productPrice(product.getPrice())
+                .cartItemQuantity(cartItem.getCartItemQuantity())
+                .totalPrice(product.getPrice() * cartItem.getCartItemQuantity())
+                .checkStatus(cartItem.getCheckStatus())
+                .addDate(cartItem.getAddDate())
+                .build();
+    }
 }
@@ -0,0 +1,23 @@
+package com.sesac.fmmall.DTO;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "장바구니 변경 결과 요약 DTO (변경된 항목 + 장바구니 합계)")
+public class CartSummaryResponseDTO {
+
+    @Schema(description = "장바구니 ID", example = "1")
+    private int cartId;
+    @Schema(description = "이번 요청으로 추가/변경된 장바구니 항목")
+    private CartItemResponseDTO changedItem;
+    @Schema(description = "총 항목 수", example = "3")
+    private int totalItemCount;
+    @Schema(description = "총 가격", example = "30000")
+    private int totalPrice;
+}
@@ -0,0 +1,43 @@
+package com.sesac.fmmall.DTO.Inquiry;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import com.sesac.fmmall.Entity.Inquiry;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품 Q&A 탭용: 문의 한 건 + 그 문의에 달린 답변 전체 (최신순)
+ */
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class InquiryWithAnswersResponseDTO {
+    private int inquiryId;
+    private String inquiryContent;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy.MM.dd HH:mm:ss")
+    private LocalDateTime createdAt;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy.MM.dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    private int userId;
+    private int productId;
+
+    private List<InquiryAnswerResponseDTO> answers;
+
+    public static InquiryWithAnswersResponseDTO from(Inquiry inquiry, List<InquiryAnswerResponseDTO> answers) {
+        return InquiryWithAnswersResponseDTO.builder()
+                .inquiryId(inquiry.getInquiryId())
+                .inquiryContent(inquiry.getInquiryContent())
+                .createdAt(inquiry.getCreatedAt())
+                .updatedAt(inquiry.getUpdatedAt())
+                .userId(inquiry.getUser().getUserId())
+                .productId(inquiry.getProduct().getProductId())
+                .answers(answers)
+                .build();
+    }
+}
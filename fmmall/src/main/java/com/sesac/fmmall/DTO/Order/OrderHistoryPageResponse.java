@@ -0,0 +1,24 @@
+package com.sesac.fmmall.DTO.Order;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 주문 내역 (커서 기반 페이지)
+ * - 다음 페이지는 nextCursorCreatedAt / nextCursorOrderId 를 그대로 넘겨서 조회한다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class OrderHistoryPageResponse {
+
+    private List<OrderSummaryResponse> orders;
+
+    private boolean hasNext;                  // 다음 페이지 존재 여부
+    private LocalDateTime nextCursorCreatedAt; // 마지막 주문의 주문 일시 (다음 페이지 없으면 null)
+    private Integer nextCursorOrderId;         // 마지막 주문의 주문 번호 (다음 페이지 없으면 null)
+}
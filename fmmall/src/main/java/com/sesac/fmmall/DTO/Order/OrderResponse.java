@@ -2,9 +2,11 @@ package com.sesac.fmmall.DTO.Order;
 
 import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
 import com.sesac.fmmall.DTO.Settlement.PaymentSummaryResponse;
+import com.sesac.fmmall.Entity.Order;
 import lombok.*;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -33,4 +35,26 @@ public class OrderResponse {
     private PaymentSummaryResponse payment;
 
     private List<RefundSummaryResponse> refunds;
-}
\ No newline at end of file
+
+    public static OrderResponse from(Order order) {
+        return OrderResponse.builder()
+                .orderId(order.getOrderId())
+                .receiverName(order.getReceiverName())
+                .receiverPhone(order.getReceiverPhone())
+                .zipcode(order.getZipcode())
+                .address1(order.getAddress1())
+                .address2(order.getAddress2())
+                .totalPrice(order.getTotalPrice())
+                .deliveryTrackingNumber(order.getDeliveryTrackingNumber())
+                .createdAt(order.getCreatedAt())
+                .userId(order.getUser().getUserId())
+                .items(order.getOrderItems().stream()
+                        .map(OrderItemResponse::from)
+                        .collect(Collectors.toList()))
+                .payment(order.getPayment() != null ? PaymentSummaryResponse.from(order.getPayment()) : null)
+                .refunds(order.getRefunds().stream()
+                        .map(RefundSummaryResponse::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
@@ -2,6 +2,7 @@ package com.sesac.fmmall.DTO.Order;
 
 import lombok.*;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Getter
@@ -18,4 +19,12 @@ public class OrderSummaryResponse {
     // 목록에서 간단히 보여줄 정보들
     private int totalQuantity;        // 주문 상품 전체 수량 합
     private List<String> productNames; // 이 주문에 포함된 전체 상품 이름 리스트
+
+    // 목록 조회 쿼리(JPQL 생성자 표현식)용: 수량/상품명은 집계 쿼리 결과로 채운다.
+    public OrderSummaryResponse(int orderId, Integer totalPrice, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.totalPrice = totalPrice;
+        this.createdAt = createdAt;
+        this.productNames = new ArrayList<>();
+    }
 }
@@ -0,0 +1,31 @@
+package com.sesac.fmmall.DTO.Product;
+
+import com.sesac.fmmall.Constant.SuggestionType;
+import com.sesac.fmmall.Search.AutocompleteTrie;
+import lombok.*;
+
+/**
+ * 자동완성 제안 한 건
+ * - type 이 PRODUCT/MODEL 이면 productId, BRAND 이면 brandId 가 채워진다.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AutocompleteSuggestionDTO {
+    private String text;
+    private SuggestionType type;
+    private Integer productId;
+    private Integer brandId;
+
+    public static AutocompleteSuggestionDTO from(AutocompleteTrie.Suggestion suggestion) {
+        boolean brand = suggestion.type() == SuggestionType.BRAND;
+        return AutocompleteSuggestionDTO.builder()
+                .text(suggestion.text())
+                .type(suggestion.type())
+                .productId(brand ? null : suggestion.targetId())
+                .brandId(brand ? suggestion.targetId() : null)
+                .build();
+    }
+}
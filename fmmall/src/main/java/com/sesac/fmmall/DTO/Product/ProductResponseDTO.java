@@ -1,10 +1,13 @@
 package com.sesac.fmmall.DTO.Product;
 
 import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.ProductRatingSummary;
 import lombok.*;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 
 @Getter
 @Setter
@@ -30,10 +33,42 @@ public class ProductResponseDTO {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 리뷰 평점 집계 (product_rating_summary, 리뷰가 없으면 0)
+    private double averageRating;
+    private int reviewCount;
+    private List<Integer> ratingCounts;   // 1점 ~ 5점 리뷰 수
+
     public int getProductId() { return productId; }
     public void setProductId(int productId) { this.productId = productId; }
 
     public String getProductName() { return productName; }
     public void setProductName(String productName) { this.productName = productName; }
 
+    // 엔티티 → DTO (ModelMapper 대신 직접 매핑, 연관 엔티티는 id 만 사용)
+    public static ProductResponseDTO from(Product product) {
+        return ProductResponseDTO.builder()
+                .productId(product.getProductId())
+                .productName(product.getName())
+                .productPrice(product.getPrice() != null ? product.getPrice() : 0)
+                .stockQuantity(product.getStockQuantity() != null ? product.getStockQuantity() : 0)
+                .capacity(product.getCapacity())
+                .sizeInch(product.getSizeInch())
+                .description(product.getDescription())
+                .productStatus(product.getProductStatus())
+                .modelName(product.getModelName())
+                .brandId(product.getBrand() != null ? product.getBrand().getBrandId() : 0)
+                .categoryId(product.getCategory() != null ? product.getCategory().getCategoryId() : 0)
+                .isInstallationRequired(product.getIsInstallationRequired())
+                .createdAt(product.getCreatedAt())
+                .updatedAt(product.getUpdatedAt())
+                .build();
+    }
+
+    // 평점 집계 반영 (집계 행이 없으면 리뷰 0개)
+    public ProductResponseDTO withRating(ProductRatingSummary summary) {
+        this.averageRating = summary != null ? summary.getAverageRating() : 0.0;
+        this.reviewCount = summary != null ? summary.getReviewCount() : 0;
+        this.ratingCounts = summary != null ? summary.getRatingCounts() : List.of(0, 0, 0, 0, 0);
+        return this;
+    }
 }
@@ -0,0 +1,28 @@
+package com.sesac.fmmall.DTO.Product;
+
+import com.sesac.fmmall.Constant.ProductSort;
+import com.sesac.fmmall.Constant.ProductStatus;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품 목록 조회 조건 (모든 필터는 선택, null 이면 조건 없음)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductSearchConditionDTO {
+    private Integer categoryId;
+    private Integer rowCategoryId;
+    private Integer brandId;
+    private List<Integer> brandIds;     // 여러 브랜드 중 하나 (brandId 와 함께 오면 합친다)
+    private ProductStatus productStatus;
+    private Integer minPrice;
+    private Integer maxPrice;
+
+    @Builder.Default
+    private ProductSort sort = ProductSort.LATEST;
+}
@@ -0,0 +1,17 @@
+package com.sesac.fmmall.DTO.Product;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStockShardResponseDTO {
+    private int productId;
+    private int shardCount;               // 0 이면 단일 행 재고 모드
+    private int totalStock;
+    private List<Integer> shardQuantities;
+}
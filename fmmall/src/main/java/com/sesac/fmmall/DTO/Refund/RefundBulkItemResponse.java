@@ -0,0 +1,15 @@
+package com.sesac.fmmall.DTO.Refund;
+
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefundBulkItemResponse {
+
+    private int refundId;
+    private String result;    // SUCCESS / NOT_FOUND / INVALID_STATE / ALREADY_PROCESSED
+    private String message;   // 실패 사유 (성공이면 null)
+}
@@ -0,0 +1,18 @@
+package com.sesac.fmmall.DTO.Refund;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefundBulkRequest {
+
+    private List<Integer> refundIds;
+
+    // APPROVED / REJECTED / COMPLETED
+    private String targetStatus;
+}
@@ -0,0 +1,22 @@
+package com.sesac.fmmall.DTO.Refund;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 환불 일괄 처리 결과
+ * - results 는 요청한 환불 ID 순서 (중복 ID 는 한 번만)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class RefundBulkResponse {
+
+    private String targetStatus;
+    private int successCount;
+    private int failCount;
+    private List<RefundBulkItemResponse> results;
+}
@@ -1,8 +1,10 @@
 package com.sesac.fmmall.DTO.Refund;
 
+import com.sesac.fmmall.Entity.Refund;
 import lombok.*;
 
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
 @Setter
@@ -18,9 +20,27 @@ public class RefundResponse {
     private Integer totalAmount;
     private String refundType;
     private String isTrue;
+    private String refundStatus;
 
     private int orderId;
     private int paymentId;
 
     private List<RefundItemResponse> items;
-}
\ No newline at end of file
+
+    public static RefundResponse from(Refund refund) {
+        return RefundResponse.builder()
+                .refundId(refund.getRefundId())
+                .reasonCode(refund.getReasonCode())
+                .reasonDetail(refund.getReasonDetail())
+                .totalAmount(refund.getTotalAmount())
+                .refundType(refund.getRefundType().name())
+                .isTrue(refund.getIsTrue().name())
+                .refundStatus(refund.getRefundStatus().name())
+                .orderId(refund.getOrder().getOrderId())
+                .paymentId(refund.getPayment().getPaymentId())
+                .items(refund.getRefundItems().stream()
+                        .map(RefundItemResponse::from)
+                        .collect(Collectors.toList()))
+                .build();
+    }
+}
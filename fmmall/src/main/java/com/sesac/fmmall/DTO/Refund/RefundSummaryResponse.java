@@ -1,5 +1,9 @@
 package com.sesac.fmmall.DTO.Refund;
 
+import com.sesac.fmmall.Constant.RefundStatus;
+import com.sesac.fmmall.Constant.RefundType;
+import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.Entity.Refund;
 import lombok.*;
 
 @Getter
@@ -13,4 +17,25 @@ public class RefundSummaryResponse {
     private String refundType;
     private Integer totalAmount;
     private String isTrue;
-}
\ No newline at end of file
+    private String refundStatus;
+
+    // 환불 목록 조회 쿼리(JPQL 생성자 표현식)용
+    public RefundSummaryResponse(int refundId, RefundType refundType, Integer totalAmount, YesNo isTrue,
+                                 RefundStatus refundStatus) {
+        this.refundId = refundId;
+        this.refundType = refundType.name();
+        this.totalAmount = totalAmount;
+        this.isTrue = isTrue.name();
+        this.refundStatus = refundStatus.name();
+    }
+
+    public static RefundSummaryResponse from(Refund refund) {
+        return RefundSummaryResponse.builder()
+                .refundId(refund.getRefundId())
+                .refundType(refund.getRefundType().name())
+                .totalAmount(refund.getTotalAmount())
+                .isTrue(refund.getIsTrue().name())
+                .refundStatus(refund.getRefundStatus().name())
+                .build();
+    }
+}
@@ -0,0 +1,25 @@
+package com.sesac.fmmall.DTO.Review;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 상품별 리뷰 피드 (커서 기반 페이지)
+ * - 다음 페이지는 nextCursor* 값을 그대로 넘겨서 조회한다. (평점순일 때만 nextCursorRating 사용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewFeedPageResponseDTO {
+
+    private List<ReviewFeedResponseDTO> reviews;
+
+    private boolean hasNext;                  // 다음 페이지 존재 여부
+    private LocalDateTime nextCursorUpdatedAt; // 마지막 리뷰의 수정 일시 (다음 페이지 없으면 null)
+    private Double nextCursorRating;           // 마지막 리뷰의 평점 (다음 페이지 없으면 null)
+    private Integer nextCursorReviewId;        // 마지막 리뷰의 리뷰 번호 (다음 페이지 없으면 null)
+}
@@ -0,0 +1,24 @@
+package com.sesac.fmmall.DTO.Review;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * 상품별 리뷰 피드의 리뷰 한 건 (JPQL 생성자 조회용)
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ReviewFeedResponseDTO {
+    private int reviewId;
+    private Double reviewRating;
+    private String reviewContent;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy.MM.dd HH:mm:ss")
+    private LocalDateTime updatedAt;
+
+    private String userName;
+}
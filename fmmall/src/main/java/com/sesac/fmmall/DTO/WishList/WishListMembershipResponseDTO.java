@@ -0,0 +1,17 @@
+package com.sesac.fmmall.DTO.WishList;
+
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@ToString
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WishListMembershipResponseDTO {
+
+    // 요청한 상품 중 위시리스트에 있는 상품 ID (요청 순서)
+    private List<Integer> wishListedProductIds;
+}
@@ -29,7 +29,8 @@ public class Cart {
         this.user = user;
     }
 
-    public void addCartItem(CartItem newCartItem) {
+    // 같은 상품이 이미 있으면 수량을 합치고, 반영된 장바구니 상품을 돌려준다.
+    public CartItem addCartItem(CartItem newCartItem) {
         if (newCartItem == null || newCartItem.getProduct() == null) {
             throw new IllegalArgumentException("장바구니에 추가할 상품 정보가 올바르지 않습니다.");
         }
@@ -48,12 +49,14 @@ public class Cart {
                 throw new IllegalArgumentException("상품의 재고가 부족합니다.");
             }
             existingItem.updateQuantity(totalQuantity, this.user.getUserId());
+            return existingItem;
         } else {
             if (newCartItem.getCartItemQuantity() > stock) {
                 throw new IllegalArgumentException("상품의 재고가 부족합니다.");
             }
             cartItems.add(newCartItem);
             newCartItem.associateWithCart(this);
+            return newCartItem;
         }
     }
 
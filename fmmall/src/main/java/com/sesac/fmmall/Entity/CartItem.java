@@ -83,4 +83,22 @@ public class CartItem {
     public void associateWithCart(Cart cart) {
         this.cart = cart;
     }
+
+    /**
+     * 장바구니 write-behind 반영용 (CartWriteBehindService)
+     * - 수량/재고/권한 검증은 메모리 상태를 바꿀 때 이미 끝났으므로 그대로 옮겨 적기만 한다.
+     */
+    public static CartItem restore(Cart cart, Product product, int quantity, String checkStatus) {
+        CartItem cartItem = new CartItem();
+        cartItem.cart = cart;
+        cartItem.product = product;
+        cartItem.cartItemQuantity = quantity;
+        cartItem.checkStatus = checkStatus;
+        return cartItem;
+    }
+
+    public void overwrite(int quantity, String checkStatus) {
+        this.cartItemQuantity = quantity;
+        this.checkStatus = checkStatus;
+    }
 }
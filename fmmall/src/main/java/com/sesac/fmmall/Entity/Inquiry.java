@@ -12,7 +12,11 @@ import java.util.List;
 
 
 @Entity
-@Table(name = "inquiry")
+@Table(
+        name = "inquiry",
+        // 상품별 문의 최신순 페이지 조회용 (product_id, updated_at)
+        indexes = @Index(name = "idx_inquiry_product_updated", columnList = "product_id, updated_at")
+)
 @Getter
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
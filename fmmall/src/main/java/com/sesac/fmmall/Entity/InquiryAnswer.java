@@ -9,7 +9,11 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "inquiry_answer")
+@Table(
+        name = "inquiry_answer",
+        // 문의별 답변 일괄 조회용 (inquiry_id, updated_at)
+        indexes = @Index(name = "idx_inquiry_answer_inquiry_updated", columnList = "inquiry_id, updated_at")
+)
 @Getter
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
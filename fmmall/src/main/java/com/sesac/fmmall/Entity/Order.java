@@ -8,7 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "orders")
+@Table(
+        name = "orders",
+        // 주문 내역 커서 페이지 조회용 (user_id, created_at, order_id)
+        indexes = @Index(name = "idx_orders_user_created", columnList = "user_id, created_at, order_id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,7 +8,11 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "order_item")
+@Table(
+        name = "order_item",
+        // 사용자 + 상품 기준 주문/환불 이력 조회용 (주문 → 상품)
+        indexes = @Index(name = "idx_order_item_order_product", columnList = "order_id, product_id")
+)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -8,7 +8,17 @@ import java.math.BigDecimal;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "product")
+@Table(
+        name = "product",
+        // 상품 목록 필터 + 가격 정렬/범위 조회용
+        indexes = {
+                @Index(name = "idx_product_category_price", columnList = "category_id, product_price"),
+                @Index(name = "idx_product_row_category_price", columnList = "row_category_id, product_price"),
+                @Index(name = "idx_product_brand_price", columnList = "brand_id, product_price"),
+                @Index(name = "idx_product_status_price", columnList = "product_status, product_price"),
+                @Index(name = "idx_product_created", columnList = "created_at, product_id")
+        }
+)
 @Getter
 @Setter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -26,9 +36,18 @@ public class Product {
     @Column(name = "product_price", nullable = false)
     private Integer price;
 
-    @Column(name = "stock_quantity", nullable = false)
+    // 재고는 등록 시(빌더)와 ProductRepository 의 UPDATE 쿼리로만 변경한다.
+    // 읽어둔 값을 고쳐서 더티체킹으로 덮어쓰는 코드가 생기지 않도록 setter 를 두지 않는다.
+    // (UPDATE 쿼리 뒤에는 영속성 컨텍스트의 값이 예전 값이므로, 최신 재고는 findStockQuantity 로 읽는다)
+    @Setter(AccessLevel.NONE)
+    @Column(name = "stock_quantity", nullable = false, updatable = false)
     private Integer stockQuantity;
 
+    // 재고 샤드 개수 (null 이면 단일 행 재고, 2 이상이면 ProductStockShard 로 나눠서 관리)
+    // 샤딩 모드에서는 stockQuantity 가 리밸런싱 때 갱신되는 표시용 합계가 된다.
+    @Column(name = "stock_shard_count")
+    private Integer stockShardCount;
+
     @Column(name = "capacity", length = 50)
     private String capacity;
 
@@ -66,6 +85,10 @@ public class Product {
     @JoinColumn(name = "row_category_id")
     private RowCategory rowCategory;
 
+    public boolean isStockSharded() {
+        return stockShardCount != null && stockShardCount > 1;
+    }
+
     public void modify(
             Category newCategory,
             RowCategory newRowCategory,
@@ -0,0 +1,60 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.util.List;
+
+/**
+ * 상품별 리뷰 평점 집계 (리뷰 수, 평점 합계, 1~5점 분포)
+ * - 리뷰 등록/수정/삭제 때마다 증감분만 반영한다. (ReviewService → ProductRatingService)
+ * - 상품 조회는 이 한 행만 읽으면 되므로 리뷰가 아무리 많아도 비용이 같다.
+ * - 증감분 반영은 MySQL upsert 로 처리하므로 product_id 를 연관관계 없이 기본키로만 둔다.
+ * - 어긋난 값은 주기적 재계산으로 바로잡는다.
+ */
+@Entity
+@Table(name = "product_rating_summary")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class ProductRatingSummary {
+
+    @Id
+    @Column(name = "product_id")
+    private int productId;
+
+    @Column(name = "review_count", nullable = false)
+    private int reviewCount;
+
+    @Column(name = "rating_sum", nullable = false)
+    private double ratingSum;
+
+    @Column(name = "rating1_count", nullable = false)
+    private int rating1Count;
+
+    @Column(name = "rating2_count", nullable = false)
+    private int rating2Count;
+
+    @Column(name = "rating3_count", nullable = false)
+    private int rating3Count;
+
+    @Column(name = "rating4_count", nullable = false)
+    private int rating4Count;
+
+    @Column(name = "rating5_count", nullable = false)
+    private int rating5Count;
+
+    // 평균 평점 (소수 첫째 자리까지, 리뷰가 없으면 0)
+    public double getAverageRating() {
+        if (reviewCount <= 0) {
+            return 0.0;
+        }
+        return Math.round(ratingSum / reviewCount * 10) / 10.0;
+    }
+
+    // 1점 ~ 5점 리뷰 수
+    public List<Integer> getRatingCounts() {
+        return List.of(rating1Count, rating2Count, rating3Count, rating4Count, rating5Count);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sesac.fmmall.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 상품 재고 샤드
+ * - 샤딩 모드인 상품은 재고를 N개의 하위 카운터로 나눠서 관리한다.
+ * - 주문은 샤드 하나만 잠그므로 인기 상품 한 행에 경합이 몰리지 않는다.
+ * - product.stock_quantity 는 리밸런싱 때 갱신되는 표시용 합계가 된다.
+ */
+@Entity
+@Table(
+        name = "product_stock_shard",
+        uniqueConstraints = @UniqueConstraint(columnNames = {"product_id", "shard_no"})
+)
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ProductStockShard {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "product_stock_shard_id")
+    private int productStockShardId;
+
+    @Column(name = "shard_no", nullable = false)
+    private Integer shardNo;
+
+    @Column(name = "quantity", nullable = false)
+    private Integer quantity;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id", nullable = false)
+    private Product product;
+}
@@ -1,6 +1,7 @@
 package com.sesac.fmmall.Entity;
 
 
+import com.sesac.fmmall.Constant.RefundStatus;
 import com.sesac.fmmall.Constant.RefundType;
 import com.sesac.fmmall.Constant.YesNo;
 import jakarta.persistence.*;
@@ -40,6 +41,16 @@ public class Refund {
     @Column(name = "is_true", length = 1, nullable = false)
     private YesNo isTrue;
 
+    // 환불 단위 상태 (승인/거절/완료는 이 컬럼 기준 조건부 UPDATE 로 전이)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "refund_status", length = 20, nullable = false)
+    @Builder.Default
+    private RefundStatus refundStatus = RefundStatus.REQUESTED;
+
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "order_id", nullable = false)
     private Order order;
@@ -28,6 +28,10 @@ public class RefundItem {
     @Column(name = "refund_status", length = 20, nullable = false)
     private RefundStatus refundStatus;
 
+    @Version
+    @Column(name = "version")
+    private Long version;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "refund_id", nullable = false)
     private Refund refund;
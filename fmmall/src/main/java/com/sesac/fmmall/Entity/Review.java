@@ -9,7 +9,14 @@ import java.time.LocalDateTime;
 
 
 @Entity
-@Table(name = "review")
+@Table(
+        name = "review",
+        // 상품별 리뷰 피드 커서 페이지 조회용 (최신순 / 평점순)
+        indexes = {
+                @Index(name = "idx_review_product_updated", columnList = "product_id, updated_at, review_id"),
+                @Index(name = "idx_review_product_rating", columnList = "product_id, review_rating, updated_at, review_id")
+        }
+)
 @Getter
 
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
@@ -38,6 +45,11 @@ public class Review {
     @JoinColumn(name = "order_item_id", unique = true)
     private OrderItem orderItem;
 
+    // 주문상품의 상품을 그대로 복사해 둔 값 (상품별 피드가 order_item 을 거치지 않고 인덱스만 타도록)
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "product_id")
+    private Product product;
+
     public void modify(String content, Double rating){
         this.reviewContent = content;
         this.reviewRating = rating;
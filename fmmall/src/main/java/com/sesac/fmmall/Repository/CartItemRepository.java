@@ -1,7 +1,46 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
 import com.sesac.fmmall.Entity.CartItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface CartItemRepository extends JpaRepository<CartItem,Integer> {
+
+    // 장바구니 조회용: 상품과 조인해서 응답에 필요한 컬럼만 한 번에 조회 (담은 순서대로)
+    @Query("SELECT new com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO(" +
+            "ci.cartItemId, p.productId, p.name, p.price, ci.cartItemQuantity, ci.checkStatus, ci.addDate) " +
+            "FROM CartItem ci JOIN ci.product p " +
+            "WHERE ci.cart.cartId = :cartId " +
+            "ORDER BY ci.cartItemId")
+    List<CartItemResponseDTO> findResponsesByCartId(@Param("cartId") int cartId);
+
+    List<CartItem> findByCart_CartId(int cartId);
+
+    // 장바구니 합계: [항목 수, 총 가격]
+    @Query("SELECT COUNT(ci), COALESCE(SUM(ci.cartItemQuantity * p.price), 0) " +
+            "FROM CartItem ci JOIN ci.product p " +
+            "WHERE ci.cart.cartId = :cartId")
+    List<Object[]> sumTotalsByCartId(@Param("cartId") int cartId);
+
+    // 장바구니 주문용: 주문 선택(checkStatus = 'Y')된 항목만 상품과 함께 조회
+    @Query("SELECT ci FROM CartItem ci JOIN FETCH ci.product " +
+            "WHERE ci.cart.cartId = :cartId AND ci.checkStatus = 'Y' " +
+            "ORDER BY ci.cartItemId")
+    List<CartItem> findCheckedWithProductByCartId(@Param("cartId") int cartId);
+
+    // 주문된 장바구니 항목 일괄 삭제 (DELETE 한 번)
+    @Modifying(flushAutomatically = true)
+    @Query("DELETE FROM CartItem ci WHERE ci.cartItemId IN :cartItemIds")
+    int deleteByCartItemIdIn(@Param("cartItemIds") Collection<Integer> cartItemIds);
+
+    // 장바구니 전체 선택/해제 (UPDATE 한 번)
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE CartItem ci SET ci.checkStatus = :checkStatus WHERE ci.cart.cartId = :cartId")
+    int updateCheckStatusByCartId(@Param("cartId") int cartId, @Param("checkStatus") String checkStatus);
 }
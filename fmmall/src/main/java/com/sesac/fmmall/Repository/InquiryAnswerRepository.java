@@ -7,6 +7,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
 
 public interface InquiryAnswerRepository extends JpaRepository<InquiryAnswer, Integer> {
 //    /* 전달 받은 정렬 기준으로 조회 (페이징) */
@@ -15,6 +19,11 @@ public interface InquiryAnswerRepository extends JpaRepository<InquiryAnswer, In
     Page<InquiryAnswer> findAllByUser_UserId(int userUserId, Pageable pageable);
     Page<InquiryAnswer> findAllByInquiry_InquiryId(int inquiryId, Pageable pageable);
 
+    // 상품 Q&A 탭: 한 페이지 문의들의 답변을 IN 쿼리 한 번으로 (문의별 최신순)
+    @Query("SELECT a FROM InquiryAnswer a WHERE a.inquiry.inquiryId IN :inquiryIds " +
+            "ORDER BY a.updatedAt DESC, a.inquiryAnswerId DESC")
+    List<InquiryAnswer> findAllByInquiryIdIn(@Param("inquiryIds") Collection<Integer> inquiryIds);
+
     @Modifying
     @Transactional
     @Query(value = "ALTER TABLE inquiry_answer AUTO_INCREMENT = 1", nativeQuery = true)
@@ -4,8 +4,11 @@ import com.sesac.fmmall.Entity.Order;
 import com.sesac.fmmall.Entity.OrderItem;
 import com.sesac.fmmall.Entity.Product;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -22,4 +25,39 @@ public interface OrderItemRepository extends JpaRepository<OrderItem, Integer> {
 
 
     List<OrderItem> findByProduct_ProductId(Integer productId);
-}
\ No newline at end of file
+
+
+    // 주문 목록(요약)용: 사용자의 주문별 · 상품명별 수량 합계
+    // 결과: [orderId, productName, quantity합] / 주문 안에서는 처음 담긴 주문상품 순서
+    @Query("SELECT oi.order.orderId, p.name, SUM(oi.quantity) " +
+            "FROM OrderItem oi JOIN oi.product p " +
+            "WHERE oi.order.user.userId = :userId " +
+            "GROUP BY oi.order.orderId, p.name " +
+            "ORDER BY oi.order.orderId, MIN(oi.orderItemId)")
+    List<Object[]> sumQuantityByOrderAndProductName(@Param("userId") Integer userId);
+
+    // 주문 내역 페이지용: 지정한 주문들의 주문별 · 상품명별 수량 합계
+    @Query("SELECT oi.order.orderId, p.name, SUM(oi.quantity) " +
+            "FROM OrderItem oi JOIN oi.product p " +
+            "WHERE oi.order.orderId IN :orderIds " +
+            "GROUP BY oi.order.orderId, p.name " +
+            "ORDER BY oi.order.orderId, MIN(oi.orderItemId)")
+    List<Object[]> sumQuantityByOrderAndProductNameIn(@Param("orderIds") Collection<Integer> orderIds);
+
+    // 환불 요청 검증용: 주문의 모든 주문상품을 상품과 함께 한 번에 조회
+    @Query("SELECT oi FROM OrderItem oi JOIN FETCH oi.product " +
+            "WHERE oi.order.orderId = :orderId")
+    List<OrderItem> findByOrderIdWithProduct(@Param("orderId") Integer orderId);
+
+    // 자동완성 가중치용: 상품별 판매 수량 합계 [productId, quantity합]
+    @Query("SELECT oi.product.productId, SUM(oi.quantity) FROM OrderItem oi GROUP BY oi.product.productId")
+    List<Object[]> sumQuantityGroupByProduct();
+
+    // 자동완성 가중치용: 브랜드별 판매 수량 합계 [brandId, quantity합]
+    @Query("SELECT p.brand.brandId, SUM(oi.quantity) FROM OrderItem oi JOIN oi.product p GROUP BY p.brand.brandId")
+    List<Object[]> sumQuantityGroupByBrand();
+
+    // 자동완성 단건 갱신용: 상품 하나의 판매 수량 합계
+    @Query("SELECT COALESCE(SUM(oi.quantity), 0) FROM OrderItem oi WHERE oi.product.productId = :productId")
+    long sumQuantityByProductId(@Param("productId") int productId);
+}
@@ -1,10 +1,15 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
 import com.sesac.fmmall.Entity.Order;
 import com.sesac.fmmall.Entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -17,5 +22,39 @@ public interface OrderRepository extends JpaRepository<Order, Integer> {
     List<Order> findByUser_UserId(Integer userId);
 
 
+    // 주문 목록(요약)용: 엔티티를 읽지 않고 주문 헤더 컬럼만 조회 (결제/주문상품 지연 로딩 없음)
+    @Query("SELECT new com.sesac.fmmall.DTO.Order.OrderSummaryResponse(o.orderId, o.totalPrice, o.createdAt) " +
+            "FROM Order o WHERE o.user.userId = :userId ORDER BY o.orderId")
+    List<OrderSummaryResponse> findSummariesByUserId(@Param("userId") Integer userId);
+
+    // 주문 내역 첫 페이지 (최신순, 개수는 Pageable 로 제한)
+    @Query("SELECT new com.sesac.fmmall.DTO.Order.OrderSummaryResponse(o.orderId, o.totalPrice, o.createdAt) " +
+            "FROM Order o WHERE o.user.userId = :userId " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderSummaryResponse> findHistoryFirstPage(@Param("userId") Integer userId, Pageable pageable);
+
+    // 주문 내역 다음 페이지: 커서(createdAt, orderId) 보다 오래된 주문부터 (OFFSET 없이 인덱스 탐색)
+    @Query("SELECT new com.sesac.fmmall.DTO.Order.OrderSummaryResponse(o.orderId, o.totalPrice, o.createdAt) " +
+            "FROM Order o WHERE o.user.userId = :userId " +
+            "AND (o.createdAt < :cursorCreatedAt " +
+            "     OR (o.createdAt = :cursorCreatedAt AND o.orderId < :cursorOrderId)) " +
+            "ORDER BY o.createdAt DESC, o.orderId DESC")
+    List<OrderSummaryResponse> findHistoryAfterCursor(@Param("userId") Integer userId,
+                                                      @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                                      @Param("cursorOrderId") Integer cursorOrderId,
+                                                      Pageable pageable);
+
+
     //Order findByIdAndUser_UserId(Integer orderId, Integer userId);
+
+    // 사용자가 특정 상품을 주문한 주문 목록
+    // 사용자 주문(idx_orders_user_created) → 주문상품(idx_order_item_order_product) 순으로 탐색해서
+    // 상품의 전체 판매량과 무관하게 해당 사용자의 주문만 읽는다.
+    @Query("SELECT o FROM Order o " +
+            "WHERE o.user.userId = :userId " +
+            "AND EXISTS (SELECT 1 FROM OrderItem oi " +
+            "            WHERE oi.order = o AND oi.product.productId = :productId) " +
+            "ORDER BY o.orderId")
+    List<Order> findByUserIdAndProductId(@Param("userId") Integer userId,
+                                         @Param("productId") Integer productId);
 }
@@ -0,0 +1,63 @@
+package com.sesac.fmmall.Repository;
+
+import com.sesac.fmmall.Entity.ProductRatingSummary;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface ProductRatingSummaryRepository extends JpaRepository<ProductRatingSummary, Integer> {
+
+    // 리뷰 하나 추가(countDelta = 1) / 제거(countDelta = -1) 반영. 행이 없으면 만든다. (upsert 한 번)
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_summary " +
+            "(product_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+            "VALUES (:productId, :countDelta, :sumDelta, " +
+            "CASE WHEN :bucket = 1 THEN :countDelta ELSE 0 END, " +
+            "CASE WHEN :bucket = 2 THEN :countDelta ELSE 0 END, " +
+            "CASE WHEN :bucket = 3 THEN :countDelta ELSE 0 END, " +
+            "CASE WHEN :bucket = 4 THEN :countDelta ELSE 0 END, " +
+            "CASE WHEN :bucket = 5 THEN :countDelta ELSE 0 END) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "review_count = review_count + VALUES(review_count), " +
+            "rating_sum = rating_sum + VALUES(rating_sum), " +
+            "rating1_count = rating1_count + VALUES(rating1_count), " +
+            "rating2_count = rating2_count + VALUES(rating2_count), " +
+            "rating3_count = rating3_count + VALUES(rating3_count), " +
+            "rating4_count = rating4_count + VALUES(rating4_count), " +
+            "rating5_count = rating5_count + VALUES(rating5_count)",
+            nativeQuery = true)
+    int applyDelta(@Param("productId") int productId, @Param("countDelta") int countDelta,
+                   @Param("sumDelta") double sumDelta, @Param("bucket") int bucket);
+
+    // 재계산 결과로 덮어쓰기 (upsert 한 번)
+    @Modifying
+    @Query(value = "INSERT INTO product_rating_summary " +
+            "(product_id, review_count, rating_sum, rating1_count, rating2_count, rating3_count, rating4_count, rating5_count) " +
+            "VALUES (:productId, :reviewCount, :ratingSum, :c1, :c2, :c3, :c4, :c5) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "review_count = VALUES(review_count), " +
+            "rating_sum = VALUES(rating_sum), " +
+            "rating1_count = VALUES(rating1_count), " +
+            "rating2_count = VALUES(rating2_count), " +
+            "rating3_count = VALUES(rating3_count), " +
+            "rating4_count = VALUES(rating4_count), " +
+            "rating5_count = VALUES(rating5_count)",
+            nativeQuery = true)
+    int overwrite(@Param("productId") int productId, @Param("reviewCount") int reviewCount,
+                  @Param("ratingSum") double ratingSum,
+                  @Param("c1") int c1, @Param("c2") int c2, @Param("c3") int c3, @Param("c4") int c4, @Param("c5") int c5);
+
+    // 재계산 중 증감분 반영과 겹치지 않도록 집계 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductRatingSummary s WHERE s.productId = :productId")
+    Optional<ProductRatingSummary> findForUpdate(@Param("productId") int productId);
+
+    @Query("SELECT s.productId FROM ProductRatingSummary s")
+    List<Integer> findAllProductIds();
+}
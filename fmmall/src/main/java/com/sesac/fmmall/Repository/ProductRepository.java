@@ -1,18 +1,88 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.Entity.Brand;
 import com.sesac.fmmall.Entity.Category;
 import com.sesac.fmmall.Entity.Product;
 import com.sesac.fmmall.Entity.RowCategory;
+import com.sesac.fmmall.Search.ProductSearchDocument;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
-public interface ProductRepository extends JpaRepository<Product,Integer> {
+public interface ProductRepository extends JpaRepository<Product,Integer>, ProductRepositoryCustom {
     List<Product> findByCategory(Category category);
     List<Product> findByRowCategory(RowCategory rowCategory);
     List<Product> findByBrand(Brand brand);
 
+    // 상품 목록 (페이지 + 선택 필터). 정렬은 Pageable 로 지정
+    @Query("SELECT p FROM Product p " +
+            "WHERE (:categoryId IS NULL OR p.category.categoryId = :categoryId) " +
+            "AND (:rowCategoryId IS NULL OR p.rowCategory.rowCategoryId = :rowCategoryId) " +
+            "AND (:allBrands = true OR p.brand.brandId IN :brandIds) " +
+            "AND (:status IS NULL OR p.productStatus = :status) " +
+            "AND (:minPrice IS NULL OR p.price >= :minPrice) " +
+            "AND (:maxPrice IS NULL OR p.price <= :maxPrice)")
+    Page<Product> search(@Param("categoryId") Integer categoryId,
+                         @Param("rowCategoryId") Integer rowCategoryId,
+                         @Param("allBrands") boolean allBrands,
+                         @Param("brandIds") Collection<Integer> brandIds,
+                         @Param("status") ProductStatus status,
+                         @Param("minPrice") Integer minPrice,
+                         @Param("maxPrice") Integer maxPrice,
+                         Pageable pageable);
+
+    // 관리자 내보내기용 (상품 번호순, 개수는 Pageable 로 제한)
+    List<Product> findAllByOrderByProductIdAsc(Pageable pageable);
+
+    // 재고 복구 (주문 취소 등). 재고 차감은 ProductRepositoryCustom#decreaseStockIfEnough 사용
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = p.stockQuantity + :qty WHERE p.productId = :productId")
+    int increaseStock(@Param("productId") int productId, @Param("qty") int qty);
+
+    // 재고 샤딩 전환 / 리밸런싱 시 표시용 재고 합계 갱신
+    @Modifying
+    @Query("UPDATE Product p SET p.stockQuantity = :qty WHERE p.productId = :productId")
+    int overwriteStock(@Param("productId") int productId, @Param("qty") int qty);
+
+    // 리밸런싱 시 샤드 합계와 비교용 (엔티티를 올리지 않고 재고 값만)
+    @Query("SELECT p.stockQuantity FROM Product p WHERE p.productId = :productId")
+    Integer findStockQuantity(@Param("productId") int productId);
+
+    // 재고 샤딩 전환 중 단일 행 차감이 끼어들지 않도록 상품 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM Product p WHERE p.productId = :productId")
+    Optional<Product> findByIdForUpdate(@Param("productId") int productId);
+
+    // 검색 색인 적재용: 상품 번호순으로 afterProductId 다음부터 (개수는 Pageable 로 제한)
+    @Query("SELECT new com.sesac.fmmall.Search.ProductSearchDocument(" +
+            "p.productId, p.name, p.modelName, p.description, b.name, c.name, rc.name) " +
+            "FROM Product p LEFT JOIN p.brand b LEFT JOIN p.category c LEFT JOIN p.rowCategory rc " +
+            "WHERE p.productId > :afterProductId ORDER BY p.productId")
+    List<ProductSearchDocument> findSearchDocuments(@Param("afterProductId") int afterProductId, Pageable pageable);
+
+    // 검색 색인 단건 갱신용
+    @Query("SELECT new com.sesac.fmmall.Search.ProductSearchDocument(" +
+            "p.productId, p.name, p.modelName, p.description, b.name, c.name, rc.name) " +
+            "FROM Product p LEFT JOIN p.brand b LEFT JOIN p.category c LEFT JOIN p.rowCategory rc " +
+            "WHERE p.productId = :productId")
+    Optional<ProductSearchDocument> findSearchDocument(@Param("productId") int productId);
+
+    @Query("SELECT p.productId FROM Product p WHERE p.stockShardCount > 1")
+    List<Integer> findStockShardedProductIds();
+
+    // 주어진 ID 중 아직 남아 있는 상품 ID (장바구니 반영 시 삭제된 상품 걸러내기용)
+    @Query("SELECT p.productId FROM Product p WHERE p.productId IN :productIds")
+    List<Integer> findExistingIds(@Param("productIds") Collection<Integer> productIds);
 }
@@ -0,0 +1,16 @@
+package com.sesac.fmmall.Repository;
+
+import java.util.Map;
+
+public interface ProductRepositoryCustom {
+
+    /**
+     * 여러 상품의 재고를 UPDATE 한 번으로 조건부 차감한다.
+     * - 재고가 요청 수량 이상인 상품만 차감된다.
+     * - 반환값(변경된 행 수)이 요청 상품 수보다 작으면 재고가 부족한 상품이 있다는 뜻이다.
+     *
+     * @param qtyByProductId 상품 id → 차감 수량
+     * @return 실제로 차감된 상품 수
+     */
+    int decreaseStockIfEnough(Map<Integer, Integer> qtyByProductId);
+}
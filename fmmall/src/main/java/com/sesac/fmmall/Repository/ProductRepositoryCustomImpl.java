@@ -0,0 +1,53 @@
+package com.sesac.fmmall.Repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Query;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+public class ProductRepositoryCustomImpl implements ProductRepositoryCustom {
+
+    @PersistenceContext
+    private EntityManager em;
+
+    /**
+     * UPDATE product
+     *    SET stock_quantity = stock_quantity - CASE product_id WHEN :id0 THEN :qty0 ... END
+     *  WHERE product_id IN (:id0, ...)
+     *    AND stock_quantity >= CASE product_id WHEN :id0 THEN :qty0 ... END
+     *    AND stock_shard_count IS NULL
+     * - 재고 샤딩 모드로 전환된 상품은 차감되지 않는다 (ProductStockService 에서 샤드로 차감).
+     */
+    @Override
+    public int decreaseStockIfEnough(Map<Integer, Integer> qtyByProductId) {
+        if (qtyByProductId.isEmpty()) {
+            return 0;
+        }
+
+        StringBuilder caseExpr = new StringBuilder("CASE product_id");
+        List<String> idParams = new ArrayList<>();
+        for (int i = 0; i < qtyByProductId.size(); i++) {
+            caseExpr.append(" WHEN :id").append(i).append(" THEN :qty").append(i);
+            idParams.add(":id" + i);
+        }
+        caseExpr.append(" END");
+
+        String sql = "UPDATE product"
+                + " SET stock_quantity = stock_quantity - " + caseExpr
+                + " WHERE product_id IN (" + String.join(", ", idParams) + ")"
+                + " AND stock_quantity >= " + caseExpr
+                + " AND stock_shard_count IS NULL";
+
+        Query query = em.createNativeQuery(sql);
+        int i = 0;
+        for (Map.Entry<Integer, Integer> entry : qtyByProductId.entrySet()) {
+            query.setParameter("id" + i, entry.getKey());
+            query.setParameter("qty" + i, entry.getValue());
+            i++;
+        }
+        return query.executeUpdate();
+    }
+}
@@ -0,0 +1,41 @@
+package com.sesac.fmmall.Repository;
+
+import com.sesac.fmmall.Entity.ProductStockShard;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface ProductStockShardRepository extends JpaRepository<ProductStockShard, Integer> {
+
+    List<ProductStockShard> findByProduct_ProductIdOrderByShardNo(int productId);
+
+    // 리밸런싱 / 샤드 합산 차감용 (상품의 모든 샤드 행 잠금)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM ProductStockShard s WHERE s.product.productId = :productId ORDER BY s.shardNo")
+    List<ProductStockShard> findAllForUpdate(@Param("productId") int productId);
+
+    // 샤드 하나에서 조건부 차감 (재고 >= 요청 수량일 때만)
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity - :qty " +
+            "WHERE s.product.productId = :productId AND s.shardNo = :shardNo AND s.quantity >= :qty")
+    int decreaseIfEnough(@Param("productId") int productId, @Param("shardNo") int shardNo, @Param("qty") int qty);
+
+    @Modifying
+    @Query("UPDATE ProductStockShard s SET s.quantity = s.quantity + :qty " +
+            "WHERE s.product.productId = :productId AND s.shardNo = :shardNo")
+    int increase(@Param("productId") int productId, @Param("shardNo") int shardNo, @Param("qty") int qty);
+
+    @Query("SELECT COALESCE(SUM(s.quantity), 0) FROM ProductStockShard s WHERE s.product.productId = :productId")
+    int sumQuantity(@Param("productId") int productId);
+
+    @Modifying
+    @Query("DELETE FROM ProductStockShard s WHERE s.product.productId = :productId")
+    int deleteByProductId(@Param("productId") int productId);
+}
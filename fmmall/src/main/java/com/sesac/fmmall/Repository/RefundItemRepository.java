@@ -1,11 +1,17 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.Constant.RefundStatus;
 import com.sesac.fmmall.Entity.OrderItem;
 import com.sesac.fmmall.Entity.Refund;
 import com.sesac.fmmall.Entity.RefundItem;
+import jakarta.transaction.Transactional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -18,4 +24,30 @@ public interface RefundItemRepository extends JpaRepository<RefundItem, Integer>
 
     List<RefundItem> findByOrderItem(OrderItem orderItem);
    // List<RefundItem> findByOrderItem_Id(Integer orderItemId);
-}
\ No newline at end of file
+
+
+    // 환불 요청 검증용: 주문의 주문상품별 기존 환불 수량 합계
+    // 결과: [orderItemId, refundQuantity합] / 환불 이력이 없는 주문상품은 결과에 없음
+    @Query("SELECT ri.orderItem.orderItemId, SUM(ri.refundQuantity) " +
+            "FROM RefundItem ri " +
+            "WHERE ri.orderItem.order.orderId = :orderId " +
+            "GROUP BY ri.orderItem.orderItemId")
+    List<Object[]> sumRefundedQuantityByOrderItem(@Param("orderId") Integer orderId);
+
+    // 환불 상태 전이 후 아이템 상태를 한 번에 맞춘다 (fromStatuses 상태인 아이템만)
+    // 환불 단위 UPDATE 에서 이긴 (이미 toStatus 가 된) 환불의 아이템만 바꾼다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE RefundItem ri SET ri.refundStatus = :toStatus, ri.version = ri.version + 1 " +
+            "WHERE ri.refund.refundId IN (SELECT r.refundId FROM Refund r " +
+            "                            WHERE r.refundId IN :refundIds AND r.refundStatus = :toStatus) " +
+            "AND ri.refundStatus IN :fromStatuses")
+    int updateStatusByRefundIdIn(@Param("refundIds") Collection<Integer> refundIds,
+                                 @Param("fromStatuses") Collection<RefundStatus> fromStatuses,
+                                 @Param("toStatus") RefundStatus toStatus);
+
+    // refund_item.version 도입 전 행은 NULL 이라 version + 1 이 계속 NULL 이 된다 → 0 으로 채운다
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE refund_item SET version = 0 WHERE version IS NULL", nativeQuery = true)
+    int backfillVersions();
+}
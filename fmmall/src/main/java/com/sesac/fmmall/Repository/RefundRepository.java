@@ -1,11 +1,23 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.Constant.RefundStatus;
+import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
 import com.sesac.fmmall.Entity.Order;
 import com.sesac.fmmall.Entity.Payment;
 import com.sesac.fmmall.Entity.Refund;
+import jakarta.persistence.LockModeType;
+import jakarta.transaction.Transactional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 
 @Repository
@@ -19,4 +31,56 @@ public interface RefundRepository extends JpaRepository<Refund, Integer> {
 
     List<Refund> findByPayment(Payment payment);
     //List<Refund> findByPayment_Id(Integer paymentId);
-}
\ No newline at end of file
+
+    // 내 환불 목록 (최신순 페이지). status 가 있으면 해당 상태의 환불만
+    // Slice 로 받아서 count 쿼리 없이 페이지당 쿼리 1번
+    @Query("SELECT new com.sesac.fmmall.DTO.Refund.RefundSummaryResponse(" +
+            "r.refundId, r.refundType, r.totalAmount, r.isTrue, r.refundStatus) " +
+            "FROM Refund r " +
+            "WHERE r.order.user.userId = :userId " +
+            "AND (:status IS NULL OR r.refundStatus = :status) " +
+            "ORDER BY r.refundId DESC")
+    Slice<RefundSummaryResponse> findSummariesByUserId(@Param("userId") Integer userId,
+                                                       @Param("status") RefundStatus status,
+                                                       Pageable pageable);
+
+    // 사용자가 특정 상품에 대해 신청한 환불 목록 (사용자 주문 기준으로 탐색)
+    @Query("SELECT r FROM Refund r " +
+            "WHERE r.order.user.userId = :userId " +
+            "AND EXISTS (SELECT 1 FROM RefundItem ri " +
+            "            WHERE ri.refund = r AND ri.orderItem.product.productId = :productId) " +
+            "ORDER BY r.refundId")
+    List<Refund> findByUserIdAndProductId(@Param("userId") Integer userId,
+                                          @Param("productId") Integer productId);
+
+    // 환불 상태 전이: 현재 상태가 fromStatuses 인 환불만 toStatus 로 변경 (조건부 UPDATE)
+    // 동시에 여러 관리자가 처리해도 먼저 바꾼 한 명만 반영되고, 나머지는 0건이 된다.
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE Refund r " +
+            "SET r.refundStatus = :toStatus, r.isTrue = :isTrue, r.version = r.version + 1 " +
+            "WHERE r.refundId IN :refundIds AND r.refundStatus IN :fromStatuses")
+    int transitionStatusByIdIn(@Param("refundIds") Collection<Integer> refundIds,
+                               @Param("fromStatuses") Collection<RefundStatus> fromStatuses,
+                               @Param("toStatus") RefundStatus toStatus,
+                               @Param("isTrue") YesNo isTrue);
+
+    // 일괄 처리 직전 현재 상태 확인 (행 잠금 → 이 트랜잭션이 끝날 때까지 다른 관리자가 못 바꾼다)
+    // 잠금 읽기라 영속성 컨텍스트/스냅샷이 아닌 최신 커밋 값을 읽는다.
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r.refundId, r.refundStatus FROM Refund r WHERE r.refundId IN :refundIds")
+    List<Object[]> findStatusesForUpdate(@Param("refundIds") Collection<Integer> refundIds);
+
+    // 환불 단위 상태/버전 도입 전 환불 (version IS NULL) 을 채운다
+    // - refund_status: 컬럼 추가 때 들어간 암묵값 대신 아이템 상태 기준 (가장 진행된 상태)
+    // - version: NULL 이면 version + 1 이 계속 NULL 이라 0 으로
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE refund r SET r.refund_status = CASE " +
+            "WHEN EXISTS (SELECT 1 FROM refund_item ri WHERE ri.refund_id = r.refund_id AND ri.refund_status = 'COMPLETED') THEN 'COMPLETED' " +
+            "WHEN EXISTS (SELECT 1 FROM refund_item ri WHERE ri.refund_id = r.refund_id AND ri.refund_status = 'REJECTED') THEN 'REJECTED' " +
+            "WHEN EXISTS (SELECT 1 FROM refund_item ri WHERE ri.refund_id = r.refund_id AND ri.refund_status = 'APPROVED') THEN 'APPROVED' " +
+            "ELSE 'REQUESTED' END, " +
+            "r.version = 0 " +
+            "WHERE r.version IS NULL", nativeQuery = true)
+    int backfillStatusAndVersion();
+}
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Repository;
 
+import com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO;
 import com.sesac.fmmall.Entity.Review;
 import jakarta.transaction.Transactional;
 import org.springframework.data.domain.Page;
@@ -7,7 +8,10 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 public interface ReviewRepository extends JpaRepository<Review, Integer> {
@@ -17,6 +21,69 @@ public interface ReviewRepository extends JpaRepository<Review, Integer> {
     Page<Review> findAllByUser_UserId(int userId, Pageable pageable);
     Optional<Review> findByOrderItem_OrderItemId(int orderItemId);
 
+    // 상품별 리뷰 피드 (최신순) 첫 페이지: idx_review_product_updated 를 역순으로 읽는다
+    @Query("SELECT new com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO(" +
+            "r.reviewId, r.reviewRating, r.reviewContent, r.updatedAt, u.userName) " +
+            "FROM Review r JOIN r.user u WHERE r.product.productId = :productId " +
+            "ORDER BY r.updatedAt DESC, r.reviewId DESC")
+    List<ReviewFeedResponseDTO> findFeedLatestFirstPage(@Param("productId") int productId, Pageable pageable);
+
+    // 상품별 리뷰 피드 (최신순) 다음 페이지: 커서(updatedAt, reviewId) 이후부터 (OFFSET 없이 인덱스 탐색)
+    @Query("SELECT new com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO(" +
+            "r.reviewId, r.reviewRating, r.reviewContent, r.updatedAt, u.userName) " +
+            "FROM Review r JOIN r.user u WHERE r.product.productId = :productId " +
+            "AND (r.updatedAt < :cursorUpdatedAt " +
+            "     OR (r.updatedAt = :cursorUpdatedAt AND r.reviewId < :cursorReviewId)) " +
+            "ORDER BY r.updatedAt DESC, r.reviewId DESC")
+    List<ReviewFeedResponseDTO> findFeedLatestAfterCursor(@Param("productId") int productId,
+                                                          @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                                          @Param("cursorReviewId") int cursorReviewId,
+                                                          Pageable pageable);
+
+    // 상품별 리뷰 피드 (평점순) 첫 페이지: idx_review_product_rating 을 역순으로 읽는다
+    @Query("SELECT new com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO(" +
+            "r.reviewId, r.reviewRating, r.reviewContent, r.updatedAt, u.userName) " +
+            "FROM Review r JOIN r.user u WHERE r.product.productId = :productId " +
+            "AND r.reviewRating IS NOT NULL " +
+            "ORDER BY r.reviewRating DESC, r.updatedAt DESC, r.reviewId DESC")
+    List<ReviewFeedResponseDTO> findFeedRatingFirstPage(@Param("productId") int productId, Pageable pageable);
+
+    // 상품별 리뷰 피드 (평점순) 다음 페이지: 커서(reviewRating, updatedAt, reviewId) 이후부터
+    @Query("SELECT new com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO(" +
+            "r.reviewId, r.reviewRating, r.reviewContent, r.updatedAt, u.userName) " +
+            "FROM Review r JOIN r.user u WHERE r.product.productId = :productId " +
+            "AND r.reviewRating IS NOT NULL " +
+            "AND (r.reviewRating < :cursorRating " +
+            "     OR (r.reviewRating = :cursorRating AND r.updatedAt < :cursorUpdatedAt) " +
+            "     OR (r.reviewRating = :cursorRating AND r.updatedAt = :cursorUpdatedAt AND r.reviewId < :cursorReviewId)) " +
+            "ORDER BY r.reviewRating DESC, r.updatedAt DESC, r.reviewId DESC")
+    List<ReviewFeedResponseDTO> findFeedRatingAfterCursor(@Param("productId") int productId,
+                                                          @Param("cursorRating") Double cursorRating,
+                                                          @Param("cursorUpdatedAt") LocalDateTime cursorUpdatedAt,
+                                                          @Param("cursorReviewId") int cursorReviewId,
+                                                          Pageable pageable);
+
+    // 피드용 product_id 가 도입되기 전에 작성된 리뷰를 주문상품 기준으로 채운다
+    @Modifying
+    @Transactional
+    @Query(value = "UPDATE review r JOIN order_item oi ON oi.order_item_id = r.order_item_id " +
+            "SET r.product_id = oi.product_id WHERE r.product_id IS NULL", nativeQuery = true)
+    int backfillProductIds();
+
+    // 평점 집계 재계산용: [리뷰 수, 평점 합계, 1점 수, 2점 수, 3점 수, 4점 수, 5점 수] (반올림 기준)
+    @Query("SELECT COUNT(r), COALESCE(SUM(r.reviewRating), 0), " +
+            "COALESCE(SUM(CASE WHEN r.reviewRating < 1.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.reviewRating >= 1.5 AND r.reviewRating < 2.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.reviewRating >= 2.5 AND r.reviewRating < 3.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.reviewRating >= 3.5 AND r.reviewRating < 4.5 THEN 1 ELSE 0 END), 0), " +
+            "COALESCE(SUM(CASE WHEN r.reviewRating >= 4.5 THEN 1 ELSE 0 END), 0) " +
+            "FROM Review r WHERE r.orderItem.product.productId = :productId AND r.reviewRating IS NOT NULL")
+    List<Object[]> aggregateRatingsByProductId(@Param("productId") int productId);
+
+    // 평점 있는 리뷰가 달린 상품 ID
+    @Query("SELECT DISTINCT r.orderItem.product.productId FROM Review r WHERE r.reviewRating IS NOT NULL")
+    List<Integer> findRatedProductIds();
+
     @Modifying
     @Transactional
     @Query(value = "ALTER TABLE review AUTO_INCREMENT = 1", nativeQuery = true)
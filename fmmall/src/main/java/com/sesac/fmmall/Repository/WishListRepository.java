@@ -9,6 +9,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface WishListRepository extends JpaRepository<WishList, Integer> {
@@ -18,9 +19,14 @@ public interface WishListRepository extends JpaRepository<WishList, Integer> {
 //    Optional<Integer> findByUser_UserIdAndProduct_ProductId(int userId, int productId);
     Page<WishList> findAllByUser_UserId(int userId, Pageable pageable);
 
+    // 위시리스트 포함 여부 캐시 적재용: 사용자가 찜한 상품 ID 만 (엔티티 로딩 없음)
+    @Query("SELECT w.product.productId FROM WishList w WHERE w.user.userId = :userId")
+    List<Integer> findProductIdsByUserId(@Param("userId") int userId);
+
     @Modifying // DML(Insert, Update, Delete) 쿼리임을 명시
     @Transactional // 삭제는 별도의 트랜잭션에서 관리하거나 서비스의 트랜잭션을 따라감
-    int deleteByUser_UserIdAndProduct_ProductId(int userId, int productId); // 직접 삭제
+    @Query("DELETE FROM WishList w WHERE w.user.userId = :userId AND w.product.productId = :productId")
+    int deleteByUserIdAndProductId(@Param("userId") int userId, @Param("productId") int productId); // DELETE 한 번 (조회 후 한 건씩 삭제하지 않음)
 
     @Modifying
     @Transactional
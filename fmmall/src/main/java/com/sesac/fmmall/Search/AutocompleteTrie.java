@@ -0,0 +1,413 @@
+package com.sesac.fmmall.Search;
+
+import com.sesac.fmmall.Constant.SuggestionType;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 자동완성용 압축 트라이 (radix trie) + 노드별 상위 K개
+ * - 갈라지는 지점에만 노드를 두고 간선에 문자열을 붙여서, 모델명처럼 끝부분이 제각각인 키도 노드 수가 키 수 정도로 유지된다.
+ * - 노드마다 그 아래 제안 중 가중치(판매량) 상위 K개를 미리 들고 있어서, 조회는 입력 길이만큼 내려가서 목록을 복사하면 끝난다.
+ * - 추가는 지나는 노드의 상위 K개에 끼워 넣고, 삭제는 그 제안을 들고 있던 노드만 아래에서부터 다시 계산한다.
+ *   (자식들의 상위 K개를 합친 것 중 상위 K개 = 서브트리 전체의 상위 K개)
+ * - 키는 소문자 + 공백/구분자 제거 ("QN65Q80C-KR" → "qn65q80ckr", "비스포크 냉장고" → "비스포크냉장고").
+ *   상품명은 두 번째 단어부터 시작하는 키도 넣어서 "냉장고" 만 입력해도 찾는다.
+ */
+public class AutocompleteTrie {
+
+    public static final int MAX_SUGGESTIONS = 10;
+
+    // 키 최대 길이 (이보다 길게 입력하면 앞부분으로만 찾는다)
+    static final int MAX_KEY_LENGTH = 32;
+    // 상품명에서 추가로 키를 만드는 단어 수 (두 번째 단어부터)
+    private static final int MAX_WORD_KEYS = 3;
+
+    private static final Comparator<Suggestion> RANKING = Comparator
+            .comparingLong(Suggestion::weight).reversed()
+            .thenComparing(Suggestion::text)
+            .thenComparing(Suggestion::id);
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Node root = new Node("");
+    private final Map<String, Suggestion> suggestions = new HashMap<>();
+    private final Map<String, String[]> keysById = new HashMap<>();
+    private int nodeCount = 1;
+
+    /**
+     * 제안 추가/변경 (같은 id 가 있으면 빼고 다시 넣는다)
+     */
+    public void put(Suggestion suggestion) {
+        String[] keys = keysOf(suggestion);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(suggestion.id());
+            if (keys.length == 0) {
+                return;
+            }
+            suggestions.put(suggestion.id(), suggestion);
+            keysById.put(suggestion.id(), keys);
+            for (String key : keys) {
+                insert(key, suggestion);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(String id) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 입력으로 시작하는 제안 상위 limit 개 (가중치 높은 순)
+     */
+    public List<Suggestion> suggest(String input, int limit) {
+        String prefix = normalize(input);
+        if (prefix.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+        if (prefix.length() > MAX_KEY_LENGTH) {
+            prefix = prefix.substring(0, MAX_KEY_LENGTH);
+        }
+
+        lock.readLock().lock();
+        try {
+            Node node = root;
+            int i = 0;
+            while (i < prefix.length()) {
+                Node child = node.child(prefix.charAt(i));
+                if (child == null) {
+                    return List.of();
+                }
+                int common = commonPrefix(child.label, prefix, i);
+                if (i + common == prefix.length()) {
+                    return child.top(limit);   // 입력이 간선 중간에서 끝나도 그 아래는 모두 입력으로 시작한다
+                }
+                if (common < child.label.length()) {
+                    return List.of();
+                }
+                node = child;
+                i += common;
+            }
+            return node.top(limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return suggestions.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int nodeCount() {
+        lock.readLock().lock();
+        try {
+            return nodeCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        StringBuilder key = new StringBuilder(normalized.length());
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+            if (!Character.isWhitespace(c) && c != '-' && c != '/' && c != '.' && c != '_') {
+                key.append(c);
+            }
+        }
+        return key.toString();
+    }
+
+    // 전체 문자열 키 + (상품명이면) 두 번째 단어부터 시작하는 키
+    private static String[] keysOf(Suggestion suggestion) {
+        Set<String> keys = new LinkedHashSet<>();
+        addKey(keys, suggestion.text());
+        if (suggestion.type() == SuggestionType.PRODUCT) {
+            String[] words = suggestion.text().trim().split("\\s+");
+            for (int w = 1; w < words.length && w <= MAX_WORD_KEYS; w++) {
+                addKey(keys, String.join(" ", Arrays.copyOfRange(words, w, words.length)));
+            }
+        }
+        return keys.toArray(new String[0]);
+    }
+
+    private static void addKey(Set<String> keys, String text) {
+        String key = normalize(text);
+        if (key.length() > MAX_KEY_LENGTH) {
+            key = key.substring(0, MAX_KEY_LENGTH);
+        }
+        if (!key.isEmpty()) {
+            keys.add(key);
+        }
+    }
+
+    private void insert(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            Node child = node.child(key.charAt(i));
+            if (child == null) {
+                child = new Node(key.substring(i));
+                node.addChild(child);
+                nodeCount++;
+                node = child;
+                path.add(node);
+                break;
+            }
+
+            int common = commonPrefix(child.label, key, i);
+            if (common < child.label.length()) {
+                // 간선 중간에서 갈라지면 공통 부분을 새 노드로 떼어 낸다
+                Node split = new Node(child.label.substring(0, common));
+                node.replaceChild(child, split);
+                child.label = child.label.substring(common);
+                split.addChild(child);
+                split.top = child.top;
+                nodeCount++;
+                child = split;
+            }
+            node = child;
+            path.add(node);
+            i += common;
+        }
+
+        node.terminals = append(node.terminals, suggestion);
+        for (Node onPath : path) {
+            onPath.offer(suggestion);
+        }
+    }
+
+    private void removeLocked(String id) {
+        Suggestion suggestion = suggestions.remove(id);
+        String[] keys = keysById.remove(id);
+        if (suggestion == null) {
+            return;
+        }
+        for (String key : keys) {
+            delete(key, suggestion);
+        }
+    }
+
+    private void delete(String key, Suggestion suggestion) {
+        List<Node> path = new ArrayList<>();
+        path.add(root);
+
+        Node node = root;
+        int i = 0;
+        while (i < key.length()) {
+            node = node.child(key.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+            i += node.label.length();
+        }
+        node.terminals = without(node.terminals, suggestion);
+
+        // 아래에서부터: 빈 노드는 떼고, 자식 하나뿐인 노드는 합치고, 이 제안을 들고 있던 노드는 상위 K개를 다시 계산
+        for (int p = path.size() - 1; p >= 0; p--) {
+            Node current = path.get(p);
+            Node parent = p > 0 ? path.get(p - 1) : null;
+
+            if (parent != null && current.terminals.length == 0 && current.children.length == 0) {
+                parent.removeChild(current);
+                nodeCount--;
+                continue;
+            }
+            if (parent != null && current.terminals.length == 0 && current.children.length == 1) {
+                Node only = current.children[0];
+                current.label = current.label + only.label;
+                current.children = only.children;
+                current.terminals = only.terminals;
+                current.top = only.top;
+                nodeCount--;
+                continue;
+            }
+            if (current.holds(suggestion)) {
+                current.recompute();
+            }
+        }
+    }
+
+    private static int commonPrefix(String label, String key, int from) {
+        int max = Math.min(label.length(), key.length() - from);
+        int n = 0;
+        while (n < max && label.charAt(n) == key.charAt(from + n)) {
+            n++;
+        }
+        return n;
+    }
+
+    private static Suggestion[] append(Suggestion[] array, Suggestion suggestion) {
+        Suggestion[] grown = Arrays.copyOf(array, array.length + 1);
+        grown[array.length] = suggestion;
+        return grown;
+    }
+
+    private static Suggestion[] without(Suggestion[] array, Suggestion suggestion) {
+        for (int i = 0; i < array.length; i++) {
+            if (array[i] == suggestion) {
+                Suggestion[] shrunk = new Suggestion[array.length - 1];
+                System.arraycopy(array, 0, shrunk, 0, i);
+                System.arraycopy(array, i + 1, shrunk, i, array.length - i - 1);
+                return shrunk;
+            }
+        }
+        return array;
+    }
+
+    private static final Suggestion[] NO_SUGGESTIONS = new Suggestion[0];
+    private static final Node[] NO_CHILDREN = new Node[0];
+
+    /**
+     * 트라이 노드: 부모에서 들어오는 간선 문자열, 첫 글자순 자식, 여기서 끝나는 제안, 서브트리 상위 K개
+     */
+    private static final class Node {
+        private String label;
+        private Node[] children = NO_CHILDREN;
+        private Suggestion[] terminals = NO_SUGGESTIONS;
+        private Suggestion[] top = NO_SUGGESTIONS;
+
+        Node(String label) {
+            this.label = label;
+        }
+
+        Node child(char first) {
+            int index = indexOf(first);
+            return index >= 0 ? children[index] : null;
+        }
+
+        void addChild(Node child) {
+            int index = -(indexOf(child.label.charAt(0)) + 1);
+            Node[] grown = new Node[children.length + 1];
+            System.arraycopy(children, 0, grown, 0, index);
+            grown[index] = child;
+            System.arraycopy(children, index, grown, index + 1, children.length - index);
+            children = grown;
+        }
+
+        // 첫 글자가 같은 노드로만 바꾼다 (간선 분할)
+        void replaceChild(Node old, Node replacement) {
+            children[indexOf(old.label.charAt(0))] = replacement;
+        }
+
+        void removeChild(Node child) {
+            int index = indexOf(child.label.charAt(0));
+            Node[] shrunk = new Node[children.length - 1];
+            System.arraycopy(children, 0, shrunk, 0, index);
+            System.arraycopy(children, index + 1, shrunk, index, children.length - index - 1);
+            children = shrunk;
+        }
+
+        // 자식은 간선 첫 글자로 정렬되어 있다
+        private int indexOf(char first) {
+            int low = 0;
+            int high = children.length - 1;
+            while (low <= high) {
+                int mid = (low + high) >>> 1;
+                char c = children[mid].label.charAt(0);
+                if (c < first) {
+                    low = mid + 1;
+                } else if (c > first) {
+                    high = mid - 1;
+                } else {
+                    return mid;
+                }
+            }
+            return -(low + 1);
+        }
+
+        boolean holds(Suggestion suggestion) {
+            for (Suggestion s : top) {
+                if (s == suggestion) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        // 상위 K개에 끼워 넣기 (이미 있거나 K등 밖이면 그대로)
+        void offer(Suggestion suggestion) {
+            if (holds(suggestion)) {
+                return;
+            }
+            if (top.length == MAX_SUGGESTIONS && RANKING.compare(suggestion, top[top.length - 1]) >= 0) {
+                return;
+            }
+            int position = 0;
+            while (position < top.length && RANKING.compare(top[position], suggestion) < 0) {
+                position++;
+            }
+            int length = Math.min(top.length + 1, MAX_SUGGESTIONS);
+            Suggestion[] next = new Suggestion[length];
+            System.arraycopy(top, 0, next, 0, position);
+            next[position] = suggestion;
+            System.arraycopy(top, position, next, position + 1, length - position - 1);
+            top = next;
+        }
+
+        // 여기서 끝나는 제안 + 자식들의 상위 K개로 다시 계산
+        void recompute() {
+            top = NO_SUGGESTIONS;
+            for (Suggestion s : terminals) {
+                offer(s);
+            }
+            for (Node child : children) {
+                for (Suggestion s : child.top) {
+                    offer(s);
+                }
+            }
+        }
+
+        List<Suggestion> top(int limit) {
+            return List.of(Arrays.copyOf(top, Math.min(limit, top.length)));
+        }
+    }
+
+    /**
+     * 자동완성 제안 한 건
+     * @param id       제안 구분 키 (예: "PRODUCT:12", "BRAND:3")
+     * @param targetId 상품 ID 또는 브랜드 ID
+     * @param weight   판매량 (높을수록 위)
+     */
+    public record Suggestion(String id, String text, SuggestionType type, int targetId, long weight) {
+
+        public static Suggestion of(SuggestionType type, int targetId, String text, long weight) {
+            return new Suggestion(idOf(type, targetId), text, type, targetId, weight);
+        }
+
+        public static String idOf(SuggestionType type, int targetId) {
+            return type + ":" + targetId;
+        }
+    }
+}
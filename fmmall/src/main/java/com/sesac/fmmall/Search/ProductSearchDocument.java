@@ -0,0 +1,15 @@
+package com.sesac.fmmall.Search;
+
+/**
+ * 검색 색인에 넣는 상품 한 건 (JPQL 생성자 조회용)
+ */
+public record ProductSearchDocument(
+        int productId,
+        String name,
+        String modelName,
+        String description,
+        String brandName,
+        String categoryName,
+        String rowCategoryName
+) {
+}
@@ -0,0 +1,345 @@
+package com.sesac.fmmall.Search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.PriorityQueue;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 상품 검색용 인메모리 역색인 (BM25 랭킹)
+ * - 문서 = 상품 하나. 필드별 가중치(상품명/모델명 3, 브랜드 2, 카테고리/설명 1)를 곱한 빈도로 BM25F 점수를 낸다.
+ * - 검색어의 모든 토큰이 들어간 상품만 결과로 낸다 (AND). 영문/숫자 토큰과 한 글자 한글은 앞부분 일치도 허용한다.
+ * - 상품 ID 대신 내부 문서 번호(0..n)를 써서 점수 누적을 배열로 처리한다. 삭제된 번호는 재사용한다.
+ * - 읽기/쓰기는 ReadWriteLock 으로 보호한다. (검색은 동시에, 색인 변경은 하나씩)
+ */
+public class ProductSearchIndex {
+
+    static final float NAME_WEIGHT = 3f;
+    static final float MODEL_WEIGHT = 3f;
+    static final float BRAND_WEIGHT = 2f;
+    static final float CATEGORY_WEIGHT = 1f;
+    static final float DESCRIPTION_WEIGHT = 1f;
+
+    private static final float K1 = 1.2f;
+    private static final float B = 0.75f;
+
+    // 앞부분 일치로 확장한 단어는 정확히 일치한 단어보다 조금 낮게
+    private static final float PREFIX_PENALTY = 0.8f;
+    // 한 토큰이 앞부분 일치로 펼칠 수 있는 최대 단어 수
+    private static final int MAX_PREFIX_EXPANSIONS = 64;
+    // 검색어에서 쓰는 최대 토큰 수 (긴 문장을 붙여 넣어도 검색 비용이 일정하도록)
+    private static final int MAX_QUERY_TOKENS = 16;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final TreeSet<String> terms = new TreeSet<>();   // 앞부분 일치용 정렬된 단어 사전
+
+    private final Map<Integer, Integer> docByProductId = new HashMap<>();
+    private final ArrayDeque<Integer> freeDocs = new ArrayDeque<>();
+    private int[] productIdByDoc = new int[1024];
+    private float[] docLength = new float[1024];
+    private String[][] docTerms = new String[1024][];
+    private int docCount;            // 지금까지 쓴 문서 번호 개수 (삭제 포함)
+    private int liveDocs;
+    private double totalLength;
+
+    /**
+     * 상품 추가/변경 (이미 있으면 기존 색인을 지우고 다시 넣는다)
+     */
+    public void put(ProductSearchDocument document) {
+        Map<String, Float> weighted = new HashMap<>();
+        float length = 0;
+        length += addField(weighted, document.name(), NAME_WEIGHT);
+        length += addField(weighted, document.modelName(), MODEL_WEIGHT);
+        length += addField(weighted, document.brandName(), BRAND_WEIGHT);
+        length += addField(weighted, document.categoryName(), CATEGORY_WEIGHT);
+        length += addField(weighted, document.rowCategoryName(), CATEGORY_WEIGHT);
+        length += addField(weighted, document.description(), DESCRIPTION_WEIGHT);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.productId());
+
+            int doc = freeDocs.isEmpty() ? docCount++ : freeDocs.pop();
+            ensureCapacity(doc + 1);
+
+            productIdByDoc[doc] = document.productId();
+            docLength[doc] = length;
+            docTerms[doc] = weighted.keySet().toArray(new String[0]);
+            docByProductId.put(document.productId(), doc);
+            liveDocs++;
+            totalLength += length;
+
+            for (Map.Entry<String, Float> entry : weighted.entrySet()) {
+                Postings list = postings.get(entry.getKey());
+                if (list == null) {
+                    list = new Postings();
+                    postings.put(entry.getKey(), list);
+                    terms.add(entry.getKey());
+                }
+                list.add(doc, entry.getValue());
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void remove(int productId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(productId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return liveDocs;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int termCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (점수 높은 순, offset 부터 limit 개)
+     */
+    public SearchResult search(String query, int offset, int limit) {
+        List<String> queryTokens = new ArrayList<>(new LinkedHashSet<>(ProductTokenizer.tokenize(query)));
+        if (queryTokens.size() > MAX_QUERY_TOKENS) {
+            queryTokens = queryTokens.subList(0, MAX_QUERY_TOKENS);
+        }
+        if (queryTokens.isEmpty() || limit <= 0) {
+            return new SearchResult(0, List.of());
+        }
+
+        lock.readLock().lock();
+        try {
+            if (liveDocs == 0) {
+                return new SearchResult(0, List.of());
+            }
+
+            float avgLength = (float) (totalLength / liveDocs);
+
+            float[] score = new float[docCount];
+            float[] best = new float[docCount];        // 현재 토큰에서 이 문서가 받은 최고 점수
+            short[] matched = new short[docCount];     // 일치한 토큰 수
+            short[] stamp = new short[docCount];       // 마지막으로 일치한 토큰 순번 + 1
+
+            // 토큰마다 찾을 단어를 펼치고, 문서가 적은 토큰부터 처리해서 후보를 빨리 줄인다
+            List<List<String>> expansions = new ArrayList<>(queryTokens.size());
+            for (String token : queryTokens) {
+                List<String> expanded = expand(token);
+                if (expanded.isEmpty()) {
+                    return new SearchResult(0, List.of());   // AND 검색이라 한 토큰이라도 없으면 결과 없음
+                }
+                expansions.add(expanded);
+            }
+            List<Integer> order = new ArrayList<>();
+            for (int t = 0; t < queryTokens.size(); t++) {
+                order.add(t);
+            }
+            order.sort((x, y) -> Integer.compare(countPostings(expansions.get(x)), countPostings(expansions.get(y))));
+
+            int[] candidates = new int[Math.min(docCount, countPostings(expansions.get(order.get(0))))];
+            int candidateCount = 0;
+
+            for (int t = 0; t < order.size(); t++) {
+                String token = queryTokens.get(order.get(t));
+                List<String> expanded = expansions.get(order.get(t));
+                short tokenStamp = (short) (t + 1);
+
+                for (String term : expanded) {
+                    Postings list = postings.get(term);
+                    float idf = idf(list.size);
+                    float penalty = term.equals(token) ? 1f : PREFIX_PENALTY;
+
+                    for (int i = 0; i < list.size; i++) {
+                        int doc = list.docs[i];
+                        // 앞 토큰에 없던 문서는 어차피 결과가 될 수 없다
+                        if (t > 0 && matched[doc] != t && stamp[doc] != tokenStamp) {
+                            continue;
+                        }
+                        float tf = list.freqs[i];
+                        float s = penalty * idf * tf * (K1 + 1)
+                                / (tf + K1 * (1 - B + B * docLength[doc] / avgLength));
+
+                        if (stamp[doc] != tokenStamp) {
+                            stamp[doc] = tokenStamp;
+                            matched[doc]++;
+                            best[doc] = s;
+                            score[doc] += s;
+                            if (t == 0) {
+                                candidates[candidateCount++] = doc;
+                            }
+                        } else if (s > best[doc]) {
+                            score[doc] += s - best[doc];
+                            best[doc] = s;
+                        }
+                    }
+                }
+            }
+
+            // 모든 토큰이 일치한 문서 중 상위 offset + limit 개
+            int tokenCount = queryTokens.size();
+            int keep = offset + limit;
+            PriorityQueue<Integer> top = new PriorityQueue<>(
+                    (a, b) -> score[a] != score[b] ? Float.compare(score[a], score[b])
+                            : Integer.compare(productIdByDoc[a], productIdByDoc[b]));
+            int total = 0;
+            for (int i = 0; i < candidateCount; i++) {
+                int doc = candidates[i];
+                if (matched[doc] != tokenCount) {
+                    continue;
+                }
+                total++;
+                top.add(doc);
+                if (top.size() > keep) {
+                    top.poll();
+                }
+            }
+
+            List<SearchHit> ranked = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                int doc = top.poll();
+                ranked.add(new SearchHit(productIdByDoc[doc], score[doc]));
+            }
+            Collections.reverse(ranked);
+
+            List<SearchHit> page = offset >= ranked.size()
+                    ? List.of()
+                    : ranked.subList(offset, ranked.size());
+            return new SearchResult(total, List.copyOf(page));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 정확히 일치하는 단어 + (영문/숫자, 한 글자 한글이면) 그 토큰으로 시작하는 단어들
+    private List<String> expand(String token) {
+        List<String> expanded = new ArrayList<>();
+        if (postings.containsKey(token)) {
+            expanded.add(token);
+        }
+        if (!isPrefixable(token)) {
+            return expanded;
+        }
+        NavigableSet<String> withPrefix = terms.subSet(token, false, token + Character.MAX_VALUE, false);
+        for (String term : withPrefix) {
+            if (expanded.size() >= MAX_PREFIX_EXPANSIONS) {
+                break;
+            }
+            expanded.add(term);
+        }
+        return expanded;
+    }
+
+    private boolean isPrefixable(String token) {
+        return !ProductTokenizer.isHangul(token.charAt(0)) || token.length() == 1;
+    }
+
+    private int countPostings(List<String> expanded) {
+        long sum = 0;
+        for (String term : expanded) {
+            sum += postings.get(term).size;
+        }
+        return (int) Math.min(sum, Integer.MAX_VALUE);
+    }
+
+    private float idf(int documentFrequency) {
+        return (float) Math.log(1 + (liveDocs - documentFrequency + 0.5) / (documentFrequency + 0.5));
+    }
+
+    private float addField(Map<String, Float> weighted, String text, float weight) {
+        List<String> tokens = ProductTokenizer.tokenize(text);
+        for (String token : tokens) {
+            weighted.merge(token, weight, Float::sum);
+        }
+        return tokens.size() * weight;
+    }
+
+    private void removeLocked(int productId) {
+        Integer doc = docByProductId.remove(productId);
+        if (doc == null) {
+            return;
+        }
+        for (String term : docTerms[doc]) {
+            Postings list = postings.get(term);
+            list.remove(doc);
+            if (list.size == 0) {
+                postings.remove(term);
+                terms.remove(term);
+            }
+        }
+        liveDocs--;
+        totalLength -= docLength[doc];
+        docTerms[doc] = null;
+        docLength[doc] = 0;
+        freeDocs.push(doc);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= productIdByDoc.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, productIdByDoc.length * 2);
+        productIdByDoc = Arrays.copyOf(productIdByDoc, newCapacity);
+        docLength = Arrays.copyOf(docLength, newCapacity);
+        docTerms = Arrays.copyOf(docTerms, newCapacity);
+    }
+
+    /**
+     * 단어 하나의 문서 목록 (문서 번호 + 가중 빈도). 순서는 상관없고, 삭제는 마지막 칸과 바꿔서 지운다.
+     */
+    private static final class Postings {
+        private int[] docs = new int[4];
+        private float[] freqs = new float[4];
+        private int size;
+
+        void add(int doc, float freq) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+                freqs = Arrays.copyOf(freqs, size * 2);
+            }
+            docs[size] = doc;
+            freqs[size] = freq;
+            size++;
+        }
+
+        void remove(int doc) {
+            for (int i = 0; i < size; i++) {
+                if (docs[i] == doc) {
+                    size--;
+                    docs[i] = docs[size];
+                    freqs[i] = freqs[size];
+                    return;
+                }
+            }
+        }
+    }
+
+    public record SearchHit(int productId, float score) {
+    }
+
+    public record SearchResult(int total, List<SearchHit> hits) {
+    }
+}
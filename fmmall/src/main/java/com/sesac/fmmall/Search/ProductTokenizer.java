@@ -0,0 +1,103 @@
+package com.sesac.fmmall.Search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * 상품 검색용 토크나이저
+ * - 한글: 붙여 쓴 복합어("벽걸이에어컨")에서도 찾을 수 있도록 2글자씩 자른다 (바이그램). 한 글자 단어는 그대로.
+ * - 영문/숫자: 모델명("QN65Q80C-KR")은 구분자로 나눈 조각과, 구분자를 뺀 전체("qn65q80ckr")를 함께 토큰으로 만든다.
+ * - 소문자 + NFKC 정규화 (전각 문자, 호환 자모 정리)
+ */
+public final class ProductTokenizer {
+
+    private ProductTokenizer() {
+    }
+
+    public static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+
+        StringBuilder hangul = new StringBuilder();
+        StringBuilder alnum = new StringBuilder();
+        StringBuilder joined = new StringBuilder();   // 하이픈 등으로 이어진 영문/숫자 조각 전체
+        int joinedParts = 0;
+
+        for (int i = 0; i < normalized.length(); i++) {
+            char c = normalized.charAt(i);
+
+            if (isHangul(c)) {
+                if (alnum.length() > 0) {
+                    joined.append(alnum);
+                    joinedParts++;
+                    tokens.add(alnum.toString());
+                    alnum.setLength(0);
+                }
+                joinedParts = flushJoined(tokens, joined, joinedParts);
+                hangul.append(c);
+            } else if (isAlnum(c)) {
+                flushHangul(tokens, hangul);
+                alnum.append(c);
+            } else {
+                flushHangul(tokens, hangul);
+                if (alnum.length() > 0) {
+                    joined.append(alnum);
+                    joinedParts++;
+                    tokens.add(alnum.toString());
+                    alnum.setLength(0);
+                }
+                // 모델명 안의 구분자('-', '/', '.', '_')는 조각을 이어 붙이고, 그 외 문자에서 끊는다
+                if (!isModelSeparator(c)) {
+                    joinedParts = flushJoined(tokens, joined, joinedParts);
+                }
+            }
+        }
+
+        flushHangul(tokens, hangul);
+        if (alnum.length() > 0) {
+            joined.append(alnum);
+            joinedParts++;
+            tokens.add(alnum.toString());
+        }
+        flushJoined(tokens, joined, joinedParts);
+
+        return tokens;
+    }
+
+    static boolean isHangul(char c) {
+        return c >= '가' && c <= '힣';
+    }
+
+    private static boolean isAlnum(char c) {
+        return (c >= 'a' && c <= 'z') || (c >= '0' && c <= '9');
+    }
+
+    private static boolean isModelSeparator(char c) {
+        return c == '-' || c == '/' || c == '.' || c == '_';
+    }
+
+    private static void flushHangul(List<String> tokens, StringBuilder hangul) {
+        if (hangul.length() == 1) {
+            tokens.add(hangul.toString());
+        } else {
+            for (int i = 0; i + 1 < hangul.length(); i++) {
+                tokens.add(hangul.substring(i, i + 2));
+            }
+        }
+        hangul.setLength(0);
+    }
+
+    private static int flushJoined(List<String> tokens, StringBuilder joined, int joinedParts) {
+        if (joinedParts > 1) {
+            tokens.add(joined.toString());
+        }
+        joined.setLength(0);
+        return 0;
+    }
+}
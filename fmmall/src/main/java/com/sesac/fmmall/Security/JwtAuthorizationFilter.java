@@ -1,7 +1,7 @@
 package com.sesac.fmmall.Security;
 
 import com.sesac.fmmall.Entity.User;
-import com.sesac.fmmall.Repository.UserRepository;
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -21,7 +21,7 @@ import java.io.IOException;
 public class JwtAuthorizationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider jwtTokenProvider;
-    private final UserRepository userRepository;
+    private final UserPrincipalCache userPrincipalCache;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -33,12 +33,14 @@ public class JwtAuthorizationFilter extends OncePerRequestFilter {
         if (StringUtils.hasText(bearer) && bearer.startsWith("Bearer ")) {
             String token = bearer.substring(7);
 
-            // 토큰 유효성 검사
-            if (jwtTokenProvider.validateToken(token)) {
-                int userId = jwtTokenProvider.getUserId(token);
+            // 토큰 유효성 검사 + Claims 추출 (서명 검증은 한 번만)
+            Claims claims = jwtTokenProvider.resolveClaims(token);
 
-                // DB에서 유저 조회
-                User user = userRepository.findById(userId).orElse(null);
+            if (claims != null) {
+                int userId = claims.get("userId", Integer.class);
+
+                // 유저 조회 (캐시에 없을 때만 DB 조회)
+                User user = userPrincipalCache.getUser(userId);
 
                 if (user != null) {
                     // ✅ CustomUserDetails 사용
@@ -1,5 +1,6 @@
 package com.sesac.fmmall.Security;
 
+import com.sesac.fmmall.Cache.BoundedCache;
 import com.sesac.fmmall.Entity.User;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
@@ -7,7 +8,11 @@ import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
 
 @Component
@@ -19,11 +24,30 @@ public class JwtTokenProvider {
     @Value("${jwt.token-validity-in-seconds:3600}")
     private long tokenValidityInSeconds;
 
+    // 최근 검증한 토큰 캐시 크기 (0 이면 사용 안 함)
+    @Value("${jwt.verified-cache-size:1000}")
+    private int verifiedCacheSize;
+
+    @Value("${jwt.verified-cache-ttl-seconds:60}")
+    private long verifiedCacheTtlSeconds;
+
     private Key secretKey;
 
+    // 파서는 스레드 세이프하므로 한 번만 만들어서 재사용
+    private JwtParser jwtParser;
+
+    // 토큰의 SHA-256 → 검증된 Claims (토큰 원문은 힙에 남기지 않는다. 만료 시각은 조회 때마다 다시 확인)
+    private BoundedCache<String, Claims> verifiedClaims;
+
     @PostConstruct
     public void init() {
         this.secretKey = Keys.hmacShaKeyFor(secretKeyPlain.getBytes());
+        this.jwtParser = Jwts.parserBuilder()
+                .setSigningKey(secretKey)
+                .build();
+        if (verifiedCacheSize > 0) {
+            this.verifiedClaims = new BoundedCache<>(verifiedCacheSize, verifiedCacheTtlSeconds * 1000);
+        }
     }
 
     public String createToken(User user) {
@@ -40,34 +64,84 @@ public class JwtTokenProvider {
                 .compact();
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * 토큰을 한 번만 검증해서 Claims 를 돌려준다. (유효하지 않으면 null)
+     * - 필터처럼 검증 후 여러 값을 꺼내야 하는 곳은 validateToken + getXxx 대신 이 메서드를 사용한다.
+     * - 최근 검증한 토큰은 캐시에서 꺼내되, 만료 시각은 매번 다시 확인한다.
+     */
+    public Claims resolveClaims(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        String cacheKey = null;
+        if (verifiedClaims != null) {
+            cacheKey = digest(token);
+            Claims cached = verifiedClaims.get(cacheKey);
+            if (cached != null) {
+                if (isExpired(cached)) {
+                    verifiedClaims.invalidate(cacheKey);
+                    return null;
+                }
+                return cached;
+            }
+        }
+
         try {
-            parseClaims(token);
-            return true;
+            Claims claims = parseClaims(token);
+            if (cacheKey != null) {
+                verifiedClaims.put(cacheKey, claims);
+            }
+            return claims;
         } catch (JwtException | IllegalArgumentException e) {
-            return false;
+            return null;
         }
     }
 
-    private Claims parseClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(secretKey)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
+    public boolean validateToken(String token) {
+        return resolveClaims(token) != null;
+    }
+
+    // 서명/만료 검증 (테스트에서 호출 횟수를 확인할 수 있게 패키지 범위)
+    Claims parseClaims(String token) {
+        return jwtParser.parseClaimsJws(token).getBody();
+    }
+
+    // 캐시 키: 토큰 SHA-256 (Base64)
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+    // getXxx 용: 유효하지 않은 토큰이면 예외
+    private Claims requireClaims(String token) {
+        Claims claims = resolveClaims(token);
+        if (claims == null) {
+            throw new JwtException("유효하지 않은 토큰입니다.");
+        }
+        return claims;
+    }
+
+    private boolean isExpired(Claims claims) {
+        Date expiration = claims.getExpiration();
+        return expiration != null && expiration.before(new Date());
     }
 
 
     public String getLoginId(String token) {
-        return parseClaims(token).getSubject();
+        return requireClaims(token).getSubject();
     }
 
 
     public int getUserId(String token) {
-        return parseClaims(token).get("userId", Integer.class);
+        return requireClaims(token).get("userId", Integer.class);
     }
 
     public String getRole(String token) {
-        return parseClaims(token).get("role", String.class);
+        return requireClaims(token).get("role", String.class);
     }
 }
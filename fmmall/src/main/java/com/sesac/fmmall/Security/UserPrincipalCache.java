@@ -0,0 +1,68 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Cache.BoundedCache;
+import com.sesac.fmmall.DTO.CacheStatsResponseDTO;
+import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * JWT 인증용 사용자 캐시 (userId → 인증에 필요한 사용자 정보)
+ * - 요청마다 user 테이블을 조회하지 않도록 최근 인증된 사용자를 잠깐 보관한다.
+ * - 연관관계(주소/결제수단)와 비밀번호는 담지 않은 사본을 캐시하므로 영속성 컨텍스트와 무관하다.
+ * - 사용자 수정/삭제 시 UserService 에서 invalidate 한다.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserPrincipalCache {
+
+    private final UserRepository userRepository;
+
+    @Value("${fmmall.security.principal-cache.max-size:10000}")
+    private int maxSize;
+
+    @Value("${fmmall.security.principal-cache.ttl-seconds:300}")
+    private long ttlSeconds;
+
+    private BoundedCache<Integer, User> cache;
+
+    @PostConstruct
+    public void init() {
+        this.cache = new BoundedCache<>(maxSize, ttlSeconds * 1000);
+    }
+
+    /**
+     * 캐시에서 사용자 조회, 없으면 DB 조회 후 저장 (존재하지 않는 사용자는 null)
+     */
+    public User getUser(int userId) {
+        return cache.get(userId, id -> userRepository.findById(id)
+                .map(this::copyOf)
+                .orElse(null));
+    }
+
+    /**
+     * 사용자 정보 변경 시 캐시 제거 (트랜잭션이 끝난 뒤에도 한 번 더 제거)
+     */
+    public void invalidate(int userId) {
+        cache.invalidateAfterTransaction(userId);
+    }
+
+    public CacheStatsResponseDTO getStats() {
+        return CacheStatsResponseDTO.from("userPrincipal", cache);
+    }
+
+    // 인증에 필요한 컬럼만 복사 (비밀번호, 지연 로딩 컬렉션은 제외)
+    private User copyOf(User user) {
+        return User.builder()
+                .userId(user.getUserId())
+                .loginId(user.getLoginId())
+                .userName(user.getUserName())
+                .userPhone(user.getUserPhone())
+                .createdAt(user.getCreatedAt())
+                .role(user.getRole())
+                .build();
+    }
+}
@@ -1,9 +1,11 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.DTO.CartItem.CartItemCheckRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
 import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
 import com.sesac.fmmall.DTO.CartResponseDTO;
+import com.sesac.fmmall.DTO.CartSummaryResponseDTO;
 import com.sesac.fmmall.Entity.Cart;
 import com.sesac.fmmall.Entity.CartItem;
 import com.sesac.fmmall.Entity.Product;
@@ -13,14 +15,12 @@ import com.sesac.fmmall.Repository.CartRepository;
 import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.UserRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -31,10 +31,35 @@ public class CartService {
     private final ProductRepository productRepository;
     private final CartRepository cartRepository;
     private final CartItemRepository cartItemRepository;
-    private final ModelMapper modelMapper;
+    private final CartWriteBehindService cartWriteBehindService;  // 사용 설정 시 메모리 장바구니로 처리
 
     @Transactional
     public CartResponseDTO createCartItem(int userId, CartItemCreateRequestDTO requestDTO) {
+        if (cartWriteBehindService.isEnabled()) {
+            cartWriteBehindService.add(userId, requestDTO.getProductId(), requestDTO.getQuantity());
+            return cartWriteBehindService.read(userId);
+        }
+
+        addCartItem(userId, requestDTO);
+
+        return findAllCartItems(userId);
+    }
+
+    /**
+     * 장바구니 상품 추가 후 전체 목록 대신 변경된 항목과 합계만 반환
+     */
+    @Transactional
+    public CartSummaryResponseDTO createCartItemSummary(int userId, CartItemCreateRequestDTO requestDTO) {
+        if (cartWriteBehindService.isEnabled()) {
+            return cartWriteBehindService.add(userId, requestDTO.getProductId(), requestDTO.getQuantity());
+        }
+
+        CartItem cartItem = addCartItem(userId, requestDTO);
+
+        return summarize(cartItem);
+    }
+
+    private CartItem addCartItem(int userId, CartItemCreateRequestDTO requestDTO) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다."));
         Product product = productRepository.findById(requestDTO.getProductId())
@@ -44,26 +69,108 @@ public class CartService {
                 .orElseGet(() -> cartRepository.save(new Cart(user)));
 
         CartItem newCartItem = CartItem.createCartItem(product, requestDTO.getQuantity());
-        cart.addCartItem(newCartItem);
+        CartItem cartItem = cart.addCartItem(newCartItem);
 
         // 수정: cart 저장 추가
         cartRepository.save(cart);
 
-        return findAllCartItems(userId);
+        return cartItem;
     }
 
     @Transactional
     public CartResponseDTO updateCartItemQuantity(int userId, int cartItemId, CartItemUpdateRequestDTO requestDTO) {
+        if (cartWriteBehindService.isEnabled()) {
+            cartWriteBehindService.changeQuantity(userId, cartItemId, requestDTO.getQuantity());
+            return cartWriteBehindService.read(userId);
+        }
+
+        changeCartItemQuantity(userId, cartItemId, requestDTO);
+
+        return findAllCartItems(userId);
+    }
+
+    /**
+     * 장바구니 상품 수량 변경 후 전체 목록 대신 변경된 항목과 합계만 반환
+     */
+    @Transactional
+    public CartSummaryResponseDTO updateCartItemQuantitySummary(int userId, int cartItemId, CartItemUpdateRequestDTO requestDTO) {
+        if (cartWriteBehindService.isEnabled()) {
+            return cartWriteBehindService.changeQuantity(userId, cartItemId, requestDTO.getQuantity());
+        }
+
+        CartItem cartItem = changeCartItemQuantity(userId, cartItemId, requestDTO);
+
+        return summarize(cartItem);
+    }
+
+    private CartItem changeCartItemQuantity(int userId, int cartItemId, CartItemUpdateRequestDTO requestDTO) {
         CartItem cartItem = cartItemRepository.findById(cartItemId)
                 .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
 
         cartItem.updateQuantity(requestDTO.getQuantity(), userId);
 
+        return cartItem;
+    }
+
+    // 변경된 항목 + 합계 집계 쿼리 1번 (집계 전에 변경 내용이 flush 된다)
+    private CartSummaryResponseDTO summarize(CartItem cartItem) {
+        int cartId = cartItem.getCart().getCartId();
+        Object[] totals = cartItemRepository.sumTotalsByCartId(cartId).get(0);
+
+        return CartSummaryResponseDTO.builder()
+                .cartId(cartId)
+                .changedItem(CartItemResponseDTO.from(cartItem))
+                .totalItemCount(((Number) totals[0]).intValue())
+                .totalPrice(((Number) totals[1]).intValue())
+                .build();
+    }
+
+    /**
+     * 장바구니 상품 주문 선택/해제 (장바구니 주문은 선택된 항목만 주문한다)
+     */
+    @Transactional
+    public CartSummaryResponseDTO updateCheckStatus(int userId, int cartItemId, CartItemCheckRequestDTO requestDTO) {
+        if (cartWriteBehindService.isEnabled()) {
+            return cartWriteBehindService.changeCheckStatus(userId, cartItemId, requestDTO.getCheckStatus());
+        }
+
+        CartItem cartItem = cartItemRepository.findById(cartItemId)
+                .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
+
+        cartItem.updateCheckStatus(requestDTO.getCheckStatus(), userId);
+
+        return summarize(cartItem);
+    }
+
+    /**
+     * 장바구니 전체 선택/해제 (UPDATE 한 번)
+     */
+    @Transactional
+    public CartResponseDTO updateCheckStatusAll(int userId, CartItemCheckRequestDTO requestDTO) {
+        String checkStatus = requestDTO.getCheckStatus();
+        if (!"Y".equals(checkStatus) && !"N".equals(checkStatus)) {
+            throw new IllegalArgumentException("checkStatus는 'Y' 또는 'N' 이어야 합니다.");
+        }
+
+        if (cartWriteBehindService.isEnabled()) {
+            cartWriteBehindService.changeCheckStatusAll(userId, checkStatus);
+            return cartWriteBehindService.read(userId);
+        }
+
+        Cart cart = cartRepository.findByUser_UserId(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 장바구니를 찾을 수 없습니다."));
+        cartItemRepository.updateCheckStatusByCartId(cart.getCartId(), checkStatus);
+
         return findAllCartItems(userId);
     }
 
     @Transactional
     public void removeCartItem(int userId, int cartItemId) {
+        if (cartWriteBehindService.isEnabled()) {
+            cartWriteBehindService.remove(userId, cartItemId);
+            return;
+        }
+
         Cart cart = cartRepository.findByUser_UserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 장바구니를 찾을 수 없습니다."));
 
@@ -72,12 +179,21 @@ public class CartService {
 
     @Transactional
     public void clearCart(int userId) {
+        if (cartWriteBehindService.isEnabled()) {
+            cartWriteBehindService.clear(userId);
+            return;
+        }
+
         Cart cart = cartRepository.findByUser_UserId(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자의 장바구니를 찾을 수 없습니다."));
         cart.clearCart();
     }
 
     public CartResponseDTO findAllCartItems(int userId) {
+        if (cartWriteBehindService.isEnabled()) {
+            return cartWriteBehindService.read(userId);
+        }
+
         Optional<Cart> optCart = cartRepository.findByUser_UserId(userId);
 
         if (optCart.isEmpty()) {
@@ -89,20 +205,9 @@ public class CartService {
                     .build();
         }
 
+        // 장바구니 상품 + 상품명/가격을 쿼리 한 번으로 조회 (상품 지연 로딩 없음)
         Cart cart = optCart.get();
-        List<CartItemResponseDTO> cartItemList = cart.getCartItems().stream()
-                .map(cartItem -> {
-                    CartItemResponseDTO cartItemResponseDTO = modelMapper.map(cartItem, CartItemResponseDTO.class);
-                    Product product = cartItem.getProduct();
-
-                    cartItemResponseDTO.setProductId(product.getProductId());
-                    cartItemResponseDTO.setProductName(product.getName());
-                    cartItemResponseDTO.setProductPrice(product.getPrice());
-                    cartItemResponseDTO.setTotalPrice(product.getPrice() * cartItem.getCartItemQuantity());
-
-                    return cartItemResponseDTO;
-                })
-                .collect(Collectors.toList());
+        List<CartItemResponseDTO> cartItemList = cartItemRepository.findResponsesByCartId(cart.getCartId());
 
         int totalPrice = cartItemList.stream()
                 .mapToInt(CartItemResponseDTO::getTotalPrice)
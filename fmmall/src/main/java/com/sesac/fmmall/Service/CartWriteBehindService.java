@@ -0,0 +1,652 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.CartResponseDTO;
+import com.sesac.fmmall.DTO.CartSummaryResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Entity.Cart;
+import com.sesac.fmmall.Entity.CartItem;
+import com.sesac.fmmall.Repository.CartItemRepository;
+import com.sesac.fmmall.Repository.CartRepository;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Repository.UserRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Function;
+
+/**
+ * 장바구니 write-behind 엔진 (fmmall.cart.write-behind.enabled=true 일 때만 CartService 가 사용)
+ * - 활성 장바구니를 사용자별로 메모리에 두고(최대 max-carts 개, LRU), 항목은 상품 ID 로 바로 찾는다.
+ * - 추가/수량 변경/삭제는 메모리만 바꾸고 dirty 표시 → flush-interval-ms 마다 모아서 cart / cart_item 에 반영한다.
+ *   (그 사이 여러 번 바뀐 수량은 마지막 값 한 번만 기록된다)
+ * - 메모리에 없는 장바구니는 DB 에서 읽어 온다.
+ *
+ * 반영(flush) 규칙
+ * - 장바구니 단위의 별도 트랜잭션으로 "현재 메모리 상태 전체"를 DB 에 맞춘다 → 몇 번을 다시 해도 결과가 같다.
+ * - 커밋에 성공해야 dirty 가 풀린다. 실패하면 그대로 남아 다음 주기에 다시 시도한다.
+ * - 그 사이 삭제된 상품의 항목은 버린다. 그래도 max-flush-failures 번 연속 실패하면 포기하고 메모리에서 내린다.
+ * - 종료 시(@PreDestroy) 남은 장바구니를 모두 반영한다. 비정상 종료 시 잃을 수 있는 것은 마지막 반영 이후의 변경뿐이다.
+ * - 주문(OrderService.createOrderFromCart)은 beginCheckout() 으로 해당 사용자 장바구니를 주문 트랜잭션 안에서 먼저 반영하고
+ *   (커넥션 추가 없이), 주문 트랜잭션이 끝날 때까지 그 사용자의 장바구니 변경만 기다리게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CartWriteBehindService {
+
+    private static final int LOCK_STRIPES = 64;
+
+    private final UserRepository userRepository;
+    private final ProductRepository productRepository;
+    private final CartRepository cartRepository;
+    private final CartItemRepository cartItemRepository;
+    private final ProductService productService;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${fmmall.cart.write-behind.enabled:false}")
+    private boolean enabled;
+
+    @Value("${fmmall.cart.write-behind.max-carts:10000}")
+    private int maxCarts;
+
+    @Value("${fmmall.cart.write-behind.max-flush-failures:5}")
+    private int maxFlushFailures;
+
+    // 사용자 ID → 장바구니 상태 (접근 순서 LRU, synchronized (carts) 로 보호)
+    private final LinkedHashMap<Integer, CartState> carts = new LinkedHashMap<>(16, 0.75f, true);
+
+    // 사용자별 잠금 (userId 로 나눈 고정 개수의 잠금)
+    private final ReentrantLock[] locks = new ReentrantLock[LOCK_STRIPES];
+
+    // 주문 중인 사용자 → 주문 트랜잭션이 끝나면 풀리는 래치 (같은 잠금을 쓰는 다른 사용자는 막지 않는다)
+    private final Map<Integer, CountDownLatch> checkouts = new ConcurrentHashMap<>();
+
+    // 아직 DB 에 없는 항목에 주는 임시 ID (음수)
+    private final AtomicInteger tempIdSequence = new AtomicInteger();
+
+    // 주기 반영은 호출한 쪽 트랜잭션(읽기 전용 포함)과 상관없이 따로 커밋한다.
+    private TransactionTemplate flushTemplate;
+
+    @PostConstruct
+    public void init() {
+        for (int i = 0; i < LOCK_STRIPES; i++) {
+            locks[i] = new ReentrantLock();
+        }
+        flushTemplate = new TransactionTemplate(transactionManager);
+        flushTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    // 메모리에 올라와 있는 장바구니인지 (테스트 확인용)
+    boolean isCached(int userId) {
+        synchronized (carts) {
+            return carts.containsKey(userId);
+        }
+    }
+
+    // =========================================================
+    // 장바구니 조회 / 변경 (메모리)
+    // =========================================================
+
+    public CartResponseDTO read(int userId) {
+        return withCart(userId, this::toResponse);
+    }
+
+    public CartSummaryResponseDTO add(int userId, int productId, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("수량은 1개 이상이어야 합니다.");
+        }
+        ProductResponseDTO product = productService.findProductByProductId(productId);
+
+        return withCart(userId, state -> {
+            CartLine line = state.lines.get(productId);
+            int totalQuantity = (line == null ? 0 : line.quantity) + quantity;
+
+            if (totalQuantity > product.getStockQuantity()) {
+                throw new IllegalArgumentException("상품의 재고가 부족합니다.");
+            }
+
+            if (line == null) {
+                line = new CartLine(productId, -tempIdSequence.incrementAndGet(), "N", LocalDateTime.now());
+                state.lines.put(productId, line);
+            }
+            line.refresh(product);
+            line.quantity = totalQuantity;
+            state.dirty = true;
+
+            return summarize(state, line);
+        });
+    }
+
+    public CartSummaryResponseDTO changeQuantity(int userId, int cartItemId, int quantity) {
+        if (quantity < 1) {
+            throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
+        }
+
+        return withCart(userId, state -> {
+            CartLine line = state.findLine(cartItemId)
+                    .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
+
+            ProductResponseDTO product = productService.findProductByProductId(line.productId);
+            if (quantity > product.getStockQuantity()) {
+                throw new IllegalArgumentException("상품의 재고가 부족합니다.");
+            }
+
+            line.refresh(product);
+            line.quantity = quantity;
+            state.dirty = true;
+
+            return summarize(state, line);
+        });
+    }
+
+    public CartSummaryResponseDTO changeCheckStatus(int userId, int cartItemId, String checkStatus) {
+        if (!"Y".equals(checkStatus) && !"N".equals(checkStatus)) {
+            throw new IllegalArgumentException("checkStatus는 'Y' 또는 'N' 이어야 합니다.");
+        }
+
+        return withCart(userId, state -> {
+            CartLine line = state.findLine(cartItemId)
+                    .orElseThrow(() -> new IllegalArgumentException("장바구니 상품을 찾을 수 없습니다."));
+
+            line.checkStatus = checkStatus;
+            state.dirty = true;
+
+            return summarize(state, line);
+        });
+    }
+
+    public void changeCheckStatusAll(int userId, String checkStatus) {
+        withCart(userId, state -> {
+            requireCart(state);
+            state.lines.values().forEach(line -> line.checkStatus = checkStatus);
+            state.dirty = true;
+            return null;
+        });
+    }
+
+    public void remove(int userId, int cartItemId) {
+        withCart(userId, state -> {
+            requireCart(state);
+            state.findLine(cartItemId).ifPresent(line -> {
+                state.lines.remove(line.productId);
+                state.dirty = true;
+            });
+            return null;
+        });
+    }
+
+    public void clear(int userId) {
+        withCart(userId, state -> {
+            requireCart(state);
+            state.lines.clear();
+            state.dirty = true;
+            return null;
+        });
+    }
+
+    // =========================================================
+    // 주문 연동
+    // =========================================================
+
+    /**
+     * 장바구니 주문 시작 (주문 트랜잭션 안에서 DB 를 읽기 전에 호출)
+     * - 사용자 장바구니를 주문 트랜잭션 안에서 DB 에 반영한다 → 주문은 방금 반영된 상태를 읽고, 커넥션도 하나만 쓴다.
+     * - 주문이 커밋되면 메모리에서 내린다. (다음 접근 시 DB 에서 다시 읽음) 롤백되면 메모리 상태는 dirty 그대로 남는다.
+     * - 주문 트랜잭션이 끝날 때까지 이 사용자의 장바구니 변경/반영만 기다리게 한다. (잠금은 반영하는 동안만 잡는다)
+     */
+    public void beginCheckout(int userId) {
+        if (!enabled) {
+            return;
+        }
+
+        boolean inTransaction = TransactionSynchronizationManager.isActualTransactionActive()
+                && TransactionSynchronizationManager.isSynchronizationActive();
+        ReentrantLock lock = lockFor(userId);
+        CountDownLatch latch = new CountDownLatch(1);
+        while (true) {
+            awaitCheckout(userId);
+            lock.lock();
+            try {
+                // 같은 사용자의 다른 주문이 먼저 시작됐으면 그 주문이 끝날 때까지 다시 기다린다
+                if (checkouts.containsKey(userId)) {
+                    continue;
+                }
+                CartState state;
+                synchronized (carts) {
+                    state = carts.get(userId);
+                }
+                if (!inTransaction) {
+                    // 트랜잭션 밖이면 바로 반영하고 내린다.
+                    if (state != null && state.dirty) {
+                        writeToDb(state);
+                    }
+                    synchronized (carts) {
+                        carts.remove(userId);
+                    }
+                    return;
+                }
+                if (state != null && state.dirty) {
+                    syncToDb(state);
+                }
+                checkouts.put(userId, latch);
+                break;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                lock.lock();
+                try {
+                    if (status == STATUS_COMMITTED) {
+                        synchronized (carts) {
+                            carts.remove(userId);
+                        }
+                    }
+                    checkouts.remove(userId, latch);
+                } finally {
+                    lock.unlock();
+                }
+                latch.countDown();
+            }
+        });
+    }
+
+    // =========================================================
+    // DB 반영
+    // =========================================================
+
+    /**
+     * 변경된 장바구니를 모아서 반영 (장바구니마다 별도 트랜잭션, 하나가 실패해도 나머지는 진행)
+     */
+    @Scheduled(fixedDelayString = "${fmmall.cart.write-behind.flush-interval-ms:1000}")
+    public void flushDirty() {
+        if (!enabled) {
+            return;
+        }
+
+        List<Integer> dirtyUserIds = new ArrayList<>();
+        synchronized (carts) {
+            carts.forEach((userId, state) -> {
+                if (state.dirty) {
+                    dirtyUserIds.add(userId);
+                }
+            });
+        }
+
+        for (Integer userId : dirtyUserIds) {
+            try {
+                flushUser(userId);
+            } catch (RuntimeException e) {
+                onFlushFailure(userId, e);
+            }
+        }
+
+        evictOverflow(null);
+    }
+
+    @PreDestroy
+    public void flushAllOnShutdown() {
+        flushDirty();
+    }
+
+    /**
+     * 사용자 장바구니 반영 (주문 중인 사용자는 주문 트랜잭션 안에서 이미 반영하므로 건너뛴다)
+     */
+    public void flushUser(int userId) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            if (checkouts.containsKey(userId)) {
+                return;
+            }
+            CartState state;
+            synchronized (carts) {
+                state = carts.get(userId);
+            }
+            if (state != null && state.dirty) {
+                writeToDb(state);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 반영 실패: max-flush-failures 번 연속이면 포기하고 메모리에서 내린다 (계속 dirty 로 남아 LRU 에서도 안 빠지는 것 방지)
+    private void onFlushFailure(int userId, RuntimeException e) {
+        ReentrantLock lock = lockFor(userId);
+        lock.lock();
+        try {
+            CartState state;
+            synchronized (carts) {
+                state = carts.get(userId);
+            }
+            if (state == null) {
+                return;
+            }
+            state.flushFailures++;
+            if (state.flushFailures < maxFlushFailures) {
+                log.warn("장바구니 반영 실패 ({}/{}), 다음 주기에 다시 시도합니다. userId={}",
+                        state.flushFailures, maxFlushFailures, userId, e);
+                return;
+            }
+            synchronized (carts) {
+                carts.remove(userId);
+            }
+            log.error("장바구니 반영 {}번 실패, 반영 안 된 변경을 버리고 메모리에서 내립니다. userId={}, cartId={}, 항목={}",
+                    state.flushFailures, userId, state.cartId, state.describeLines(), e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * 별도 트랜잭션으로 반영하고, 커밋된 뒤에만 새 항목 ID 를 채우고 dirty 를 푼다. (사용자 잠금을 잡은 상태에서만 호출)
+     */
+    private void writeToDb(CartState state) {
+        SyncResult result = flushTemplate.execute(status -> syncToDb(state));
+
+        state.cartId = result.cart().getCartId();
+        result.inserted().forEach((line, cartItem) -> line.cartItemId = cartItem.getCartItemId());
+        state.dirty = false;
+        state.flushFailures = 0;
+    }
+
+    /**
+     * 메모리 상태 전체를 cart / cart_item 에 맞춘다. (현재 트랜잭션 안에서, 사용자 잠금을 잡은 상태에서만 호출)
+     * - 그 사이 삭제된 상품의 항목은 메모리에서도 버린다. (다시 넣어 봐야 FK 때문에 계속 실패)
+     * - 메모리에 없는 상품 행 삭제(한 번에), 있는 행은 수량/선택 상태 갱신, 새 상품은 추가
+     */
+    private SyncResult syncToDb(CartState state) {
+
+        if (!state.lines.isEmpty()) {
+            Set<Integer> existingProductIds = new HashSet<>(productRepository.findExistingIds(state.lines.keySet()));
+            if (existingProductIds.size() < state.lines.size()) {
+                List<Integer> removedProductIds = state.lines.keySet().stream()
+                        .filter(productId -> !existingProductIds.contains(productId))
+                        .toList();
+                removedProductIds.forEach(state.lines::remove);
+                log.info("삭제된 상품을 장바구니에서 뺐습니다. userId={}, productIds={}", state.userId, removedProductIds);
+            }
+        }
+
+        Map<CartLine, CartItem> inserted = new HashMap<>();
+
+        Cart target = cartRepository.findByUser_UserId(state.userId)
+                .orElseGet(() -> cartRepository.save(new Cart(userRepository.getReferenceById(state.userId))));
+
+        Map<Integer, CartItem> existingByProductId = new HashMap<>();
+        List<CartItem> staleItems = new ArrayList<>();
+        for (CartItem cartItem : cartItemRepository.findByCart_CartId(target.getCartId())) {
+            int productId = cartItem.getProduct().getProductId();
+            if (!state.lines.containsKey(productId) || existingByProductId.putIfAbsent(productId, cartItem) != null) {
+                staleItems.add(cartItem);
+            }
+        }
+        if (!staleItems.isEmpty()) {
+            cartItemRepository.deleteAllInBatch(staleItems);
+        }
+
+        for (CartLine line : state.lines.values()) {
+            CartItem existing = existingByProductId.get(line.productId);
+            if (existing != null) {
+                existing.overwrite(line.quantity, line.checkStatus);
+                line.cartItemId = existing.getCartItemId();
+            } else {
+                inserted.put(line, CartItem.restore(target,
+                        productRepository.getReferenceById(line.productId), line.quantity, line.checkStatus));
+            }
+        }
+        cartItemRepository.saveAll(inserted.values());
+
+        return new SyncResult(target, inserted);
+    }
+
+    private record SyncResult(Cart cart, Map<CartLine, CartItem> inserted) {
+    }
+
+    // =========================================================
+    // 내부 도우미
+    // =========================================================
+
+    private <T> T withCart(int userId, Function<CartState, T> action) {
+        ReentrantLock lock = lockFor(userId);
+        while (true) {
+            awaitCheckout(userId);
+            lock.lock();
+            try {
+                // 잠금을 기다리는 사이 주문이 시작됐으면 다시 기다린다
+                if (!checkouts.containsKey(userId)) {
+                    return action.apply(getOrLoad(userId));
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    // 이 사용자의 주문 트랜잭션이 끝날 때까지 기다린다 (잠금을 잡지 않은 상태에서 호출)
+    private void awaitCheckout(int userId) {
+        CountDownLatch latch;
+        while ((latch = checkouts.get(userId)) != null) {
+            try {
+                latch.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("장바구니 주문 처리를 기다리는 중 중단되었습니다.", e);
+            }
+        }
+    }
+
+    private CartState getOrLoad(int userId) {
+        CartState state;
+        synchronized (carts) {
+            state = carts.get(userId);
+        }
+        if (state != null) {
+            return state;
+        }
+
+        state = load(userId);
+        synchronized (carts) {
+            carts.put(userId, state);
+        }
+        evictOverflow(userId);
+        return state;
+    }
+
+    private CartState load(int userId) {
+        CartState state = new CartState(userId);
+
+        Optional<Cart> cart = cartRepository.findByUser_UserId(userId);
+        if (cart.isEmpty()) {
+            if (!userRepository.existsById(userId)) {
+                throw new IllegalArgumentException("사용자를 찾을 수 없습니다.");
+            }
+            return state;
+        }
+
+        state.cartId = cart.get().getCartId();
+        for (CartItemResponseDTO row : cartItemRepository.findResponsesByCartId(state.cartId)) {
+            CartLine line = state.lines.get(row.getProductId());
+            if (line == null) {
+                state.lines.put(row.getProductId(), CartLine.loaded(row));
+            } else {
+                // 같은 상품이 여러 행이면 합쳐 두고, 반영할 때 한 행으로 정리한다.
+                line.quantity += row.getCartItemQuantity();
+                state.dirty = true;
+            }
+        }
+        return state;
+    }
+
+    /**
+     * max-carts 를 넘으면 오래 안 쓴 장바구니부터 내린다.
+     * - 아직 반영 안 된(dirty) 장바구니, 지금 다른 스레드가 쓰는 장바구니는 건너뛴다. (반영 후 다음 주기에 내림)
+     */
+    private void evictOverflow(Integer exceptUserId) {
+        synchronized (carts) {
+            Iterator<Map.Entry<Integer, CartState>> it = carts.entrySet().iterator();
+            while (carts.size() > maxCarts && it.hasNext()) {
+                Map.Entry<Integer, CartState> entry = it.next();
+                if (entry.getKey().equals(exceptUserId)) {
+                    continue;
+                }
+                ReentrantLock lock = lockFor(entry.getKey());
+                if (!lock.tryLock()) {
+                    continue;
+                }
+                try {
+                    if (!entry.getValue().dirty) {
+                        it.remove();
+                    }
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+
+    private ReentrantLock lockFor(int userId) {
+        return locks[Math.floorMod(userId, LOCK_STRIPES)];
+    }
+
+    private void requireCart(CartState state) {
+        if (state.cartId == null && state.lines.isEmpty()) {
+            throw new IllegalArgumentException("해당 사용자의 장바구니를 찾을 수 없습니다.");
+        }
+    }
+
+    private CartResponseDTO toResponse(CartState state) {
+        List<CartItemResponseDTO> itemList = state.lines.values().stream()
+                .map(CartLine::toResponse)
+                .toList();
+
+        return CartResponseDTO.builder()
+                .cartId(state.cartId == null ? 0 : state.cartId)
+                .itemList(itemList)
+                .totalItemCount(itemList.size())
+                .totalPrice(state.totalPrice())
+                .build();
+    }
+
+    private CartSummaryResponseDTO summarize(CartState state, CartLine line) {
+        return CartSummaryResponseDTO.builder()
+                .cartId(state.cartId == null ? 0 : state.cartId)
+                .changedItem(line.toResponse())
+                .totalItemCount(state.lines.size())
+                .totalPrice(state.totalPrice())
+                .build();
+    }
+
+    /**
+     * 사용자 한 명의 장바구니 (사용자 잠금을 잡은 상태에서만 읽고 쓴다)
+     */
+    private static final class CartState {
+
+        private final int userId;
+        private Integer cartId;                                             // 아직 DB 에 장바구니가 없으면 null
+        private final Map<Integer, CartLine> lines = new LinkedHashMap<>(); // 상품 ID → 항목 (담은 순서)
+        private boolean dirty;                                              // DB 에 반영 안 된 변경이 있는지
+        private int flushFailures;                                          // 연속 반영 실패 횟수
+
+        private CartState(int userId) {
+            this.userId = userId;
+        }
+
+        private Optional<CartLine> findLine(int cartItemId) {
+            if (cartItemId == 0) {
+                return Optional.empty();
+            }
+            return lines.values().stream()
+                    .filter(line -> line.cartItemId == cartItemId || line.tempId == cartItemId)
+                    .findFirst();
+        }
+
+        private int totalPrice() {
+            return lines.values().stream()
+                    .mapToInt(line -> line.productPrice * line.quantity)
+                    .sum();
+        }
+
+        // 포기할 때 로그용: 상품 ID x 수량
+        private String describeLines() {
+            return lines.values().stream()
+                    .map(line -> line.productId + "x" + line.quantity)
+                    .toList()
+                    .toString();
+        }
+    }
+
+    /**
+     * 장바구니 항목 하나 (상품명/가격은 마지막으로 읽은 상품 정보)
+     */
+    private static final class CartLine {
+
+        private final int productId;
+        private final int tempId;          // DB 반영 전 응답에 쓰는 임시 ID (반영 후에도 계속 찾을 수 있게 유지)
+        private final LocalDateTime addDate;
+        private int cartItemId;            // DB 반영 전이면 0
+        private String productName;
+        private int productPrice;
+        private int quantity;
+        private String checkStatus;
+
+        private CartLine(int productId, int tempId, String checkStatus, LocalDateTime addDate) {
+            this.productId = productId;
+            this.tempId = tempId;
+            this.checkStatus = checkStatus;
+            this.addDate = addDate;
+        }
+
+        private static CartLine loaded(CartItemResponseDTO row) {
+            CartLine line = new CartLine(row.getProductId(), 0, row.getCheckStatus(), row.getAddDate());
+            line.cartItemId = row.getCartItemId();
+            line.productName = row.getProductName();
+            line.productPrice = row.getProductPrice();
+            line.quantity = row.getCartItemQuantity();
+            return line;
+        }
+
+        private void refresh(ProductResponseDTO product) {
+            this.productName = product.getProductName();
+            this.productPrice = product.getProductPrice();
+        }
+
+        private CartItemResponseDTO toResponse() {
+            return CartItemResponseDTO.builder()
+                    .cartItemId(cartItemId != 0 ? cartItemId : tempId)
+                    .productId(productId)
+                    .productName(productName)
+                    .productPrice(productPrice)
+                    .cartItemQuantity(quantity)
+                    .totalPrice(productPrice * quantity)
+                    .checkStatus(checkStatus)
+                    .addDate(addDate)
+                    .build();
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.DTO.Inquiry.InquiryAnswerResponseDTO;
 import com.sesac.fmmall.DTO.Inquiry.InquiryModifyRequestDTO;
 import com.sesac.fmmall.DTO.Inquiry.InquiryRequestDTO;
 import com.sesac.fmmall.DTO.Inquiry.InquiryResponseDTO;
+import com.sesac.fmmall.DTO.Inquiry.InquiryWithAnswersResponseDTO;
 import com.sesac.fmmall.Entity.Inquiry;
+import com.sesac.fmmall.Entity.InquiryAnswer;
 import com.sesac.fmmall.Entity.Product;
 import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Repository.InquiryAnswerRepository;
 import com.sesac.fmmall.Repository.InquiryRepository;
 import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.UserRepository;
@@ -16,10 +20,17 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
 @Service
 @RequiredArgsConstructor
 public class InquiryService {
     private final InquiryRepository inquiryRepository;
+    private final InquiryAnswerRepository inquiryAnswerRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
 
@@ -72,6 +83,39 @@ public class InquiryService {
         return inquiryList.map(InquiryResponseDTO::from);
     }
 
+    /* 상품 Q&A 탭: 문의 한 페이지 + 답변 (답변은 IN 쿼리 한 번으로 일괄 조회) */
+    public Page<InquiryWithAnswersResponseDTO> findInquiryWithAnswersByProductId(int productId, int curPage) {
+
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다.");
+        }
+
+        int page = curPage <= 0 ? 0 : curPage - 1;
+        int size = 10;   // 문의는 한 페이지에 10개씩만
+
+        PageRequest pageRequest = PageRequest.of(page, size,
+                Sort.by("updatedAt").descending().and(Sort.by("inquiryId").descending()));
+
+        Page<Inquiry> inquiryList = inquiryRepository.findAllByProduct_ProductId(productId, pageRequest);
+        if (inquiryList.isEmpty()) {
+            return inquiryList.map(inquiry -> InquiryWithAnswersResponseDTO.from(inquiry, List.of()));
+        }
+
+        List<Integer> inquiryIds = inquiryList.getContent().stream()
+                .map(Inquiry::getInquiryId)
+                .collect(Collectors.toList());
+
+        // 답변은 이미 최신순으로 오므로 문의별로 묶기만 한다
+        Map<Integer, List<InquiryAnswerResponseDTO>> answersByInquiryId = new HashMap<>();
+        for (InquiryAnswer answer : inquiryAnswerRepository.findAllByInquiryIdIn(inquiryIds)) {
+            answersByInquiryId
+                    .computeIfAbsent(answer.getInquiry().getInquiryId(), id -> new ArrayList<>())
+                    .add(InquiryAnswerResponseDTO.from(answer));
+        }
+
+        return inquiryList.map(inquiry -> InquiryWithAnswersResponseDTO.from(
+                inquiry, answersByInquiryId.getOrDefault(inquiry.getInquiryId(), List.of())));
+    }
 
     /* 3. 문의 등록 */
     @Transactional
@@ -1,19 +1,19 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Cache.ProductCatalogCache;
 import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderHistoryPageResponse;
 import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
-import com.sesac.fmmall.DTO.Order.OrderItemResponse;
 import com.sesac.fmmall.DTO.Order.OrderResponse;
 import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
-import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
-import com.sesac.fmmall.DTO.Settlement.PaymentSummaryResponse;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
-import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -39,8 +39,11 @@ public class OrderService {
     private final AddressRepository addressRepository;
     private final PaymentMethodRepository paymentMethodRepository;
     private final CartRepository cartRepository;        // ✅ 장바구니 조회용
+    private final CartItemRepository cartItemRepository;  // 선택 항목 조회 / 주문 후 일괄 삭제
+    private final ProductStockService productStockService;  // 재고 샤딩 상품 차감/복구
+    private final ProductCatalogCache productCatalogCache;  // 재고 변경 시 상품 상세 캐시 제거
+    private final CartWriteBehindService cartWriteBehindService;  // 메모리 장바구니 반영 후 주문
 
-    private final ModelMapper modelMapper;
 
     // =========================================================
     // 1. 주문 생성 (사용자가 상품/수량을 직접 넘기는 방식)
@@ -52,11 +55,13 @@ public class OrderService {
      * - 요청 바디: OrderCreateRequest
      * - 흐름:
      *   1) userId로 User 조회
-     *   2) OrderCreateRequest 안의 items 를 돌면서 상품/수량 검증 + 재고 차감
+     *   2) OrderCreateRequest 안의 items 수량 검증 + 상품 일괄 조회(IN) 후 재고 예약(조건부 차감)
      *   3) Order & OrderItem 생성/저장
      *   4) 결제수단(PaymentMethod) 선택 + Payment 생성
+     * - 재고 차감이 조건부 UPDATE 라서 READ COMMITTED 로 실행한다.
+     *   (REPEATABLE READ 에서는 조건에 안 맞은 샤드 행도 잠긴 채 남아 샤드 전체 잠금과 교착될 수 있다)
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public OrderResponse createOrder(Integer userId, OrderCreateRequest request) {
 
         // 1. 사용자 조회
@@ -101,34 +106,35 @@ public class OrderService {
                 .user(user)
                 .build();
 
-        // 5. 주문상품 생성 + 재고 체크/차감
+        // 5. 주문 상품 수량 검증 + 상품별 요청 수량 합산
+        //    - 같은 상품이 여러 줄로 들어와도 재고는 합산 수량 기준으로 판단한다.
+        Map<Integer, Integer> qtyByProductId = new LinkedHashMap<>();
         for (OrderItemCreateRequest itemReq : request.getItems()) {
-
-            Product product = productRepository.findById(itemReq.getProductId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "존재하지 않는 상품입니다. productId=" + itemReq.getProductId()));
-
             Integer qty = itemReq.getQuantity();
             if (qty == null || qty < 1) {
                 throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
             }
+            qtyByProductId.merge(itemReq.getProductId(), qty, Integer::sum);
+        }
 
-            // 재고 부족 체크
-            if (product.getStockQuantity() < qty) {
-                throw new IllegalArgumentException(
-                        "상품 재고가 부족합니다. productId=" + product.getProductId()
-                                + ", stock=" + product.getStockQuantity()
-                                + ", requested=" + qty
-                );
+        // 6. 주문 상품 일괄 조회 (줄마다 findById 하지 않고 IN 쿼리 한 번으로 조회)
+        Map<Integer, Product> productById = productRepository.findAllById(qtyByProductId.keySet()).stream()
+                .collect(Collectors.toMap(Product::getProductId, product -> product));
+
+        // 7. 상품 존재 여부 확인 후 재고 예약 (조건부 UPDATE 한 번)
+        for (Integer productId : qtyByProductId.keySet()) {
+            if (!productById.containsKey(productId)) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다. productId=" + productId);
             }
+        }
+        reserveStock(qtyByProductId, productById);
 
-            // 재고 차감
-            product.setStockQuantity(product.getStockQuantity() - qty);
+        // 8. OrderItem 생성 (요청 순서대로)
+        for (OrderItemCreateRequest itemReq : request.getItems()) {
 
-            // OrderItem 생성
             OrderItem orderItem = OrderItem.builder()
-                    .product(product)
-                    .quantity(qty)
+                    .product(productById.get(itemReq.getProductId()))
+                    .quantity(itemReq.getQuantity())
                     .deliveryDate(null)
                     .installationDate(null)
                     .build();
@@ -137,13 +143,13 @@ public class OrderService {
             order.addOrderItem(orderItem);
         }
 
-        // 6. 주문 총 금액 계산
+        // 9. 주문 총 금액 계산
         order.setTotalPrice(order.calculateTotalPrice());
 
-        // 7. 주문 저장
+        // 10. 주문 저장
         Order savedOrder = orderRepository.save(order);
 
-        // 8. 결제수단 선택 (paymentMethodId 있으면 그 카드, 없으면 기본 카드)
+        // 11. 결제수단 선택 (paymentMethodId 있으면 그 카드, 없으면 기본 카드)
         PaymentMethod paymentMethod;
         if (request.getPaymentMethodId() != null) {
             paymentMethod = paymentMethodRepository.findById(request.getPaymentMethodId())
@@ -161,7 +167,7 @@ public class OrderService {
                             "기본 결제수단이 설정되어 있지 않습니다. paymentMethodId를 지정하거나 기본 결제수단을 등록해주세요."));
         }
 
-        // 9. 결제 생성 (결제 성공 가정)
+        // 12. 결제 생성 (결제 성공 가정)
         Payment payment = Payment.builder()
                 .paymentMethodType(paymentMethod.getCardCompany())  // 예: "HyundaiCard"
                 .paidAt(LocalDateTime.now())
@@ -171,8 +177,8 @@ public class OrderService {
         Payment savedPayment = paymentRepository.save(payment);
         savedOrder.setPayment(savedPayment);
 
-        // 10. DTO 변환 후 반환
-        return mapToOrderResponse(savedOrder);
+        // 13. DTO 변환 후 반환
+        return OrderResponse.from(savedOrder);
     }
 
     // =========================================================
@@ -185,15 +191,20 @@ public class OrderService {
      * - 요청 바디: CartOrderCreateRequest
      * - 흐름:
      *   1) userId로 User + Cart 조회
-     *   2) Cart 안의 CartItem 중 checkStatus = 'Y' 인 것만 주문에 포함
+     *   2) Cart 안의 CartItem 중 checkStatus = 'Y' 인 것만 상품과 함께 조회 (없으면 예외)
      *   3) 배송지/결제수단 선택
-     *   4) Order & OrderItem 생성 + 재고 차감
+     *   4) Order & OrderItem 생성 + 재고 예약 (조건부 UPDATE 한 번)
      *   5) Payment 생성
-     *   6) 주문에 사용된 CartItem 은 장바구니에서 제거
+     *   6) 주문에 사용된 CartItem 은 장바구니에서 일괄 삭제 (DELETE 한 번)
+     * - 재고 차감 때문에 READ COMMITTED (createOrder 참고)
      */
-    @Transactional
+    @Transactional(isolation = Isolation.READ_COMMITTED)
     public OrderResponse createOrderFromCart(Integer userId, CartOrderCreateRequest request) {
 
+        // 0. 메모리 장바구니를 이 주문 트랜잭션 안에서 먼저 DB 에 반영하고, 주문이 끝날 때까지 이 사용자의 장바구니 변경을 막는다.
+        //    (첫 조회보다 먼저 호출해야 주문 트랜잭션이 반영된 장바구니를 읽는다)
+        cartWriteBehindService.beginCheckout(userId);
+
         // 1. 사용자 조회
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다. userId=" + userId));
@@ -203,13 +214,12 @@ public class OrderService {
                 .orElseThrow(() -> new IllegalArgumentException("장바구니가 존재하지 않습니다. userId=" + userId));
 
         // 3. 주문에 사용할 CartItem 선택
-        //    - checkStatus = 'Y' 인 것만 주문에 포함
-        //    - 만약 "장바구니 전체 주문"으로 바꾸고 싶으면 이 filter 제거 후 cart.getCartItems() 전체 사용
-        List<CartItem> selectedItems = cart.getCartItems().stream()
-
-                .collect(Collectors.toList());
-
+        //    - checkStatus = 'Y' 인 것만, 상품과 함께 쿼리 한 번으로 조회 (장바구니 전체를 읽지 않음)
+        List<CartItem> selectedItems = cartItemRepository.findCheckedWithProductByCartId(cart.getCartId());
 
+        if (selectedItems.isEmpty()) {
+            throw new IllegalArgumentException("주문할 장바구니 상품을 선택해주세요.");
+        }
 
         // 4. 배송지 선택 (addressId 있으면 해당 주소, 없으면 기본 배송지 사용)
         Address shippingAddress;
@@ -241,7 +251,9 @@ public class OrderService {
                 .user(user)
                 .build();
 
-        // 6. CartItem -> OrderItem 변환 + 재고 체크/차감
+        // 6. CartItem 검증 + 상품별 수량 합산
+        Map<Integer, Integer> qtyByProductId = new LinkedHashMap<>();
+        Map<Integer, Product> productById = new HashMap<>();
         for (CartItem cartItem : selectedItems) {
 
             Product product = cartItem.getProduct();
@@ -255,21 +267,19 @@ public class OrderService {
                 throw new IllegalArgumentException("상품 수량은 1개 이상이어야 합니다.");
             }
 
-            if (product.getStockQuantity() < qty) {
-                throw new IllegalArgumentException(
-                        "상품 재고가 부족합니다. productId=" + product.getProductId()
-                                + ", stock=" + product.getStockQuantity()
-                                + ", requested=" + qty
-                );
-            }
+            qtyByProductId.merge(product.getProductId(), qty, Integer::sum);
+            productById.putIfAbsent(product.getProductId(), product);
+        }
+
+        // 재고 예약 (조건부 UPDATE 한 번)
+        reserveStock(qtyByProductId, productById);
 
-            // 재고 차감
-            product.setStockQuantity(product.getStockQuantity() - qty);
+        // CartItem -> OrderItem 변환
+        for (CartItem cartItem : selectedItems) {
 
-            // OrderItem 생성
             OrderItem orderItem = OrderItem.builder()
-                    .product(product)
-                    .quantity(qty)
+                    .product(cartItem.getProduct())
+                    .quantity(cartItem.getCartItemQuantity())
                     .deliveryDate(null)
                     .installationDate(null)
                     .build();
@@ -311,13 +321,14 @@ public class OrderService {
         Payment savedPayment = paymentRepository.save(payment);
         savedOrder.setPayment(savedPayment);
 
-        // 11. 주문에 사용된 CartItem 들을 장바구니에서 제거
-        //     Cart.cartItems는 orphanRemoval = true 이므로
-        //     리스트에서 제거하면 DB에서도 자동 삭제된다.
-        cart.getCartItems().removeAll(selectedItems);
+        // 11. 주문에 사용된 CartItem 들을 장바구니에서 제거 (DELETE 한 번)
+        //     선택되지 않은 항목은 장바구니에 그대로 남는다.
+        cartItemRepository.deleteByCartItemIdIn(selectedItems.stream()
+                .map(CartItem::getCartItemId)
+                .toList());
 
         // 12. DTO 변환 후 반환
-        return mapToOrderResponse(savedOrder);
+        return OrderResponse.from(savedOrder);
     }
 
     // =========================================================
@@ -327,15 +338,82 @@ public class OrderService {
     /**
      * 특정 사용자의 전체 주문 목록 (요약 정보)
      * - URL: GET /Order/findAll
+     * - 주문 수와 관계없이 쿼리 2번으로 조회한다.
+     *   1) 주문 헤더 (주문번호/금액/일시)
+     *   2) 주문별 · 상품명별 수량 합계 집계
      */
     @Transactional
     public List<OrderSummaryResponse> getOrdersByUser(Integer userId) {
 
-        List<Order> orders = orderRepository.findByUser_UserId(userId);
+        List<OrderSummaryResponse> summaries = orderRepository.findSummariesByUserId(userId);
+        if (summaries.isEmpty()) {
+            return summaries;
+        }
 
-        return orders.stream()
-                .map(this::mapToOrderSummaryResponse)
-                .collect(Collectors.toList());
+        fillItemSummaries(summaries, orderItemRepository.sumQuantityByOrderAndProductName(userId));
+        return summaries;
+    }
+
+    /**
+     * 주문 내역 (커서 기반 페이지, 최신순)
+     * - URL: GET /Order/history?size=&cursorCreatedAt=&cursorOrderId=
+     * - (user_id, created_at, order_id) 인덱스를 커서 위치부터 size + 1 개만 읽는다.
+     *   → 몇 번째 페이지든 조회 비용이 같고, 새 주문이 들어와도 이미 본 페이지가 밀리지 않는다.
+     */
+    @Transactional
+    public OrderHistoryPageResponse getOrderHistory(Integer userId, int size,
+                                                    LocalDateTime cursorCreatedAt, Integer cursorOrderId) {
+
+        int pageSize = Math.min(Math.max(size, 1), 100);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<OrderSummaryResponse> rows;
+        if (cursorCreatedAt == null || cursorOrderId == null) {
+            rows = orderRepository.findHistoryFirstPage(userId, limit);
+        } else {
+            rows = orderRepository.findHistoryAfterCursor(userId, cursorCreatedAt, cursorOrderId, limit);
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<OrderSummaryResponse> page = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+        if (!page.isEmpty()) {
+            List<Integer> orderIds = page.stream()
+                    .map(OrderSummaryResponse::getOrderId)
+                    .collect(Collectors.toList());
+            fillItemSummaries(page, orderItemRepository.sumQuantityByOrderAndProductNameIn(orderIds));
+        }
+
+        OrderSummaryResponse last = hasNext ? page.get(page.size() - 1) : null;
+
+        return OrderHistoryPageResponse.builder()
+                .orders(page)
+                .hasNext(hasNext)
+                .nextCursorCreatedAt(last != null ? last.getCreatedAt() : null)
+                .nextCursorOrderId(last != null ? last.getOrderId() : null)
+                .build();
+    }
+
+    /**
+     * 주문별 · 상품명별 수량 집계 결과([orderId, productName, quantity합])를 요약 DTO 에 채운다.
+     */
+    private void fillItemSummaries(List<OrderSummaryResponse> summaries, List<Object[]> rows) {
+
+        Map<Integer, OrderSummaryResponse> summaryByOrderId = new HashMap<>();
+        for (OrderSummaryResponse summary : summaries) {
+            summaryByOrderId.put(summary.getOrderId(), summary);
+        }
+
+        for (Object[] row : rows) {
+            OrderSummaryResponse summary = summaryByOrderId.get((Integer) row[0]);
+            if (summary == null) {
+                continue;   // 헤더 조회 이후에 생긴 주문
+            }
+            summary.getProductNames().add((String) row[1]);
+            summary.setTotalQuantity(summary.getTotalQuantity() + ((Number) row[2]).intValue());
+        }
     }
 
     /**
@@ -353,7 +431,7 @@ public class OrderService {
             throw new IllegalArgumentException("본인의 주문만 조회할 수 있습니다.");
         }
 
-        return mapToOrderResponse(order);
+        return OrderResponse.from(order);
     }
 
     /**
@@ -363,21 +441,11 @@ public class OrderService {
     @Transactional
     public List<OrderResponse> getOrdersByUserAndProduct(Integer userId, Integer productId) {
 
-        // productId 기준으로 주문상품 조회
-        List<OrderItem> orderItems = orderItemRepository.findByProduct_ProductId(productId);
-
-        // userId로 필터링 + 주문 중복 제거
-        Map<Integer, Order> uniqueOrders = new LinkedHashMap<>();
+        // 사용자 + 상품 기준으로 주문만 조회 (다른 사용자의 주문상품은 읽지 않음)
+        List<Order> orders = orderRepository.findByUserIdAndProductId(userId, productId);
 
-        for (OrderItem item : orderItems) {
-            Order order = item.getOrder();
-            if (order.getUser().getUserId() == userId) {
-                uniqueOrders.putIfAbsent(order.getOrderId(), order);
-            }
-        }
-
-        return uniqueOrders.values().stream()
-                .map(this::mapToOrderResponse)
+        return orders.stream()
+                .map(OrderResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -422,10 +490,13 @@ public class OrderService {
             throw new IllegalStateException("이미 배송이 시작되었거나 완료된 상품이 있어 주문 취소가 불가능합니다. 환불을 이용해주세요.");
         }
 
-        // 재고 복구
+        // 재고 복구 (UPDATE 로 원자적으로 더한다)
         for (OrderItem item : order.getOrderItems()) {
             Product product = item.getProduct();
-            product.setStockQuantity(product.getStockQuantity() + item.getQuantity());
+            productStockService.release(product, item.getQuantity());
+            if (!product.isStockSharded()) {
+                productCatalogCache.evict(product.getProductId());   // 샤딩 상품은 리밸런싱 때 제거
+            }
         }
 
         // 결제 삭제
@@ -440,95 +511,48 @@ public class OrderService {
     }
 
     // =========================================================
-    // 5. 엔티티 → DTO 매핑 메서드
+    // 5. 재고 예약
     // =========================================================
 
     /**
-     * 상세 조회용 DTO 매핑
+     * 재고 예약 (조건부 차감)
+     * - 주문에 포함된 모든 상품을 UPDATE 한 번으로 "재고 >= 요청 수량" 인 경우에만 차감한다.
+     * - 재고 샤딩 모드 상품은 ProductStockService 가 샤드 단위로 차감한다.
+     * - 한 상품이라도 차감되지 않으면 예외 → 트랜잭션 롤백으로 먼저 차감된 상품도 원복된다.
+     * - 읽기-수정-쓰기 방식이 아니므로 동시 주문에서도 초과 판매가 발생하지 않는다.
      */
-    private OrderResponse mapToOrderResponse(Order order) {
-
-        // 기본 필드는 ModelMapper로 매핑
-        OrderResponse dto = modelMapper.map(order, OrderResponse.class);
-
-        // 이름이 다른 필드 수동 보정
-        dto.setOrderId(order.getOrderId());
-        dto.setUserId(order.getUser().getUserId());
-
-        // 주문상품 리스트 매핑
-        List<OrderItemResponse> itemDtos = order.getOrderItems().stream()
-                .map(this::mapToOrderItemResponse)
-                .collect(Collectors.toList());
-        dto.setItems(itemDtos);
-
-        // 결제 요약 매핑
-        PaymentSummaryResponse paymentDto = null;
-        if (order.getPayment() != null) {
-            paymentDto = modelMapper.map(order.getPayment(), PaymentSummaryResponse.class);
-            paymentDto.setPaymentId(order.getPayment().getPaymentId());
+    private void reserveStock(Map<Integer, Integer> qtyByProductId, Map<Integer, Product> productById) {
+
+        // 샤딩 모드 상품은 샤드에서 차감, 나머지는 모아서 단일 UPDATE
+        // 샤드 잠금이 여러 상품에 걸칠 때도 순서가 같도록 상품 번호순으로 처리한다.
+        Map<Integer, Integer> singleRowQty = new LinkedHashMap<>();
+        new TreeMap<>(qtyByProductId).forEach((productId, qty) -> {
+            Product product = productById.get(productId);
+            if (product.isStockSharded()) {
+                productStockService.reserveFromShards(product, qty);
+            } else {
+                singleRowQty.put(productId, qty);
+            }
+        });
+
+        int reserved = productRepository.decreaseStockIfEnough(singleRowQty);
+
+        if (reserved != singleRowQty.size()) {
+            // 에러 메시지용: 읽어둔 재고 기준으로 부족한 상품을 찾는다 (동시 주문으로 값이 바뀌었을 수 있음)
+            for (Map.Entry<Integer, Integer> entry : singleRowQty.entrySet()) {
+                Product product = productById.get(entry.getKey());
+                if (product.getStockQuantity() < entry.getValue()) {
+                    throw new IllegalArgumentException(
+                            "상품 재고가 부족합니다. productId=" + product.getProductId()
+                                    + ", stock=" + product.getStockQuantity()
+                                    + ", requested=" + entry.getValue()
+                    );
+                }
+            }
+            throw new IllegalArgumentException("상품 재고가 부족합니다. 다른 주문으로 재고가 소진되었습니다.");
         }
-        dto.setPayment(paymentDto);
-
-        // 환불 요약 리스트 매핑
-        List<RefundSummaryResponse> refundDtos = order.getRefunds().stream()
-                .map(this::mapToRefundSummaryResponse)
-                .collect(Collectors.toList());
-        dto.setRefunds(refundDtos);
-
-        return dto;
-    }
-
-    /**
-     * 목록(요약) 조회용 DTO 매핑
-     */
-    private OrderSummaryResponse mapToOrderSummaryResponse(Order order) {
-
-        // 주문에 포함된 총 상품 수량
-        int totalQuantity = order.getOrderItems().stream()
-                .mapToInt(OrderItem::getQuantity)
-                .sum();
 
-        // 주문에 포함된 상품명 목록 (중복 제거)
-        List<String> productNames = order.getOrderItems().stream()
-                .map(oi -> oi.getProduct().getName())   // ⚠ Product 엔티티 필드명에 맞게 수정
-                .distinct()
-                .collect(Collectors.toList());
-
-        return OrderSummaryResponse.builder()
-                .orderId(order.getOrderId())
-                .totalPrice(order.getTotalPrice())
-                .createdAt(order.getCreatedAt())
-                .totalQuantity(totalQuantity)
-                .productNames(productNames)
-                .build();
-    }
-
-    /**
-     * 주문상품 상세 DTO 매핑
-     */
-    private OrderItemResponse mapToOrderItemResponse(OrderItem item) {
-
-        OrderItemResponse dto = modelMapper.map(item, OrderItemResponse.class);
-
-        dto.setOrderItemId(item.getOrderItemId());
-        dto.setProductId(item.getProduct().getProductId());
-        dto.setProductName(item.getProduct().getName());   // ⚠ Product 엔티티 필드명에 맞게
-        dto.setProductPrice(item.getProduct().getPrice()); // ⚠ Product 엔티티 필드명에 맞게
-        dto.setLineTotalPrice(item.calculateLineTotalPrice());
-
-        return dto;
-    }
-
-    /**
-     * 환불 요약 DTO 매핑
-     */
-    private RefundSummaryResponse mapToRefundSummaryResponse(Refund refund) {
-
-        return RefundSummaryResponse.builder()
-                .refundId(refund.getRefundId())
-                .refundType(refund.getRefundType().name())
-                .totalAmount(refund.getTotalAmount())
-                .isTrue(refund.getIsTrue().name())
-                .build();
+        // 표시 재고가 바뀐 상품만 상세 캐시 제거 (샤딩 상품의 표시 재고는 리밸런싱 때 바뀐다)
+        singleRowQty.keySet().forEach(productCatalogCache::evict);
     }
 }
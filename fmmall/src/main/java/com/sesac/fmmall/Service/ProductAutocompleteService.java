@@ -0,0 +1,173 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.SuggestionType;
+import com.sesac.fmmall.DTO.Product.AutocompleteSuggestionDTO;
+import com.sesac.fmmall.Entity.Brand;
+import com.sesac.fmmall.Repository.BrandRepository;
+import com.sesac.fmmall.Repository.OrderItemRepository;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Search.AutocompleteTrie;
+import com.sesac.fmmall.Search.ProductSearchDocument;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 자동완성 (상품명 / 모델명 / 브랜드명, 판매량 순)
+ * - 조회는 메모리 트라이만 읽고 DB 에 가지 않는다.
+ * - 기동 시 전체를 만들고, 판매량이 바뀌므로 주기적으로 다시 만든다.
+ * - 상품 등록/수정/삭제(ProductService)는 커밋 후 해당 상품의 제안만 바꾼다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductAutocompleteService {
+
+    private final ProductRepository productRepository;
+    private final BrandRepository brandRepository;
+    private final OrderItemRepository orderItemRepository;
+
+    @Value("${fmmall.search.rebuild-batch-size:5000}")
+    private int rebuildBatchSize;
+
+    private volatile AutocompleteTrie trie = new AutocompleteTrie();
+
+    private volatile boolean rebuilding;
+    private final Set<Integer> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /* 입력으로 시작하는 제안 (최대 10개) */
+    public List<AutocompleteSuggestionDTO> suggest(String query, int limit) {
+        int size = Math.min(Math.max(limit, 1), AutocompleteTrie.MAX_SUGGESTIONS);
+        return trie.suggest(query, size).stream()
+                .map(AutocompleteSuggestionDTO::from)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 상품 등록/수정 후 호출 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void refreshAfterCommit(int productId) {
+        runAfterCommit(() -> refresh(productId));
+    }
+
+    /**
+     * 상품 삭제 후 호출 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void removeAfterCommit(int productId) {
+        runAfterCommit(() -> {
+            if (rebuilding) {
+                changedDuringRebuild.add(productId);
+            }
+            removeProduct(trie, productId);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${fmmall.autocomplete.rebuild-interval-ms:600000}",
+            initialDelayString = "${fmmall.autocomplete.rebuild-interval-ms:600000}")
+    public synchronized int rebuild() {
+        long startedAt = System.nanoTime();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            AutocompleteTrie fresh = new AutocompleteTrie();
+
+            Map<Integer, Long> brandSales = toSalesMap(orderItemRepository.sumQuantityGroupByBrand());
+            for (Brand brand : brandRepository.findAll()) {
+                fresh.put(AutocompleteTrie.Suggestion.of(SuggestionType.BRAND, brand.getBrandId(), brand.getName(),
+                        brandSales.getOrDefault(brand.getBrandId(), 0L)));
+            }
+
+            Map<Integer, Long> productSales = toSalesMap(orderItemRepository.sumQuantityGroupByProduct());
+            int afterProductId = 0;
+            while (true) {
+                List<ProductSearchDocument> batch =
+                        productRepository.findSearchDocuments(afterProductId, PageRequest.of(0, rebuildBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                for (ProductSearchDocument document : batch) {
+                    putProduct(fresh, document, productSales.getOrDefault(document.productId(), 0L));
+                }
+                afterProductId = batch.get(batch.size() - 1).productId();
+            }
+            trie = fresh;
+        } finally {
+            rebuilding = false;
+        }
+
+        // 재구축 중에 바뀐 상품은 새 트라이에 다시 반영
+        for (Integer productId : changedDuringRebuild) {
+            refresh(productId);
+        }
+        changedDuringRebuild.clear();
+
+        AutocompleteTrie current = trie;
+        log.info("상품 자동완성 구축: 제안 {}개, 노드 {}개 ({}ms)",
+                current.size(), current.nodeCount(), (System.nanoTime() - startedAt) / 1_000_000);
+        return current.size();
+    }
+
+    private void refresh(int productId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(productId);
+        }
+        AutocompleteTrie current = trie;
+        productRepository.findSearchDocument(productId).ifPresentOrElse(
+                document -> putProduct(current, document, orderItemRepository.sumQuantityByProductId(productId)),
+                () -> removeProduct(current, productId));
+    }
+
+    private static void putProduct(AutocompleteTrie target, ProductSearchDocument document, long sales) {
+        target.put(AutocompleteTrie.Suggestion.of(SuggestionType.PRODUCT, document.productId(), document.name(), sales));
+        if (document.modelName() != null && !document.modelName().isBlank()) {
+            target.put(AutocompleteTrie.Suggestion.of(SuggestionType.MODEL, document.productId(), document.modelName(), sales));
+        } else {
+            target.remove(AutocompleteTrie.Suggestion.idOf(SuggestionType.MODEL, document.productId()));
+        }
+    }
+
+    private static void removeProduct(AutocompleteTrie target, int productId) {
+        target.remove(AutocompleteTrie.Suggestion.idOf(SuggestionType.PRODUCT, productId));
+        target.remove(AutocompleteTrie.Suggestion.idOf(SuggestionType.MODEL, productId));
+    }
+
+    private static Map<Integer, Long> toSalesMap(List<Object[]> rows) {
+        Map<Integer, Long> sales = new HashMap<>();
+        for (Object[] row : rows) {
+            sales.put((Integer) row[0], ((Number) row[1]).longValue());
+        }
+        return sales;
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Cache.ProductCatalogCache;
+import com.sesac.fmmall.Entity.ProductRatingSummary;
+import com.sesac.fmmall.Repository.ProductRatingSummaryRepository;
+import com.sesac.fmmall.Repository.ReviewRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품별 리뷰 평점 집계 (product_rating_summary)
+ * - 리뷰 등록/수정/삭제 시 증감분을 upsert 한 번으로 반영한다. (리뷰 트랜잭션 안에서 함께 커밋/롤백)
+ * - 평점이 없는(null) 리뷰는 집계하지 않는다. 1~5점 분포는 반올림한 점수 기준이다.
+ * - 주기적으로 리뷰 테이블에서 다시 계산해 어긋난 집계를 바로잡는다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductRatingService {
+
+    private final ProductRatingSummaryRepository productRatingSummaryRepository;
+    private final ReviewRepository reviewRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final TransactionTemplate transactionTemplate;
+
+    @Transactional
+    public void onReviewAdded(int productId, Double rating) {
+        if (rating == null) {
+            return;
+        }
+        productRatingSummaryRepository.applyDelta(productId, 1, rating, bucket(rating));
+        productCatalogCache.evict(productId);
+    }
+
+    @Transactional
+    public void onReviewRemoved(int productId, Double rating) {
+        if (rating == null) {
+            return;
+        }
+        productRatingSummaryRepository.applyDelta(productId, -1, -rating, bucket(rating));
+        productCatalogCache.evict(productId);
+    }
+
+    @Transactional
+    public void onReviewChanged(int productId, Double oldRating, Double newRating) {
+        if (Objects.equals(oldRating, newRating)) {
+            return;
+        }
+        onReviewRemoved(productId, oldRating);
+        onReviewAdded(productId, newRating);
+    }
+
+    // 리뷰 전체 삭제 시 집계도 비운다.
+    @Transactional
+    public void onAllReviewsDeleted() {
+        productRatingSummaryRepository.deleteAllInBatch();
+        productCatalogCache.evictAll();
+    }
+
+    // 평점 집계 일괄 조회 (상품 목록용, IN 쿼리 한 번)
+    public Map<Integer, ProductRatingSummary> findSummaries(Collection<Integer> productIds) {
+        if (productIds.isEmpty()) {
+            return Map.of();
+        }
+        return productRatingSummaryRepository.findAllById(productIds).stream()
+                .collect(Collectors.toMap(ProductRatingSummary::getProductId, Function.identity()));
+    }
+
+    public Optional<ProductRatingSummary> findSummary(int productId) {
+        return productRatingSummaryRepository.findById(productId);
+    }
+
+    /**
+     * 주기적 재계산
+     * - 평점 리뷰가 있거나 집계 행이 있는 상품마다 별도 트랜잭션으로 다시 계산한다.
+     * - 집계 행을 먼저 잠그므로, 그 사이 들어오는 증감분은 재계산 결과 위에 반영된다.
+     * @return 값이 달라서 바로잡은 상품 수
+     */
+    @Scheduled(fixedDelayString = "${fmmall.review.rating.reconcile-interval-ms:3600000}")
+    public int reconcileAll() {
+        TreeSet<Integer> productIds = new TreeSet<>(reviewRepository.findRatedProductIds());
+        productIds.addAll(productRatingSummaryRepository.findAllProductIds());
+
+        int corrected = 0;
+        for (Integer productId : productIds) {
+            if (Boolean.TRUE.equals(transactionTemplate.execute(status -> reconcile(productId)))) {
+                corrected++;
+            }
+        }
+
+        if (corrected > 0) {
+            log.warn("상품 평점 집계 재계산: {}개 상품의 집계를 바로잡았습니다.", corrected);
+        }
+        return corrected;
+    }
+
+    private boolean reconcile(int productId) {
+        Optional<ProductRatingSummary> current = productRatingSummaryRepository.findForUpdate(productId);
+        Object[] row = reviewRepository.aggregateRatingsByProductId(productId).get(0);
+
+        int reviewCount = ((Number) row[0]).intValue();
+        double ratingSum = ((Number) row[1]).doubleValue();
+        int[] counts = new int[5];
+        for (int i = 0; i < 5; i++) {
+            counts[i] = ((Number) row[i + 2]).intValue();
+        }
+
+        if (current.isPresent() && matches(current.get(), reviewCount, ratingSum, counts)) {
+            return false;
+        }
+        if (current.isEmpty() && reviewCount == 0) {
+            return false;
+        }
+
+        productRatingSummaryRepository.overwrite(productId, reviewCount, ratingSum,
+                counts[0], counts[1], counts[2], counts[3], counts[4]);
+        productCatalogCache.evict(productId);
+        return true;
+    }
+
+    private boolean matches(ProductRatingSummary summary, int reviewCount, double ratingSum, int[] counts) {
+        return summary.getReviewCount() == reviewCount
+                && Math.abs(summary.getRatingSum() - ratingSum) < 1e-6
+                && summary.getRatingCounts().equals(List.of(counts[0], counts[1], counts[2], counts[3], counts[4]));
+    }
+
+    // 1~5점 분포 칸 (반올림, 재계산 쿼리의 구간과 같은 기준)
+    private int bucket(double rating) {
+        return (int) Math.min(5, Math.max(1, Math.round(rating)));
+    }
+}
@@ -0,0 +1,167 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.ProductRatingSummary;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Search.ProductSearchDocument;
+import com.sesac.fmmall.Search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 상품 검색 (인메모리 역색인)
+ * - 기동 시 전체 상품을 상품 번호순으로 나눠 읽어 색인을 만들고, 주기적으로 다시 만든다.
+ *   (브랜드/카테고리 이름 변경처럼 상품 쓰기를 거치지 않는 변경은 재구축 때 반영)
+ * - 상품 등록/수정/삭제(ProductService)는 커밋 후 해당 상품만 다시 색인한다.
+ * - 재구축 중에 바뀐 상품은 새 색인으로 바꾼 뒤 한 번 더 반영해서 누락되지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+    private final ProductRepository productRepository;
+    private final ProductRatingService productRatingService;
+
+    @Value("${fmmall.search.rebuild-batch-size:5000}")
+    private int rebuildBatchSize;
+
+    private volatile ProductSearchIndex index = new ProductSearchIndex();
+
+    private volatile boolean rebuilding;
+    private final Set<Integer> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+    /* 검색 (점수 높은 순 페이지) */
+    @Transactional(readOnly = true)
+    public Page<ProductResponseDTO> search(String query, int curPage, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+
+        int page = curPage <= 0 ? 0 : curPage - 1;
+        int pageSize = Math.min(Math.max(size, 1), 100);   // 한 페이지 최대 100개
+
+        ProductSearchIndex.SearchResult result = index.search(query, page * pageSize, pageSize);
+        List<Integer> productIds = result.hits().stream()
+                .map(ProductSearchIndex.SearchHit::productId)
+                .collect(Collectors.toList());
+
+        List<ProductResponseDTO> content = new ArrayList<>();
+        if (!productIds.isEmpty()) {
+            // 상품/평점은 페이지 상품들만 IN 쿼리로 읽고, 순서는 검색 점수 순서를 따른다
+            Map<Integer, Product> products = productRepository.findAllById(productIds).stream()
+                    .collect(Collectors.toMap(Product::getProductId, Function.identity()));
+            Map<Integer, ProductRatingSummary> ratings = productRatingService.findSummaries(productIds);
+
+            for (Integer productId : productIds) {
+                Product product = products.get(productId);
+                if (product != null) {
+                    content.add(ProductResponseDTO.from(product).withRating(ratings.get(productId)));
+                }
+            }
+        }
+
+        return new PageImpl<>(content, PageRequest.of(page, pageSize), result.total());
+    }
+
+    /**
+     * 상품 등록/수정 후 호출 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void reindexAfterCommit(int productId) {
+        runAfterCommit(() -> reindex(productId));
+    }
+
+    /**
+     * 상품 삭제 후 호출 (트랜잭션 안이면 커밋 후에 반영)
+     */
+    public void removeAfterCommit(int productId) {
+        runAfterCommit(() -> {
+            if (rebuilding) {
+                changedDuringRebuild.add(productId);
+            }
+            index.remove(productId);
+        });
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildOnStartup() {
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${fmmall.search.rebuild-interval-ms:3600000}",
+            initialDelayString = "${fmmall.search.rebuild-interval-ms:3600000}")
+    public synchronized int rebuild() {
+        long startedAt = System.nanoTime();
+        changedDuringRebuild.clear();
+        rebuilding = true;
+        try {
+            ProductSearchIndex fresh = new ProductSearchIndex();
+            int afterProductId = 0;
+            while (true) {
+                List<ProductSearchDocument> batch =
+                        productRepository.findSearchDocuments(afterProductId, PageRequest.of(0, rebuildBatchSize));
+                if (batch.isEmpty()) {
+                    break;
+                }
+                batch.forEach(fresh::put);
+                afterProductId = batch.get(batch.size() - 1).productId();
+            }
+            index = fresh;
+        } finally {
+            rebuilding = false;
+        }
+
+        // 재구축 중에 바뀐 상품은 새 색인에 다시 반영
+        for (Integer productId : changedDuringRebuild) {
+            reindex(productId);
+        }
+        changedDuringRebuild.clear();
+
+        int size = index.size();
+        log.info("상품 검색 색인 구축: 상품 {}개, 단어 {}개 ({}ms)",
+                size, index.termCount(), (System.nanoTime() - startedAt) / 1_000_000);
+        return size;
+    }
+
+    private void reindex(int productId) {
+        if (rebuilding) {
+            changedDuringRebuild.add(productId);
+        }
+        productRepository.findSearchDocument(productId).ifPresentOrElse(
+                index::put,
+                () -> index.remove(productId));
+    }
+
+    private void runAfterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
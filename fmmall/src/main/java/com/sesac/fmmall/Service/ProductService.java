@@ -1,38 +1,58 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Cache.ProductCatalogCache;
+import com.sesac.fmmall.Constant.ProductSort;
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
 import com.sesac.fmmall.Entity.Brand;
 import com.sesac.fmmall.Entity.Category;
 import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.ProductRatingSummary;
 import com.sesac.fmmall.Entity.RowCategory;
 import com.sesac.fmmall.Repository.BrandRepository;
 import com.sesac.fmmall.Repository.CategoryRepository;
 import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.RowCategoryRepository;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class ProductService {
     private final ProductRepository productRepository;
-    private final ModelMapper modelMapper;
     private final CategoryRepository categoryRepository;
     private final RowCategoryRepository rowCategoryRepository;
     private final BrandRepository brandRepository;
+    private final ProductCatalogCache productCatalogCache;
+    private final ProductRatingService productRatingService;  // 상품 응답의 평점 집계
+    private final ProductSearchService productSearchService;  // 검색 색인 (커밋 후 반영)
+    private final ProductAutocompleteService productAutocompleteService;  // 자동완성 (커밋 후 반영)
 
-    /* 상품 id로 상세 조회. */
+    // 관리자 전체 내보내기 최대 개수
+    @Value("${fmmall.product.export-limit:5000}")
+    private int exportLimit;
+
+    /* 상품 id로 상세 조회. (캐시에 없을 때만 DB 조회 + 매핑) */
     public ProductResponseDTO findProductByProductId(int productId) {
-        Product foundProduct = productRepository.findById(productId).orElseThrow(
-                () -> new IllegalArgumentException("해당 상품은 존재하지 않습니다."));
+        return productCatalogCache.get(productId, id -> {
+            Product foundProduct = productRepository.findById(id).orElseThrow(
+                    () -> new IllegalArgumentException("해당 상품은 존재하지 않습니다."));
 
-        return modelMapper.map(foundProduct, ProductResponseDTO.class);
+            return ProductResponseDTO.from(foundProduct)
+                    .withRating(productRatingService.findSummary(id).orElse(null));
+        });
     }
 
     @Transactional
@@ -54,14 +74,18 @@ public class ProductService {
                 .brand(brand)
                 .name(productRequestDTO.getProductName())
                 .price(productRequestDTO.getProductPrice())
+                .stockQuantity(productRequestDTO.getStockQuantity())
                 .description(productRequestDTO.getDescription())
                 .isInstallationRequired(productRequestDTO.getIsInstallationRequired())
                 .productStatus(productRequestDTO.getProductStatus())
                 .build();
 
         Product savedProduct = productRepository.save(newProduct);
+        productCatalogCache.evict(savedProduct.getProductId());
+        productSearchService.reindexAfterCommit(savedProduct.getProductId());
+        productAutocompleteService.refreshAfterCommit(savedProduct.getProductId());
 
-        return modelMapper.map(savedProduct, ProductResponseDTO.class);
+        return ProductResponseDTO.from(savedProduct).withRating(null);
     }
 
     @Transactional
@@ -89,7 +113,12 @@ public class ProductService {
                 productRequestDTO.getIsInstallationRequired(),
                 productRequestDTO.getProductStatus()
         );
-        return modelMapper.map(foundProduct, ProductResponseDTO.class);
+        productCatalogCache.evict(productId);
+        productSearchService.reindexAfterCommit(productId);
+        productAutocompleteService.refreshAfterCommit(productId);
+
+        return ProductResponseDTO.from(foundProduct)
+                .withRating(productRatingService.findSummary(productId).orElse(null));
     }
 
     @Transactional
@@ -98,12 +127,59 @@ public class ProductService {
             throw new IllegalArgumentException("삭제할 상품이 존재하지 않습니다.");
         }
         productRepository.deleteById(productId);
+        productCatalogCache.evict(productId);
+        productSearchService.removeAfterCommit(productId);
+        productAutocompleteService.removeAfterCommit(productId);
+    }
+
+    /* 상품 목록 조회 (페이지 + 필터 + 정렬) */
+    @Transactional(readOnly = true)
+    public Page<ProductResponseDTO> findProducts(ProductSearchConditionDTO condition, int curPage, int size) {
+
+        if (condition.getMinPrice() != null && condition.getMaxPrice() != null
+                && condition.getMinPrice() > condition.getMaxPrice()) {
+            throw new IllegalArgumentException("최소 가격이 최대 가격보다 클 수 없습니다.");
+        }
+
+        int page = curPage <= 0 ? 0 : curPage - 1;
+        int pageSize = Math.min(Math.max(size, 1), 100);   // 한 페이지 최대 100개
+        ProductSort sort = condition.getSort() != null ? condition.getSort() : ProductSort.LATEST;
+
+        PageRequest pageRequest = PageRequest.of(page, pageSize, sort.getSort());
+
+        Set<Integer> brandIds = new HashSet<>();
+        if (condition.getBrandIds() != null) {
+            condition.getBrandIds().stream().filter(Objects::nonNull).forEach(brandIds::add);
+        }
+        if (condition.getBrandId() != null) {
+            brandIds.add(condition.getBrandId());
+        }
+
+        Page<Product> products = productRepository.search(
+                condition.getCategoryId(),
+                condition.getRowCategoryId(),
+                brandIds.isEmpty(),
+                brandIds,
+                condition.getProductStatus(),
+                condition.getMinPrice(),
+                condition.getMaxPrice(),
+                pageRequest
+        );
+
+        // 평점 집계는 페이지 상품들만 IN 쿼리 한 번으로
+        Map<Integer, ProductRatingSummary> ratings = productRatingService.findSummaries(
+                products.map(Product::getProductId).getContent());
+
+        return products.map(product -> ProductResponseDTO.from(product)
+                .withRating(ratings.get(product.getProductId())));
     }
 
-    public List<ProductResponseDTO> findAllProducts() {
-        List<Product> products = productRepository.findAll();
+    /* 관리자 전체 상품 내보내기 (상품 번호순, 최대 exportLimit 개) */
+    @Transactional(readOnly = true)
+    public List<ProductResponseDTO> exportProducts() {
+        List<Product> products = productRepository.findAllByOrderByProductIdAsc(PageRequest.of(0, exportLimit));
         return products.stream()
-                .map(product -> modelMapper.map(product, ProductResponseDTO.class))
+                .map(ProductResponseDTO::from)
                 .collect(Collectors.toList());
     }
 }
@@ -0,0 +1,195 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Cache.ProductCatalogCache;
+import com.sesac.fmmall.DTO.Product.ProductStockShardResponseDTO;
+import com.sesac.fmmall.Entity.Product;
+import com.sesac.fmmall.Entity.ProductStockShard;
+import com.sesac.fmmall.Repository.ProductRepository;
+import com.sesac.fmmall.Repository.ProductStockShardRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 상품 재고 샤딩 (인기 상품 한정 판매용)
+ * - 샤딩 모드 상품은 재고를 N개의 샤드로 나눠서, 주문마다 임의의 샤드 하나에서 조건부 차감한다.
+ * - 한 샤드에 재고가 모자라면 다음 샤드를 시도하고, 모든 샤드가 모자라면 샤드 전체를 잠그고 합산 차감한다.
+ * - 주기적으로 샤드 재고를 고르게 다시 나누고, 합계가 바뀌었으면 product.stock_quantity 에 반영한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductStockService {
+
+    public static final int MAX_SHARD_COUNT = 64;
+
+    private final ProductRepository productRepository;
+    private final ProductStockShardRepository productStockShardRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ProductCatalogCache productCatalogCache;
+
+    /**
+     * 샤딩 모드 상품 재고 예약
+     * - 호출하는 주문 트랜잭션 안에서 실행된다. 실패 시 예외 → 주문 전체 롤백
+     * - 여러 샤드를 잠글 때는 항상 shardNo 오름차순 (findAllForUpdate, 리밸런싱과 같은 순서) 으로만 잡는다.
+     *   임의의 샤드를 하나씩 더 시도하면서 잠금을 쌓으면 품절 직전에 구매자끼리, 또는 리밸런싱과 교착된다.
+     * - 조건에 안 맞은 UPDATE 의 행 잠금이 남지 않도록 주문 트랜잭션은 READ COMMITTED 로 실행한다
+     *   (OrderService.createOrder / createOrderFromCart).
+     */
+    @Transactional
+    public void reserveFromShards(Product product, int qty) {
+
+        int productId = product.getProductId();
+        int shardCount = product.getStockShardCount();
+
+        // 1. 임의의 샤드 하나에서 한 번에 차감 시도
+        int shardNo = ThreadLocalRandom.current().nextInt(shardCount);
+        if (productStockShardRepository.decreaseIfEnough(productId, shardNo, qty) == 1) {
+            return;
+        }
+
+        // 2. 그 샤드로는 부족 → 다른 샤드를 더 돌지 않고 샤드 전체를 순서대로 잠가서 여러 샤드에서 나눠서 차감
+        List<ProductStockShard> shards = productStockShardRepository.findAllForUpdate(productId);
+        int total = shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+
+        if (shards.isEmpty() || total < qty) {
+            throw new IllegalArgumentException(
+                    "상품 재고가 부족합니다. productId=" + productId
+                            + ", stock=" + total
+                            + ", requested=" + qty
+            );
+        }
+
+        int remaining = qty;
+        for (ProductStockShard shard : shards) {
+            int take = Math.min(shard.getQuantity(), remaining);
+            shard.setQuantity(shard.getQuantity() - take);
+            remaining -= take;
+            if (remaining == 0) {
+                break;
+            }
+        }
+    }
+
+    /**
+     * 재고 복구 (주문 취소)
+     * - 샤딩 모드면 임의의 샤드에 더하고, 아니면 product.stock_quantity 에 더한다.
+     */
+    @Transactional
+    public void release(Product product, int qty) {
+
+        if (product.isStockSharded()) {
+            int shardNo = ThreadLocalRandom.current().nextInt(product.getStockShardCount());
+            if (productStockShardRepository.increase(product.getProductId(), shardNo, qty) == 1) {
+                return;
+            }
+            // 그 사이 샤딩이 해제된 경우 → 단일 행 재고로 복구
+        }
+        productRepository.increaseStock(product.getProductId(), qty);
+    }
+
+    /**
+     * 재고 샤딩 모드 변경 (관리자)
+     * - shardCount 가 2 이상이면 현재 재고를 shardCount 개로 나눠서 샤딩 모드로 전환
+     * - shardCount 가 0 또는 1 이면 샤드 재고를 합쳐서 단일 행 재고 모드로 복귀
+     */
+    @Transactional
+    public ProductStockShardResponseDTO changeShardCount(int productId, int shardCount) {
+
+        if (shardCount < 0 || shardCount > MAX_SHARD_COUNT) {
+            throw new IllegalArgumentException("재고 샤드 개수는 0 ~ " + MAX_SHARD_COUNT + " 사이여야 합니다.");
+        }
+
+        // 상품 행을 잠가서 단일 행 차감과 전환이 섞이지 않도록 한다.
+        Product product = productRepository.findByIdForUpdate(productId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 상품은 존재하지 않습니다."));
+
+        // 현재 재고 합계
+        int total;
+        if (product.isStockSharded()) {
+            total = productStockShardRepository.findAllForUpdate(productId).stream()
+                    .mapToInt(ProductStockShard::getQuantity)
+                    .sum();
+            productStockShardRepository.deleteByProductId(productId);
+        } else {
+            total = product.getStockQuantity();
+        }
+
+        List<ProductStockShard> shards = new ArrayList<>();
+        if (shardCount > 1) {
+            for (int shardNo = 0; shardNo < shardCount; shardNo++) {
+                shards.add(ProductStockShard.builder()
+                        .product(product)
+                        .shardNo(shardNo)
+                        .quantity(evenShare(total, shardCount, shardNo))
+                        .build());
+            }
+            productStockShardRepository.saveAll(shards);
+            product.setStockShardCount(shardCount);
+        } else {
+            product.setStockShardCount(null);
+        }
+
+        productRepository.overwriteStock(productId, total);
+        productCatalogCache.evict(productId);
+
+        return toShardResponse(product, total, shards);
+    }
+
+    /**
+     * 주기적 리밸런싱
+     * - 샤딩 모드 상품마다 별도 트랜잭션으로 샤드 재고를 고르게 다시 나누고 합계를 상품에 반영한다.
+     * - 이미 고르게 나뉘어 있고 합계도 같으면 (주문이 없던 상품) 아무것도 쓰지 않는다.
+     */
+    @Scheduled(fixedDelayString = "${fmmall.stock.shard.rebalance-interval-ms:5000}")
+    public void rebalanceAll() {
+        for (Integer productId : productRepository.findStockShardedProductIds()) {
+            transactionTemplate.executeWithoutResult(status -> rebalance(productId));
+        }
+    }
+
+    private void rebalance(int productId) {
+
+        List<ProductStockShard> shards = productStockShardRepository.findAllForUpdate(productId);
+        if (shards.isEmpty()) {
+            return;
+        }
+
+        int total = shards.stream().mapToInt(ProductStockShard::getQuantity).sum();
+        int min = shards.stream().mapToInt(ProductStockShard::getQuantity).min().getAsInt();
+        int max = shards.stream().mapToInt(ProductStockShard::getQuantity).max().getAsInt();
+
+        // 샤드 간 차이가 1 이하면 이미 고르게 나뉜 상태 → 샤드 행은 건드리지 않는다
+        if (max - min > 1) {
+            for (int i = 0; i < shards.size(); i++) {
+                shards.get(i).setQuantity(evenShare(total, shards.size(), i));
+            }
+        }
+
+        // 합계가 그대로면 상품 재고 UPDATE 와 카탈로그 캐시 제거도 생략 (주기마다 캐시가 비지 않도록)
+        Integer stockQuantity = productRepository.findStockQuantity(productId);
+        if (stockQuantity == null || stockQuantity != total) {
+            productRepository.overwriteStock(productId, total);
+            productCatalogCache.evict(productId);
+        }
+    }
+
+    // total 을 count 개로 나눴을 때 index 번째 몫 (나머지는 앞쪽 샤드부터 1개씩)
+    private int evenShare(int total, int count, int index) {
+        return total / count + (index < total % count ? 1 : 0);
+    }
+
+    private ProductStockShardResponseDTO toShardResponse(Product product, int totalStock, List<ProductStockShard> shards) {
+        return ProductStockShardResponseDTO.builder()
+                .productId(product.getProductId())
+                .shardCount(product.isStockSharded() ? product.getStockShardCount() : 0)
+                .totalStock(totalStock)
+                .shardQuantities(shards.stream().map(ProductStockShard::getQuantity).toList())
+                .build();
+    }
+}
@@ -1,29 +1,41 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.RefundBulkResult;
 import com.sesac.fmmall.Constant.RefundReasonCode;
 import com.sesac.fmmall.Constant.RefundStatus;
 import com.sesac.fmmall.Constant.RefundType;
 import com.sesac.fmmall.Constant.UserRole;
 import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.DTO.Refund.RefundBulkItemResponse;
+import com.sesac.fmmall.DTO.Refund.RefundBulkRequest;
+import com.sesac.fmmall.DTO.Refund.RefundBulkResponse;
 import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
 import com.sesac.fmmall.DTO.Refund.RefundItemCreateRequest;
-import com.sesac.fmmall.DTO.Refund.RefundItemResponse;
 import com.sesac.fmmall.DTO.Refund.RefundResponse;
 import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
-import org.modelmapper.ModelMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 
 import java.util.*;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class RefundService {
 
+    // 일괄 처리 시 한 번에 조회/변경하는 환불 개수 (IN 절 크기)
+    private static final int BULK_CHUNK_SIZE = 500;
+
     private final OrderRepository orderRepository;
     private final OrderItemRepository orderItemRepository;
     private final PaymentRepository paymentRepository;
@@ -31,7 +43,6 @@ public class RefundService {
     private final RefundItemRepository refundItemRepository;
     private final UserRepository userRepository;   // 관리자 권한 체크용
 
-    private final ModelMapper modelMapper;
 
     @Transactional
     public RefundResponse createRefund(Integer userId, RefundCreateRequest request) {
@@ -77,30 +88,25 @@ public class RefundService {
             throw new IllegalArgumentException("환불 상품이 없습니다.");
         }
 
-        // 6. 주문상품별 기존 환불수량/이번 요청수량 합산을 위한 맵
+        // 6. 환불 가능 수량 계산용 데이터 (주문상품 1번 + 기존 환불수량 집계 1번)
+        Map<Integer, OrderItem> orderItemById = orderItemRepository.findByOrderIdWithProduct(order.getOrderId())
+                .stream()
+                .collect(Collectors.toMap(OrderItem::getOrderItemId, oi -> oi));
+
         Map<Integer, Integer> alreadyRefundedByOrderItemId = new HashMap<>();
-        Map<Integer, Integer> requestedQtyByOrderItemId = new HashMap<>();
+        for (Object[] row : refundItemRepository.sumRefundedQuantityByOrderItem(order.getOrderId())) {
+            alreadyRefundedByOrderItemId.put((Integer) row[0], ((Number) row[1]).intValue());
+        }
 
-        // 7. Refund 엔티티 생성 (아이템은 아래에서 add)
-        Refund refund = Refund.builder()
-                .reasonCode(reasonCodeEnum.name())
-                .reasonDetail(request.getReasonDetail())
-                .totalAmount(0)
-                .refundType(refundType)
-                .isTrue(YesNo.N)
-                .order(order)
-                .payment(payment)
-                .build();
+        // 7. 요청 전체를 메모리에서 검증 (이번 요청 수량은 주문상품별로 누적)
+        Map<Integer, Integer> requestedQtyByOrderItemId = new HashMap<>();
 
-        // 8. RefundItem 생성 + 수량검증 + 금액 계산
         for (RefundItemCreateRequest itemReq : request.getItems()) {
 
-            OrderItem orderItem = orderItemRepository.findById(itemReq.getOrderItemId())
-                    .orElseThrow(() -> new IllegalArgumentException(
-                            "주문 상품이 존재하지 않습니다. orderItemId=" + itemReq.getOrderItemId()));
-
-            if (orderItem.getOrder().getOrderId() != order.getOrderId()) {
-                throw new IllegalArgumentException("해당 주문에 속하지 않는 주문상품입니다. orderItemId=" + orderItem.getOrderItemId());
+            OrderItem orderItem = orderItemById.get(itemReq.getOrderItemId());
+            if (orderItem == null) {
+                // 주문상품 자체가 없거나 다른 주문의 주문상품
+                throw new IllegalArgumentException("해당 주문에 속하지 않는 주문상품입니다. orderItemId=" + itemReq.getOrderItemId());
             }
 
             Integer refundQuantity = itemReq.getRefundQuantity();
@@ -109,41 +115,18 @@ public class RefundService {
             }
 
             int orderItemId = orderItem.getOrderItemId();
+            int requestedTotal = requestedQtyByOrderItemId.merge(orderItemId, refundQuantity, Integer::sum);
 
-            // 기존까지 환불된 수량
-            int alreadyRefunded = alreadyRefundedByOrderItemId.computeIfAbsent(
-                    orderItemId,
-                    id -> refundItemRepository.findByOrderItem(orderItem).stream()
-                            .mapToInt(RefundItem::getRefundQuantity)
-                            .sum()
-            );
-
-            // 이번 요청에서의 수량 누적
-            requestedQtyByOrderItemId.merge(orderItemId, refundQuantity, Integer::sum);
-
-            int afterTotal = alreadyRefunded + requestedQtyByOrderItemId.get(orderItemId);
+            int afterTotal = alreadyRefundedByOrderItemId.getOrDefault(orderItemId, 0) + requestedTotal;
             if (afterTotal > orderItem.getQuantity()) {
                 throw new IllegalArgumentException(
                         "환불 수량이 주문 수량을 초과합니다. orderItemId=" + orderItemId);
             }
-
-            int productPrice = orderItem.getProduct().getPrice();
-            int refundPrice = productPrice * refundQuantity;
-
-            RefundItem refundItem = RefundItem.builder()
-                    .orderItem(orderItem)
-                    .refundQuantity(refundQuantity)
-                    .refundPrice(refundPrice)
-                    .refundStatus(RefundStatus.REQUESTED)   // 최초 상태: REQUESTED(요청됨)
-                    .refund(refund)
-                    .build();
-
-            refund.addRefundItem(refundItem);
         }
 
-        // 9. FULL / PARTIAL 로직 검증
+        // 8. FULL / PARTIAL 로직 검증
         boolean isFullRefund = isFullRefundForOrder(
-                order,
+                orderItemById.values(),
                 alreadyRefundedByOrderItemId,
                 requestedQtyByOrderItemId
         );
@@ -156,23 +139,51 @@ public class RefundService {
             throw new IllegalArgumentException("환불 타입이 PARTIAL인데, 결과적으로 주문 전체가 모두 환불되도록 요청되었습니다.");
         }
 
+        // 9. Refund / RefundItem 생성 + 금액 계산
+        Refund refund = Refund.builder()
+                .reasonCode(reasonCodeEnum.name())
+                .reasonDetail(request.getReasonDetail())
+                .totalAmount(0)
+                .refundType(refundType)
+                .isTrue(YesNo.N)
+                .order(order)
+                .payment(payment)
+                .build();
+
+        for (RefundItemCreateRequest itemReq : request.getItems()) {
+
+            OrderItem orderItem = orderItemById.get(itemReq.getOrderItemId());
+            int refundQuantity = itemReq.getRefundQuantity();
+            int refundPrice = orderItem.getProduct().getPrice() * refundQuantity;
+
+            RefundItem refundItem = RefundItem.builder()
+                    .orderItem(orderItem)
+                    .refundQuantity(refundQuantity)
+                    .refundPrice(refundPrice)
+                    .refundStatus(RefundStatus.REQUESTED)   // 최초 상태: REQUESTED(요청됨)
+                    .refund(refund)
+                    .build();
+
+            refund.addRefundItem(refundItem);
+        }
+
         // 10. 총 환불 금액 계산
         refund.setTotalAmount(refund.calculateTotalAmount());
 
         Refund savedRefund = refundRepository.save(refund);
 
-        return mapToRefundResponse(savedRefund);
+        return RefundResponse.from(savedRefund);
     }
 
     /**
      * 주문 기준으로 "이번 요청까지 포함했을 때 전체가 다 환불되는지" 판단하는 헬퍼 메서드
      */
     private boolean isFullRefundForOrder(
-            Order order,
+            Collection<OrderItem> orderItems,
             Map<Integer, Integer> alreadyRefundedByOrderItemId,
             Map<Integer, Integer> requestedQtyByOrderItemId
     ) {
-        for (OrderItem orderItem : order.getOrderItems()) {
+        for (OrderItem orderItem : orderItems) {
 
             int orderItemId = orderItem.getOrderItemId();
 
@@ -190,24 +201,16 @@ public class RefundService {
     }
 
     /**
-     * 로그인 사용자의 전체 환불 내역 조회 (요약)
+     * 로그인 사용자의 환불 내역 조회 (요약, 최신순 페이지)
+     * - status 가 주어지면 환불 자체의 상태(refund.refund_status)가 그 상태인 환불만 조회
      */
     @Transactional
-    public List<RefundSummaryResponse> getRefundsByUser(Integer userId) {
+    public Slice<RefundSummaryResponse> getRefundsByUser(Integer userId, RefundStatus status, int curPage, int size) {
 
-        // 1. 유저의 모든 주문 조회
-        List<Order> orders = orderRepository.findByUser_UserId(userId);
-
-        // 2. 주문에 달린 모든 환불 모으기
-        List<Refund> allRefunds = new ArrayList<>();
-        for (Order order : orders) {
-            allRefunds.addAll(order.getRefunds());
-        }
+        int pageSize = Math.min(Math.max(size, 1), 100);
+        Pageable pageable = PageRequest.of(Math.max(curPage, 1) - 1, pageSize);
 
-        // 3. 요약 DTO로 변환
-        return allRefunds.stream()
-                .map(this::mapToRefundSummaryResponse)
-                .collect(Collectors.toList());
+        return refundRepository.findSummariesByUserId(userId, status, pageable);
     }
 
     /**
@@ -216,31 +219,11 @@ public class RefundService {
     @Transactional
     public List<RefundResponse> getRefundsByUserAndProduct(Integer userId, Integer productId) {
 
-        // productId 기준으로 주문상품 조회
-        List<OrderItem> orderItems = orderItemRepository.findByProduct_ProductId(productId);
-
-        Set<Integer> refundIdSet = new LinkedHashSet<>();
-        List<Refund> resultRefunds = new ArrayList<>();
-
-        for (OrderItem orderItem : orderItems) {
+        // 사용자 + 상품 기준으로 환불만 조회 (다른 사용자의 주문상품은 읽지 않음)
+        List<Refund> refunds = refundRepository.findByUserIdAndProductId(userId, productId);
 
-            // 다른 사람 주문이면 스킵
-            if (orderItem.getOrder().getUser().getUserId() != userId) {
-                continue;
-            }
-
-            // 해당 OrderItem에 연결된 RefundItem들 조회
-            List<RefundItem> refundItems = refundItemRepository.findByOrderItem(orderItem);
-            for (RefundItem refundItem : refundItems) {
-                Refund refund = refundItem.getRefund();
-                if (refundIdSet.add(refund.getRefundId())) {
-                    resultRefunds.add(refund);
-                }
-            }
-        }
-
-        return resultRefunds.stream()
-                .map(this::mapToRefundResponse)
+        return refunds.stream()
+                .map(RefundResponse::from)
                 .collect(Collectors.toList());
     }
 
@@ -254,131 +237,203 @@ public class RefundService {
                 .orElseThrow(() -> new IllegalArgumentException(
                         "환불 정보가 존재하지 않습니다. refundId=" + refundId));
 
-        return mapToRefundResponse(refund);
+        return RefundResponse.from(refund);
     }
 
     @Transactional
     public RefundResponse approveRefund(Integer refundId, Integer adminUserId) {
 
-        User admin = userRepository.findById(adminUserId)
-                .orElseThrow(() -> new IllegalArgumentException("관리자 정보를 찾을 수 없습니다. userId=" + adminUserId));
+        checkAdmin(adminUserId, "관리자만 환불을 승인할 수 있습니다.");
 
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new IllegalStateException("관리자만 환불을 승인할 수 있습니다.");
-        }
+        return transition(refundId, RefundStatus.APPROVED);
+    }
 
-        Refund refund = refundRepository.findById(refundId)
-                .orElseThrow(() -> new IllegalArgumentException("환불 정보가 존재하지 않습니다. refundId=" + refundId));
+    @Transactional
+    public RefundResponse rejectRefund(Integer refundId, Integer adminUserId) {
 
-        for (RefundItem item : refund.getRefundItems()) {
-            if (item.getRefundStatus() != RefundStatus.REQUESTED) {
-                throw new IllegalStateException(
-                        "REQUESTED 상태가 아닌 환불아이템이 포함되어 있어 승인할 수 없습니다. refundItemId=" + item.getRefundItemId());
-            }
-            item.changeStatus(RefundStatus.APPROVED);
-        }
+        checkAdmin(adminUserId, "관리자만 환불을 거절할 수 있습니다.");
 
-        return mapToRefundResponse(refund);
+        return transition(refundId, RefundStatus.REJECTED);
     }
 
     @Transactional
-    public RefundResponse rejectRefund(Integer refundId, Integer adminUserId) {
+    public RefundResponse completeRefund(Integer refundId, Integer adminUserId) {
+
+        checkAdmin(adminUserId, "관리자만 환불 완료 처리를 할 수 있습니다.");
+
+        return transition(refundId, RefundStatus.COMPLETED);
+    }
+
+    private void checkAdmin(Integer adminUserId, String deniedMessage) {
 
         User admin = userRepository.findById(adminUserId)
                 .orElseThrow(() -> new IllegalArgumentException("관리자 정보를 찾을 수 없습니다. userId=" + adminUserId));
 
         if (admin.getRole() != UserRole.ADMIN) {
-            throw new IllegalStateException("관리자만 환불을 거절할 수 있습니다.");
+            throw new IllegalStateException(deniedMessage);
         }
+    }
 
-        Refund refund = refundRepository.findById(refundId)
-                .orElseThrow(() -> new IllegalArgumentException("환불 정보가 존재하지 않습니다. refundId=" + refundId));
+    /**
+     * 환불 단건 상태 전이
+     * - 환불 상태를 조건부 UPDATE 한 번으로 바꾸고(전이표 기준), 성공했을 때만 아이템 상태를 맞춘다.
+     * - 동시에 승인/거절이 들어오면 먼저 UPDATE 한 쪽만 성공하고, 나머지는 IllegalStateException.
+     */
+    private RefundResponse transition(Integer refundId, RefundStatus targetStatus) {
 
-        for (RefundItem item : refund.getRefundItems()) {
-            if (item.getRefundStatus() != RefundStatus.REQUESTED) {
-                throw new IllegalStateException(
-                        "REQUESTED 상태가 아닌 환불아이템이 포함되어 있어 거절할 수 없습니다. refundItemId=" + item.getRefundItemId());
-            }
-            item.changeStatus(RefundStatus.REJECTED);
+        Set<RefundStatus> fromStatuses = targetStatus.allowedSources();
+        List<Integer> refundIds = List.of(refundId);
+
+        int updated = refundRepository.transitionStatusByIdIn(
+                refundIds, fromStatuses, targetStatus, isTrueAfter(targetStatus));
+
+        if (updated == 0) {
+            Refund current = refundRepository.findById(refundId)
+                    .orElseThrow(() -> new IllegalArgumentException("환불 정보가 존재하지 않습니다. refundId=" + refundId));
+            throw new IllegalStateException(
+                    current.getRefundStatus() + " 상태의 환불은 " + targetStatus + " 처리할 수 없습니다. refundId=" + refundId);
         }
 
-        refund.setIsTrue(YesNo.N);
+        refundItemRepository.updateStatusByRefundIdIn(refundIds, fromStatuses, targetStatus);
+
+        Refund refund = refundRepository.findById(refundId)
+                .orElseThrow(() -> new IllegalArgumentException("환불 정보가 존재하지 않습니다. refundId=" + refundId));
+
+        return RefundResponse.from(refund);
+    }
 
-        return mapToRefundResponse(refund);
+    // 거절이면 N, 완료면 Y (승인은 아직 환불 전이라 N)
+    private YesNo isTrueAfter(RefundStatus targetStatus) {
+        return targetStatus == RefundStatus.COMPLETED ? YesNo.Y : YesNo.N;
     }
 
+    /**
+     * 관리자 환불 일괄 처리 (승인 / 거절 / 완료)
+     * - 관리자 확인은 한 번만
+     * - BULK_CHUNK_SIZE 개씩 환불을 조회해서 전이표로 검증하고,
+     *   처리 가능한 환불은 행을 잠가 현재 상태를 다시 확인한 뒤 chunk 마다 조건부 UPDATE 한 번으로 상태를 바꾼다.
+     * - 이번 UPDATE 로 실제로 바뀐 환불만 SUCCESS (다른 관리자가 먼저 바꾼 환불은 ALREADY_PROCESSED / INVALID_STATE)
+     * - 일부가 실패해도 나머지는 처리하고, 환불 ID 별 결과를 돌려준다.
+     */
     @Transactional
-    public RefundResponse completeRefund(Integer refundId, Integer adminUserId) {
+    public RefundBulkResponse processRefundsInBulk(RefundBulkRequest request, Integer adminUserId) {
 
-        User admin = userRepository.findById(adminUserId)
-                .orElseThrow(() -> new IllegalArgumentException("관리자 정보를 찾을 수 없습니다. userId=" + adminUserId));
+        checkAdmin(adminUserId, "관리자만 환불을 일괄 처리할 수 있습니다.");
 
-        if (admin.getRole() != UserRole.ADMIN) {
-            throw new IllegalStateException("관리자만 환불 완료 처리를 할 수 있습니다.");
+        RefundStatus targetStatus;
+        try {
+            targetStatus = RefundStatus.valueOf(request.getTargetStatus());
+        } catch (IllegalArgumentException | NullPointerException e) {
+            throw new IllegalArgumentException("유효하지 않은 환불 상태입니다. targetStatus=" + request.getTargetStatus());
         }
 
-        Refund refund = refundRepository.findById(refundId)
-                .orElseThrow(() -> new IllegalArgumentException("환불 정보가 존재하지 않습니다. refundId=" + refundId));
+        Set<RefundStatus> fromStatuses = targetStatus.allowedSources();
+        if (fromStatuses.isEmpty()) {
+            throw new IllegalArgumentException("일괄 처리할 수 없는 환불 상태입니다. targetStatus=" + targetStatus);
+        }
 
-        for (RefundItem item : refund.getRefundItems()) {
-            if (item.getRefundStatus() != RefundStatus.APPROVED
-                    && item.getRefundStatus() != RefundStatus.COMPLETED) {
-                throw new IllegalStateException(
-                        "APPROVED 상태가 아닌 환불아이템이 포함되어 있어 완료 처리할 수 없습니다. refundItemId=" + item.getRefundItemId());
-            }
-            item.changeStatus(RefundStatus.COMPLETED);
+        if (request.getRefundIds() == null || request.getRefundIds().isEmpty()) {
+            throw new IllegalArgumentException("처리할 환불이 없습니다.");
         }
 
-        refund.setIsTrue(YesNo.Y);
+        // 중복 ID 제거 (요청 순서 유지)
+        List<Integer> refundIds = new ArrayList<>(new LinkedHashSet<>(request.getRefundIds()));
+        List<RefundBulkItemResponse> results = new ArrayList<>(refundIds.size());
 
-        return mapToRefundResponse(refund);
-    }
+        for (int from = 0; from < refundIds.size(); from += BULK_CHUNK_SIZE) {
 
-    // ===================== 매핑 메서드 ===================== //
+            List<Integer> chunk = refundIds.subList(from, Math.min(from + BULK_CHUNK_SIZE, refundIds.size()));
 
-    /** 상세 조회용 매핑 */
-    private RefundResponse mapToRefundResponse(Refund refund) {
+            Map<Integer, Refund> refundById = refundRepository.findAllById(chunk).stream()
+                    .collect(Collectors.toMap(Refund::getRefundId, r -> r));
 
-        RefundResponse dto = modelMapper.map(refund, RefundResponse.class);
+            Map<Integer, RefundBulkItemResponse> chunkResults = new LinkedHashMap<>();
+            List<Integer> updatableIds = new ArrayList<>();
 
-        dto.setRefundId(refund.getRefundId());
-        dto.setReasonCode(refund.getReasonCode());
-        dto.setReasonDetail(refund.getReasonDetail());
-        dto.setTotalAmount(refund.getTotalAmount());
-        dto.setRefundType(refund.getRefundType().name());
-        dto.setIsTrue(refund.getIsTrue().name());
-        dto.setOrderId(refund.getOrder().getOrderId());
-        dto.setPaymentId(refund.getPayment().getPaymentId());
+            for (Integer refundId : chunk) {
+                Refund refund = refundById.get(refundId);
 
-        List<RefundItemResponse> itemDtos = refund.getRefundItems().stream()
-                .map(this::mapToRefundItemResponse)
-                .collect(Collectors.toList());
-        dto.setItems(itemDtos);
+                if (refund == null) {
+                    chunkResults.put(refundId, bulkResult(refundId, RefundBulkResult.NOT_FOUND, "환불 정보가 존재하지 않습니다."));
+                } else if (refund.getRefundStatus() == targetStatus) {
+                    chunkResults.put(refundId, alreadyProcessed(refundId, targetStatus));
+                } else if (!refund.getRefundStatus().canTransitionTo(targetStatus)) {
+                    chunkResults.put(refundId, invalidState(refundId, refund.getRefundStatus(), targetStatus));
+                } else {
+                    updatableIds.add(refundId);
+                    // 요청 순서대로 결과 자리를 잡아 두고, 아래에서 잠근 뒤 다시 확인한 상태로 확정한다
+                    chunkResults.put(refundId, bulkResult(refundId, RefundBulkResult.SUCCESS, null));
+                }
+            }
 
-        return dto;
-    }
+            if (!updatableIds.isEmpty()) {
+                // 조회 이후 다른 관리자가 먼저 상태를 바꿨을 수 있으므로, 잠근 상태로 다시 읽어서 바꿀 환불을 정한다
+                Map<Integer, RefundStatus> currentById = new HashMap<>();
+                for (Object[] row : refundRepository.findStatusesForUpdate(updatableIds)) {
+                    currentById.put((Integer) row[0], (RefundStatus) row[1]);
+                }
+
+                List<Integer> transitionIds = new ArrayList<>();
+                for (Integer refundId : updatableIds) {
+                    RefundStatus current = currentById.get(refundId);
+                    if (current == null) {
+                        chunkResults.put(refundId, bulkResult(refundId, RefundBulkResult.NOT_FOUND, "환불 정보가 존재하지 않습니다."));
+                    } else if (current == targetStatus) {
+                        chunkResults.put(refundId, alreadyProcessed(refundId, targetStatus));
+                    } else if (!fromStatuses.contains(current)) {
+                        chunkResults.put(refundId, invalidState(refundId, current, targetStatus));
+                    } else {
+                        transitionIds.add(refundId);
+                    }
+                }
 
-    /** 목록(요약) 조회용 매핑 */
-    private RefundSummaryResponse mapToRefundSummaryResponse(Refund refund) {
+                if (!transitionIds.isEmpty()) {
+                    // 잠근 행이라 모두 바뀐다. 아이템도 이번에 바뀐 환불 것만
+                    refundRepository.transitionStatusByIdIn(
+                            transitionIds, fromStatuses, targetStatus, isTrueAfter(targetStatus));
+                    refundItemRepository.updateStatusByRefundIdIn(transitionIds, fromStatuses, targetStatus);
+                }
+            }
 
-        return RefundSummaryResponse.builder()
-                .refundId(refund.getRefundId())
-                .refundType(refund.getRefundType().name())
-                .totalAmount(refund.getTotalAmount())
-                .isTrue(refund.getIsTrue().name())
+            results.addAll(chunkResults.values());
+        }
+
+        int successCount = (int) results.stream()
+                .filter(r -> RefundBulkResult.SUCCESS.name().equals(r.getResult()))
+                .count();
+
+        return RefundBulkResponse.builder()
+                .targetStatus(targetStatus.name())
+                .successCount(successCount)
+                .failCount(results.size() - successCount)
+                .results(results)
                 .build();
     }
 
-    private RefundItemResponse mapToRefundItemResponse(RefundItem item) {
+    // 기동 시 환불 단위 상태/버전이 도입되기 전에 만들어진 환불을 아이템 상태 기준으로 채운다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillLegacyRefunds() {
+        int items = refundItemRepository.backfillVersions();
+        int refunds = refundRepository.backfillStatusAndVersion();
+        if (items > 0 || refunds > 0) {
+            log.info("기존 환불 상태/버전 채움: 환불 {}건, 환불아이템 {}건", refunds, items);
+        }
+    }
 
-        RefundItemResponse dto = modelMapper.map(item, RefundItemResponse.class);
+    private RefundBulkItemResponse alreadyProcessed(int refundId, RefundStatus targetStatus) {
+        return bulkResult(refundId, RefundBulkResult.ALREADY_PROCESSED, "이미 " + targetStatus + " 처리된 환불입니다.");
+    }
 
-        dto.setRefundItemId(item.getRefundItemId());
-        dto.setOrderItemId(item.getOrderItem().getOrderItemId());
-        dto.setRefundQuantity(item.getRefundQuantity());
-        dto.setRefundPrice(item.getRefundPrice());
-        dto.setRefundStatus(item.getRefundStatus().name());
+    private RefundBulkItemResponse invalidState(int refundId, RefundStatus current, RefundStatus targetStatus) {
+        return bulkResult(refundId, RefundBulkResult.INVALID_STATE,
+                current + " 상태의 환불은 " + targetStatus + " 처리할 수 없습니다.");
+    }
 
-        return dto;
+    private RefundBulkItemResponse bulkResult(int refundId, RefundBulkResult result, String message) {
+        return RefundBulkItemResponse.builder()
+                .refundId(refundId)
+                .result(result.name())
+                .message(message)
+                .build();
     }
 }
@@ -1,5 +1,8 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Constant.ReviewSort;
+import com.sesac.fmmall.DTO.Review.ReviewFeedPageResponseDTO;
+import com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO;
 import com.sesac.fmmall.DTO.Review.ReviewModifyRequestDTO;
 import com.sesac.fmmall.DTO.Review.ReviewRequestDTO;
 import com.sesac.fmmall.DTO.Review.ReviewResponseDTO;
@@ -7,18 +10,28 @@ import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final UserRepository userRepository;
+    private final ProductRepository productRepository;
     private final OrderItemRepository orderItemRepository;
+    private final ProductRatingService productRatingService;  // 상품별 평점 집계 증감
 
     /* 1. 리뷰 코드로 상세 조회 */
     public ReviewResponseDTO findReviewByReviewId(int reviewId) {
@@ -63,6 +76,50 @@ public class ReviewService {
         return ReviewResponseDTO.from(foundReview);
     }
 
+    /* 상품별 리뷰 피드 (커서 기반) */
+    public ReviewFeedPageResponseDTO findReviewsByProduct(int productId, ReviewSort sort, int size,
+                                                         LocalDateTime cursorUpdatedAt, Double cursorRating,
+                                                         Integer cursorReviewId) {
+
+        if (!productRepository.existsById(productId)) {
+            throw new IllegalArgumentException("존재하지 않는 상품입니다.");
+        }
+
+        int pageSize = Math.min(Math.max(size, 1), 100);
+
+        // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<ReviewFeedResponseDTO> rows;
+        if (sort == ReviewSort.RATING) {
+            if (cursorRating == null || cursorUpdatedAt == null || cursorReviewId == null) {
+                rows = reviewRepository.findFeedRatingFirstPage(productId, limit);
+            } else {
+                rows = reviewRepository.findFeedRatingAfterCursor(
+                        productId, cursorRating, cursorUpdatedAt, cursorReviewId, limit);
+            }
+        } else {
+            if (cursorUpdatedAt == null || cursorReviewId == null) {
+                rows = reviewRepository.findFeedLatestFirstPage(productId, limit);
+            } else {
+                rows = reviewRepository.findFeedLatestAfterCursor(productId, cursorUpdatedAt, cursorReviewId, limit);
+            }
+        }
+
+        boolean hasNext = rows.size() > pageSize;
+        List<ReviewFeedResponseDTO> page = hasNext ? new ArrayList<>(rows.subList(0, pageSize)) : rows;
+
+        ReviewFeedResponseDTO last = hasNext ? page.get(page.size() - 1) : null;
+
+        return ReviewFeedPageResponseDTO.builder()
+                .reviews(page)
+                .hasNext(hasNext)
+                .nextCursorUpdatedAt(last != null ? last.getUpdatedAt() : null)
+                .nextCursorRating(last != null ? last.getReviewRating() : null)
+                .nextCursorReviewId(last != null ? last.getReviewId() : null)
+                .build();
+    }
+
     /* 3. 리뷰 등록 */
     @Transactional
     public ReviewResponseDTO insertReview(int writerId, ReviewRequestDTO requestDTO) {
@@ -82,12 +139,15 @@ public class ReviewService {
             throw new IllegalArgumentException("본인이 주문한 상품에 대해서만 리뷰를 작성할 수 있습니다.");
         }
 
+        validateRating(requestDTO.getReviewRating());
+
         // DTO -> Entity 변환 (builder 패턴 사용)
         Review newReview = Review.builder()
                 .reviewContent(requestDTO.getReviewContent())
                 .reviewRating(requestDTO.getReviewRating())
                 .user(user)
                 .orderItem(orderItem)
+                .product(orderItem.getProduct())
                 .build();
 
 //        // 내부적으로 EntityManager.persist() 호출되어 영속성 컨텍스트로 들어간다.
@@ -100,6 +160,8 @@ public class ReviewService {
             throw new IllegalArgumentException("이미 해당 주문 상품에 대한 리뷰를 작성했습니다.");
         }
 
+        productRatingService.onReviewAdded(orderItem.getProduct().getProductId(), savedReview.getReviewRating());
+
         // 저장 후, 생성된 Entity를 다시 DTO로 변환하여 반환
         return ReviewResponseDTO.from(savedReview);
     }
@@ -115,11 +177,16 @@ public class ReviewService {
             throw new IllegalArgumentException("수정 권한이 없습니다. (작성자 불일치)");
         }
 
+        validateRating(requestDTO.getReviewRating());
+        Double oldRating = foundReview.getReviewRating();
+
         foundReview.modify(
             requestDTO.getReviewContent(),
             requestDTO.getReviewRating()
         );
 
+        productRatingService.onReviewChanged(productIdOf(foundReview), oldRating, foundReview.getReviewRating());
+
         return ReviewResponseDTO.from(foundReview);
     }
 
@@ -133,16 +200,21 @@ public class ReviewService {
             throw new IllegalArgumentException("삭제 권한이 없습니다. (작성자 불일치)");
         }
 
+        int productId = productIdOf(review);
         reviewRepository.delete(review);
+        productRatingService.onReviewRemoved(productId, review.getReviewRating());
     }
     
     // 관리자용 삭제 메소드 (ID만으로 삭제)
     @Transactional
     public void deleteReview(int reviewId) {
-        if (!reviewRepository.existsById(reviewId)) {
-            throw new IllegalArgumentException("삭제할 리뷰가 존재하지 않습니다.");
-        }
-        reviewRepository.deleteById(reviewId);
+        // 평점 집계에서 빼야 하므로 리뷰를 읽어서 삭제
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("삭제할 리뷰가 존재하지 않습니다."));
+
+        int productId = productIdOf(review);
+        reviewRepository.delete(review);
+        productRatingService.onReviewRemoved(productId, review.getReviewRating());
     }
 
     @Transactional
@@ -152,5 +224,27 @@ public class ReviewService {
         reviewRepository.flush();
 
         reviewRepository.resetAutoIncrement();
+
+        productRatingService.onAllReviewsDeleted();
+    }
+
+    // 기동 시 product_id 가 비어 있는 (이전에 작성된) 리뷰를 채워서 피드에 보이게 한다
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillReviewProducts() {
+        int updated = reviewRepository.backfillProductIds();
+        if (updated > 0) {
+            log.info("리뷰 상품 ID 채움: {}건", updated);
+        }
+    }
+
+    // 평점은 없거나(null) 1~5점
+    private void validateRating(Double rating) {
+        if (rating != null && (rating < 1 || rating > 5)) {
+            throw new IllegalArgumentException("평점은 1점 이상 5점 이하여야 합니다.");
+        }
+    }
+
+    private int productIdOf(Review review) {
+        return review.getOrderItem().getProduct().getProductId();
     }
 }
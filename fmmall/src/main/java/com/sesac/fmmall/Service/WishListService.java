@@ -1,10 +1,10 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Cache.WishListMembershipCache;
+import com.sesac.fmmall.DTO.WishList.WishListMembershipResponseDTO;
 import com.sesac.fmmall.DTO.WishList.WishListRequestDTO;
 import com.sesac.fmmall.DTO.WishList.WishListResponseDTO;
-import com.sesac.fmmall.Entity.Product;
 import com.sesac.fmmall.Entity.WishList;
-import com.sesac.fmmall.Entity.User;
 import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.WishListRepository;
 import com.sesac.fmmall.Repository.UserRepository;
@@ -16,6 +16,8 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,6 +29,10 @@ public class WishListService {
     private final WishListRepository wishListRepository;
     private final UserRepository userRepository;
     private final ProductRepository productRepository;
+    private final WishListMembershipCache wishListMembershipCache;  // 상품 목록 하트 표시용
+
+    // 포함 여부 한 번에 확인할 수 있는 최대 상품 수 (상품 목록 한 화면 기준)
+    private static final int MAX_MEMBERSHIP_PRODUCTS = 200;
 
     /* 1. 위시리스트 코드로 상세 조회 */
     public WishListResponseDTO findWishListByWishListId(int wishListId, int userId) {
@@ -80,53 +86,45 @@ public class WishListService {
         }
 
         wishListRepository.delete(wishList);
+        wishListMembershipCache.evict(userId);
     }
 
-    /* 5. 위시리스트 토글 형식. 사실상 삽입, 삭제를 담당하기에 위에 것들은 필요없음. */
-    @Transactional
+    /* 5. 위시리스트 토글 형식. 사실상 삽입, 삭제를 담당하기에 위에 것들은 필요없음.
+     *    - 삭제 쿼리 한 번(삭제된 행 수 반환) → 지운 게 없으면 INSERT 한 번 (유저/상품은 조회 없이 참조만 사용)
+     *    - 메서드 전체를 묶지 않고 두 쿼리가 각자 커밋한다.
+     *      (INSERT 가 유니크/외래키 제약에 걸리면 그 INSERT 만 롤백되고, 원인을 확인해 알맞은 예외로 바꿔 준다) */
     public WishListResponseDTO toggleWishlist(int currentUserId, WishListRequestDTO requestDTO) {
-        User user = userRepository.findById(currentUserId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 유저입니다."));
-        Product product = productRepository.findById(requestDTO.getProductId())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 상품입니다."));
+        int productId = requestDTO.getProductId();
 
-        int deletedCount = wishListRepository.deleteByUser_UserIdAndProduct_ProductId(
-                currentUserId, requestDTO.getProductId()
-        );
+        int deletedCount = wishListRepository.deleteByUserIdAndProductId(currentUserId, productId);
 
         if (deletedCount > 0) {
+            wishListMembershipCache.evict(currentUserId);
             return WishListResponseDTO.removedDTO(); // 삭제 성공 응답
-        } else {
-            // 삭제 실패 (Count=0): INSERT 시도
-            WishList newWishList = WishList.builder()
-                    .user(user)
-                    .product(product)
-                    .build();
-
-            try {
-                // 동시성 위험을 DB 제약 조건으로 해결합니다.
-                WishList savedWishList = wishListRepository.save(newWishList);
-                return WishListResponseDTO.from(savedWishList); // 추가 성공 응답
-            } catch (DataIntegrityViolationException ex) {
-                throw new IllegalArgumentException("이미 위시리스트에 추가된 상품입니다.");
+        }
+
+        // 삭제 실패 (Count=0): INSERT 시도
+        WishList newWishList = WishList.builder()
+                .user(userRepository.getReferenceById(currentUserId))
+                .product(productRepository.getReferenceById(productId))
+                .build();
+
+        try {
+            // 동시성 위험을 DB 제약 조건으로 해결합니다. (flush 해야 제약 위반이 여기서 드러난다)
+            WishList savedWishList = wishListRepository.saveAndFlush(newWishList);
+            wishListMembershipCache.evict(currentUserId);
+            return WishListResponseDTO.from(savedWishList); // 추가 성공 응답
+        } catch (DataIntegrityViolationException ex) {
+            // 드문 경로에서만 원인 확인용 조회
+            if (!userRepository.existsById(currentUserId)) {
+                throw new IllegalArgumentException("존재하지 않는 유저입니다.");
+            }
+            if (!productRepository.existsById(productId)) {
+                throw new IllegalArgumentException("존재하지 않는 상품입니다.");
             }
+            // 같은 상품을 동시에 눌러 다른 요청이 먼저 추가함
+            throw new IllegalArgumentException("이미 위시리스트에 추가된 상품입니다.");
         }
-//        Optional<Integer> wishListItem =
-//                wishListRepository.findIdByUserIdAndProductId(
-//                        currentUserId, requestDTO.getProductId()
-//                );
-
-//        if (wishListItem.isPresent()) {
-//            wishListRepository.deleteById(wishListItem.get());
-//            return WishListResponseDTO.removedDTO(); // 삭제
-//        } else {
-//            WishList newWishList = WishList.builder()
-//                    .user(user)
-//                    .product(product)
-//                    .build();
-//            WishList savedWishList = wishListRepository.save(newWishList);
-//            return WishListResponseDTO.from(savedWishList); // 추가
-//        }
     }
 
     @Transactional
@@ -136,5 +134,24 @@ public class WishListService {
         wishListRepository.flush();
 
         wishListRepository.resetAutoIncrement();
+
+        wishListMembershipCache.evictAll();
+    }
+
+    /* 6. 위시리스트 포함 여부 일괄 조회 (상품 목록 하트 표시용)
+     *    - 사용자가 찜한 상품 ID 를 쿼리 한 번으로 읽어 캐시(정렬된 int[])에 두고, 요청한 상품마다 이진 탐색
+     *    - 캐시 적중 시 쿼리 없음. 토글/삭제 시 해당 사용자 캐시 제거 */
+    public WishListMembershipResponseDTO findWishListedProductIds(int userId, Collection<Integer> productIds) {
+        if (productIds.size() > MAX_MEMBERSHIP_PRODUCTS) {
+            throw new IllegalArgumentException("한 번에 최대 " + MAX_MEMBERSHIP_PRODUCTS + "개 상품까지 확인할 수 있습니다.");
+        }
+
+        int[] wishListed = wishListMembershipCache.get(userId, wishListRepository::findProductIdsByUserId);
+
+        List<Integer> hits = new LinkedHashSet<>(productIds).stream()
+                .filter(productId -> WishListMembershipCache.contains(wishListed, productId))
+                .toList();
+
+        return new WishListMembershipResponseDTO(hits);
     }
 }
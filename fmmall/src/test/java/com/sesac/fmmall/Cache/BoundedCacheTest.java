@@ -0,0 +1,106 @@
+package com.sesac.fmmall.Cache;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 캐시 단위 테스트 (스프링 없이 캐시만, 트랜잭션은 TransactionSynchronizationManager 로 흉내)
+ */
+class BoundedCacheTest {
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("커밋 전 값을 읽던 요청이 afterCompletion 제거 뒤에 끝나도 예전 값을 캐시에 넣지 않는다")
+    void get_loadInterleavedWithCommit_doesNotCacheStaleValue() throws Exception {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+        AtomicReference<String> db = new AtomicReference<>("커밋 전 이름");
+
+        CountDownLatch loaded = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        // 1. 조회 요청: 커밋 전 값을 읽은 뒤 멈춤
+        CompletableFuture<String> reader = CompletableFuture.supplyAsync(() -> cache.get(1, key -> {
+            String value = db.get();
+            loaded.countDown();
+            await(release);
+            return value;
+        }));
+        assertThat(loaded.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // 2. 수정 트랜잭션: 무효화 등록 → 커밋 → afterCompletion 제거
+        TransactionSynchronizationManager.initSynchronization();
+        cache.invalidateAfterTransaction(1);
+        db.set("커밋 후 이름");
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(sync -> sync.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        // 3. 조회 요청이 이제서야 끝남 → 자기 응답은 예전 값이지만 캐시에는 넣지 않는다
+        release.countDown();
+        assertThat(reader.get(5, TimeUnit.SECONDS)).isEqualTo("커밋 전 이름");
+        assertThat(cache.get(1)).isNull();
+
+        // 4. 다음 조회는 DB 에서 새 값을 읽어 캐시
+        assertThat(cache.get(1, key -> db.get())).isEqualTo("커밋 후 이름");
+        assertThat(cache.get(1)).isEqualTo("커밋 후 이름");
+        assertThat(cache.getLoadCount()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("읽는 도중 다른 키가 무효화되면 영향 없이 저장한다")
+    void get_otherKeyInvalidated_stillCaches() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+
+        String value = cache.get(1, key -> {
+            cache.invalidate(2);
+            return "상품 1";
+        });
+
+        assertThat(value).isEqualTo("상품 1");
+        assertThat(cache.get(1)).isEqualTo("상품 1");
+    }
+
+    @Test
+    @DisplayName("읽는 도중 전체 무효화가 있으면 저장하지 않고, loader 예외 뒤에도 다음 조회는 정상 저장된다")
+    void get_invalidateAllOrLoaderFailure() {
+        BoundedCache<Integer, String> cache = new BoundedCache<>(10, 60_000);
+
+        cache.get(1, key -> {
+            cache.invalidateAll();
+            return "예전 값";
+        });
+        assertThat(cache.get(1)).isNull();
+
+        assertThatThrownBy(() -> cache.get(1, key -> {
+            throw new IllegalStateException("DB 오류");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(cache.get(1, key -> "새 값")).isEqualTo("새 값");
+        assertThat(cache.get(1)).isEqualTo("새 값");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
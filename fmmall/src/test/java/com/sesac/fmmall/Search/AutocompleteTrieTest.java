@@ -0,0 +1,201 @@
+package com.sesac.fmmall.Search;
+
+import com.sesac.fmmall.Constant.SuggestionType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 자동완성 트라이 단위 테스트 (스프링 없이 트라이만)
+ */
+class AutocompleteTrieTest {
+
+    private static final int BENCH_PRODUCTS = 100_000;
+    private static final int BENCH_QUERIES = 20_000;
+
+    private static final String[] CATEGORIES = {"에어컨", "냉장고", "세탁기", "건조기", "청소기", "공기청정기", "전자레인지", "식기세척기"};
+    private static final String[] ADJECTIVES = {"벽걸이", "스탠드", "무선", "대용량", "초절전", "스마트", "프리미엄", "미니"};
+    private static final String[] MODEL_PREFIXES = {"QN", "AF", "RF", "WF", "DV", "VS", "AX", "MS"};
+
+    @Test
+    @DisplayName("자동완성 - 모델명은 구분자 없이 앞부분만, 판매량 많은 순")
+    void suggest_modelNumberBySales() {
+        AutocompleteTrie trie = new AutocompleteTrie();
+        trie.put(model(1, "QN65Q80C-KR", 30));
+        trie.put(model(2, "QN65QN90C-KR", 120));
+        trie.put(model(3, "QN75Q80C-KR", 500));
+        trie.put(model(4, "OLED65C3", 80));
+
+        assertThat(trie.suggest("QN65", 10)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(2, 1);
+        assertThat(trie.suggest("qn", 10)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(3, 2, 1);
+        assertThat(trie.suggest("qn65-q8", 10)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(1);
+        assertThat(trie.suggest("QN85", 10)).isEmpty();
+        assertThat(trie.suggest(" ", 10)).isEmpty();
+    }
+
+    @Test
+    @DisplayName("자동완성 - 상품명은 중간 단어로도, 브랜드도 함께 제안")
+    void suggest_productWordsAndBrands() {
+        AutocompleteTrie trie = new AutocompleteTrie();
+        trie.put(AutocompleteTrie.Suggestion.of(SuggestionType.PRODUCT, 1, "비스포크 4도어 냉장고", 50));
+        trie.put(AutocompleteTrie.Suggestion.of(SuggestionType.PRODUCT, 2, "양문형 냉장고", 70));
+        trie.put(AutocompleteTrie.Suggestion.of(SuggestionType.BRAND, 1, "비스포크", 900));
+
+        assertThat(trie.suggest("냉장", 10)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(2, 1);
+        assertThat(trie.suggest("비스포크", 10)).extracting(AutocompleteTrie.Suggestion::type)
+                .containsExactly(SuggestionType.BRAND, SuggestionType.PRODUCT);
+        assertThat(trie.suggest("비스포크 4도", 10)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(1);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 판매량 변경/삭제 후 상위 목록이 다시 계산된다")
+    void putAndRemove_recomputesTopK() {
+        AutocompleteTrie trie = new AutocompleteTrie();
+        for (int i = 1; i <= 15; i++) {
+            trie.put(model(i, "AF" + (100 + i), i));
+        }
+        assertThat(trie.suggest("af", 3)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(15, 14, 13);
+
+        // 1등 삭제 → 11등이던 항목이 상위 10개로 올라온다
+        trie.remove(AutocompleteTrie.Suggestion.idOf(SuggestionType.MODEL, 15));
+        assertThat(trie.suggest("af", 10)).extracting(AutocompleteTrie.Suggestion::targetId)
+                .containsExactly(14, 13, 12, 11, 10, 9, 8, 7, 6, 5);
+
+        // 판매량이 바뀌면 같은 ID 로 다시 넣는다
+        trie.put(model(1, "AF101", 1_000));
+        assertThat(trie.suggest("af1", 1)).extracting(AutocompleteTrie.Suggestion::targetId).containsExactly(1);
+        assertThat(trie.size()).isEqualTo(14);
+    }
+
+    @Test
+    @DisplayName("자동완성 - 무작위 추가/삭제를 반복해도 전체를 훑은 결과와 같고, 다 지우면 노드도 정리된다")
+    void randomOperations_matchBruteForce() {
+        AutocompleteTrie trie = new AutocompleteTrie();
+        Map<String, AutocompleteTrie.Suggestion> live = new HashMap<>();
+        Random random = new Random(7);
+        String alphabet = "abc가나";
+        String[] prefixes = {"a", "ab", "b", "가", "가나", "c", "abc", "나a", "ba"};
+
+        for (int step = 0; step < 20_000; step++) {
+            SuggestionType type = SuggestionType.values()[random.nextInt(3)];
+            int targetId = random.nextInt(300);
+            String id = AutocompleteTrie.Suggestion.idOf(type, targetId);
+
+            if (random.nextInt(4) == 0) {
+                trie.remove(id);
+                live.remove(id);
+            } else {
+                StringBuilder text = new StringBuilder();
+                int length = 1 + random.nextInt(6);
+                for (int i = 0; i < length; i++) {
+                    text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+                    if (random.nextInt(5) == 0) {
+                        text.append(' ');
+                    }
+                }
+                AutocompleteTrie.Suggestion suggestion =
+                        AutocompleteTrie.Suggestion.of(type, targetId, text.toString().trim(), random.nextInt(50));
+                trie.put(suggestion);
+                live.put(id, suggestion);
+            }
+
+            if (step % 100 == 0) {
+                for (String prefix : prefixes) {
+                    assertThat(trie.suggest(prefix, 10)).isEqualTo(bruteForce(live, prefix));
+                }
+            }
+        }
+
+        new ArrayList<>(live.keySet()).forEach(trie::remove);
+        assertThat(trie.size()).isZero();
+        assertThat(trie.nodeCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("자동완성 성능 - 상품 100,000개 (상품명 + 모델명)에서 조회 지연 (p50/p99)")
+    void suggest_latencyAt100kProducts() {
+        Random random = new Random(42);
+        AutocompleteTrie trie = new AutocompleteTrie();
+        List<String> models = new ArrayList<>();
+
+        long startedAt = System.nanoTime();
+        for (int i = 1; i <= BENCH_PRODUCTS; i++) {
+            String name = pick(ADJECTIVES, random) + " " + pick(CATEGORIES, random) + " " + (random.nextInt(900) + 100) + "L";
+            String model = pick(MODEL_PREFIXES, random) + random.nextInt(100) + "B" + random.nextInt(10_000) + "-KR";
+            long sales = random.nextInt(10_000);
+            trie.put(AutocompleteTrie.Suggestion.of(SuggestionType.PRODUCT, i, name, sales));
+            trie.put(AutocompleteTrie.Suggestion.of(SuggestionType.MODEL, i, model, sales));
+            models.add(model);
+        }
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        // 사용자가 한 글자씩 치는 것처럼 1~6글자 앞부분
+        String[] queries = new String[BENCH_QUERIES];
+        for (int i = 0; i < BENCH_QUERIES; i++) {
+            String source = i % 2 == 0 ? models.get(random.nextInt(models.size())) : pick(CATEGORIES, random);
+            queries[i] = source.substring(0, Math.min(source.length(), 1 + random.nextInt(6)));
+        }
+
+        for (int i = 0; i < 2_000; i++) {
+            trie.suggest(queries[i], 10);
+        }
+
+        long[] nanos = new long[BENCH_QUERIES];
+        int nonEmpty = 0;
+        for (int i = 0; i < BENCH_QUERIES; i++) {
+            long queryStartedAt = System.nanoTime();
+            List<AutocompleteTrie.Suggestion> result = trie.suggest(queries[i], 10);
+            nanos[i] = System.nanoTime() - queryStartedAt;
+            if (!result.isEmpty()) {
+                nonEmpty++;
+            }
+        }
+        Arrays.sort(nanos);
+
+        System.out.println("=== 🔥 자동완성 상품 " + BENCH_PRODUCTS + "개 (제안 " + trie.size() + "개, 노드 " + trie.nodeCount()
+                + "개): 구축 " + buildMillis + "ms, 조회 " + BENCH_QUERIES + "번 p50=" + nanos[BENCH_QUERIES / 2] / 1_000.0
+                + "us, p99=" + nanos[BENCH_QUERIES * 99 / 100] / 1_000.0 + "us");
+
+        assertThat(nonEmpty).isEqualTo(BENCH_QUERIES);
+        // 압축 트라이라 노드 수가 키 수 수준에 머문다 (상품당 키 최대 4개)
+        assertThat(trie.nodeCount()).isLessThan(BENCH_PRODUCTS * 4 * 2);
+    }
+
+    private static List<AutocompleteTrie.Suggestion> bruteForce(Map<String, AutocompleteTrie.Suggestion> live, String prefix) {
+        List<AutocompleteTrie.Suggestion> matched = new ArrayList<>();
+        for (AutocompleteTrie.Suggestion suggestion : live.values()) {
+            List<String> keys = new ArrayList<>();
+            keys.add(AutocompleteTrie.normalize(suggestion.text()));
+            if (suggestion.type() == SuggestionType.PRODUCT) {
+                String[] words = suggestion.text().trim().split("\\s+");
+                for (int w = 1; w < words.length && w <= 3; w++) {
+                    keys.add(AutocompleteTrie.normalize(String.join(" ", Arrays.copyOfRange(words, w, words.length))));
+                }
+            }
+            if (keys.stream().anyMatch(key -> key.startsWith(prefix))) {
+                matched.add(suggestion);
+            }
+        }
+        matched.sort(Comparator.comparingLong(AutocompleteTrie.Suggestion::weight).reversed()
+                .thenComparing(AutocompleteTrie.Suggestion::text)
+                .thenComparing(AutocompleteTrie.Suggestion::id));
+        return matched.size() > 10 ? matched.subList(0, 10) : matched;
+    }
+
+    private static AutocompleteTrie.Suggestion model(int productId, String modelName, long sales) {
+        return AutocompleteTrie.Suggestion.of(SuggestionType.MODEL, productId, modelName, sales);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+}
@@ -0,0 +1,179 @@
+package com.sesac.fmmall.Search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 검색 색인 단위 테스트 (스프링 없이 색인만)
+ */
+class ProductSearchIndexTest {
+
+    private static final int BENCH_PRODUCTS = 100_000;
+    private static final int BENCH_QUERIES = 2_000;
+
+    private static final String[] BRANDS = {"삼성전자", "LG전자", "위니아", "캐리어", "쿠쿠", "다이슨", "필립스", "샤오미"};
+    private static final String[] CATEGORIES = {"에어컨", "냉장고", "세탁기", "건조기", "청소기", "공기청정기", "전자레인지", "식기세척기"};
+    private static final String[] ADJECTIVES = {"벽걸이", "스탠드", "무선", "대용량", "초절전", "스마트", "프리미엄", "미니"};
+    private static final String[] MODEL_PREFIXES = {"QN", "AF", "RF", "WF", "DV", "VS", "AX", "MS"};
+
+    @Test
+    @DisplayName("토큰화 - 한글은 바이그램, 모델명은 조각과 구분자 뺀 전체")
+    void tokenize_hangulBigramsAndModelNumbers() {
+        assertThat(ProductTokenizer.tokenize("벽걸이에어컨")).containsExactly("벽걸", "걸이", "이에", "에어", "어컨");
+        assertThat(ProductTokenizer.tokenize("QN65Q80C-KR")).containsExactly("qn65q80c", "kr", "qn65q80ckr");
+        assertThat(ProductTokenizer.tokenize("삼성 갤럭시S24 울트라")).containsExactly("삼성", "갤럭", "럭시", "s24", "울트", "트라");
+        assertThat(ProductTokenizer.tokenize("ＬＧ 샷")).containsExactly("lg", "샷");
+    }
+
+    @Test
+    @DisplayName("검색 - 모든 토큰이 들어간 상품만, 상품명 일치가 설명 일치보다 위")
+    void search_andSemanticsAndFieldWeight() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(doc(1, "무풍 벽걸이 에어컨", "AR07B9150HZ", "여름 필수", "삼성전자", "계절가전", "에어컨"));
+        index.put(doc(2, "스탠드 선풍기", "SF-100", "에어컨 옆에 두기 좋은 선풍기", "신일", "계절가전", "선풍기"));
+        index.put(doc(3, "양문형 냉장고", "RF85B9", "대용량", "삼성전자", "주방가전", "냉장고"));
+
+        ProductSearchIndex.SearchResult aircon = index.search("에어컨", 0, 10);
+        assertThat(aircon.total()).isEqualTo(2);
+        assertThat(aircon.hits()).extracting(ProductSearchIndex.SearchHit::productId).containsExactly(1, 2);
+
+        // 브랜드 + 카테고리 (AND)
+        ProductSearchIndex.SearchResult samsungFridge = index.search("삼성 냉장고", 0, 10);
+        assertThat(samsungFridge.hits()).extracting(ProductSearchIndex.SearchHit::productId).containsExactly(3);
+
+        assertThat(index.search("김치냉장고", 0, 10).total()).isZero();
+    }
+
+    @Test
+    @DisplayName("검색 - 모델명은 앞부분만, 구분자 없이 붙여 써도 찾는다")
+    void search_modelNumberPrefix() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(doc(1, "네오 QLED TV", "QN65QN90C-KR", null, "삼성전자", "TV", null));
+        index.put(doc(2, "네오 QLED TV", "QN75QN90C-KR", null, "삼성전자", "TV", null));
+        index.put(doc(3, "OLED TV", "OLED65C3", null, "LG전자", "TV", null));
+
+        assertThat(index.search("QN65", 0, 10).hits())
+                .extracting(ProductSearchIndex.SearchHit::productId).containsExactly(1);
+        assertThat(index.search("qn", 0, 10).total()).isEqualTo(2);
+        assertThat(index.search("QN65QN90CKR", 0, 10).hits())
+                .extracting(ProductSearchIndex.SearchHit::productId).containsExactly(1);
+        assertThat(index.search("oled65", 0, 10).hits())
+                .extracting(ProductSearchIndex.SearchHit::productId).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("색인 변경 - 수정하면 예전 단어로는 안 나오고, 삭제하면 사라진다")
+    void putAndRemove_updatesIncrementally() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        index.put(doc(1, "드럼 세탁기", "WF21", null, "삼성전자", "세탁기", null));
+        index.put(doc(2, "통돌이 세탁기", "WA16", null, "삼성전자", "세탁기", null));
+
+        index.put(doc(1, "의류 건조기", "DV17", null, "삼성전자", "건조기", null));
+
+        assertThat(index.size()).isEqualTo(2);
+        assertThat(index.search("드럼", 0, 10).total()).isZero();
+        assertThat(index.search("건조기", 0, 10).hits())
+                .extracting(ProductSearchIndex.SearchHit::productId).containsExactly(1);
+
+        index.remove(2);
+        assertThat(index.size()).isEqualTo(1);
+        assertThat(index.search("통돌이", 0, 10).total()).isZero();
+
+        // 지운 자리를 재사용해도 다른 상품 점수에 섞이지 않는다
+        index.put(doc(3, "통돌이 세탁기", "WA19", null, "LG전자", "세탁기", null));
+        assertThat(index.search("통돌이", 0, 10).hits())
+                .extracting(ProductSearchIndex.SearchHit::productId).containsExactly(3);
+    }
+
+    @Test
+    @DisplayName("검색 - 페이지를 나눠도 순서가 이어진다")
+    void search_pagination() {
+        ProductSearchIndex index = new ProductSearchIndex();
+        for (int i = 1; i <= 25; i++) {
+            index.put(doc(i, "청소기 " + i, "VS" + i, null, "다이슨", "청소기", null));
+        }
+
+        List<Integer> all = index.search("청소기", 0, 25).hits().stream()
+                .map(ProductSearchIndex.SearchHit::productId).toList();
+        List<Integer> paged = new ArrayList<>();
+        for (int page = 0; page < 3; page++) {
+            ProductSearchIndex.SearchResult result = index.search("청소기", page * 10, 10);
+            assertThat(result.total()).isEqualTo(25);
+            result.hits().forEach(hit -> paged.add(hit.productId()));
+        }
+
+        assertThat(paged).containsExactlyElementsOf(all);
+    }
+
+    @Test
+    @DisplayName("검색 성능 - 상품 100,000개에서 검색 지연 (p50/p99)")
+    void search_latencyAt100kProducts() {
+        Random random = new Random(42);
+        ProductSearchIndex index = new ProductSearchIndex();
+
+        long startedAt = System.nanoTime();
+        for (int i = 1; i <= BENCH_PRODUCTS; i++) {
+            index.put(randomProduct(i, random));
+        }
+        long buildMillis = (System.nanoTime() - startedAt) / 1_000_000;
+
+        String[] queries = new String[BENCH_QUERIES];
+        for (int i = 0; i < BENCH_QUERIES; i++) {
+            queries[i] = switch (i % 4) {
+                case 0 -> pick(CATEGORIES, random);
+                case 1 -> pick(BRANDS, random) + " " + pick(CATEGORIES, random);
+                case 2 -> pick(ADJECTIVES, random) + " " + pick(CATEGORIES, random);
+                default -> pick(MODEL_PREFIXES, random) + random.nextInt(100);
+            };
+        }
+
+        // 워밍업
+        for (int i = 0; i < 200; i++) {
+            index.search(queries[i], 0, 20);
+        }
+
+        long[] micros = new long[BENCH_QUERIES];
+        int nonEmpty = 0;
+        for (int i = 0; i < BENCH_QUERIES; i++) {
+            long queryStartedAt = System.nanoTime();
+            ProductSearchIndex.SearchResult result = index.search(queries[i], 0, 20);
+            micros[i] = (System.nanoTime() - queryStartedAt) / 1_000;
+            if (result.total() > 0) {
+                nonEmpty++;
+            }
+        }
+        Arrays.sort(micros);
+
+        System.out.println("=== 🔥 검색 색인 상품 " + BENCH_PRODUCTS + "개 (단어 " + index.termCount() + "개): 구축 " + buildMillis
+                + "ms, 검색 " + BENCH_QUERIES + "번 p50=" + micros[BENCH_QUERIES / 2] + "us, p99="
+                + micros[BENCH_QUERIES * 99 / 100] + "us, max=" + micros[BENCH_QUERIES - 1] + "us");
+
+        assertThat(index.size()).isEqualTo(BENCH_PRODUCTS);
+        assertThat(nonEmpty).isGreaterThan(BENCH_QUERIES * 9 / 10);
+    }
+
+    private ProductSearchDocument randomProduct(int productId, Random random) {
+        String brand = pick(BRANDS, random);
+        String category = pick(CATEGORIES, random);
+        String name = pick(ADJECTIVES, random) + " " + category + " " + (random.nextInt(900) + 100) + "L";
+        String model = pick(MODEL_PREFIXES, random) + random.nextInt(100) + "B" + random.nextInt(10_000) + "-KR";
+        String description = brand + "의 " + pick(ADJECTIVES, random) + " " + category + ". 에너지 효율 " + (random.nextInt(5) + 1) + "등급";
+        return doc(productId, name, model, description, brand, "생활가전", category);
+    }
+
+    private static String pick(String[] values, Random random) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static ProductSearchDocument doc(int productId, String name, String modelName, String description,
+                                             String brandName, String categoryName, String rowCategoryName) {
+        return new ProductSearchDocument(productId, name, modelName, description, brandName, categoryName, rowCategoryName);
+    }
+}
@@ -0,0 +1,115 @@
+package com.sesac.fmmall.Security;
+
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Entity.User;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Base64;
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+/**
+ * JWT 검증 캐시 단위 테스트 (스프링 없이 Provider 만)
+ */
+class JwtTokenProviderTest {
+
+    private static final String SECRET = "jwt-token-provider-test-secret-key-0123456789";
+
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtTokenProvider provider = new JwtTokenProvider();
+        ReflectionTestUtils.setField(provider, "secretKeyPlain", SECRET);
+        ReflectionTestUtils.setField(provider, "tokenValidityInSeconds", 3600L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheSize", 100);
+        ReflectionTestUtils.setField(provider, "verifiedCacheTtlSeconds", 60L);
+        provider.init();
+
+        // 서명 검증(parseClaims) 호출 횟수를 세기 위해 spy
+        jwtTokenProvider = spy(provider);
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 여러 번 확인해도 서명 검증은 한 번 (getXxx 도 캐시 사용)")
+    void resolveClaims_sameToken_verifiesOnce() {
+        String token = jwtTokenProvider.createToken(user(7, UserRole.ADMIN));
+
+        Claims first = jwtTokenProvider.resolveClaims(token);
+        Claims second = jwtTokenProvider.resolveClaims(token);
+
+        assertThat(first.get("userId", Integer.class)).isEqualTo(7);
+        assertThat(second).isSameAs(first);
+        assertThat(jwtTokenProvider.getUserId(token)).isEqualTo(7);
+        assertThat(jwtTokenProvider.getLoginId(token)).isEqualTo("jwtUser7");
+        assertThat(jwtTokenProvider.getRole(token)).isEqualTo("ADMIN");
+        assertThat(jwtTokenProvider.validateToken(token)).isTrue();
+
+        verify(jwtTokenProvider, times(1)).parseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("캐시에 있던 토큰도 만료 시각이 지나면 거부한다")
+    void resolveClaims_cachedTokenExpired_rejected() throws InterruptedException {
+        // exp 는 초 단위라 다음 초 경계 + 1초로 잡는다
+        long expiresAt = (System.currentTimeMillis() / 1000 + 2) * 1000;
+        String token = Jwts.builder()
+                .setSubject("jwtUserExpiring")
+                .claim("userId", 8)
+                .claim("role", UserRole.USER.name())
+                .setExpiration(new Date(expiresAt))
+                .signWith(Keys.hmacShaKeyFor(SECRET.getBytes()), SignatureAlgorithm.HS256)
+                .compact();
+
+        assertThat(jwtTokenProvider.resolveClaims(token)).isNotNull();
+
+        Thread.sleep(expiresAt - System.currentTimeMillis() + 50);
+
+        // 캐시에서 꺼낸 Claims 의 만료를 확인해 거부 (다시 검증하지 않는다)
+        assertThat(jwtTokenProvider.resolveClaims(token)).isNull();
+        verify(jwtTokenProvider, times(1)).parseClaims(anyString());
+    }
+
+    @Test
+    @DisplayName("서명이나 내용을 바꾼 토큰은 null (캐시된 원본과 섞이지 않는다)")
+    void resolveClaims_tamperedToken_returnsNull() {
+        String token = jwtTokenProvider.createToken(user(9, UserRole.USER));
+        assertThat(jwtTokenProvider.resolveClaims(token)).isNotNull();
+
+        String[] parts = token.split("\\.");
+
+        // 서명 첫 글자 변경 (마지막 글자는 쓰이지 않는 비트가 있어 바꿔도 같은 서명일 수 있다)
+        char first = parts[2].charAt(0);
+        String badSignature = parts[0] + "." + parts[1] + "." + (first == 'A' ? 'B' : 'A') + parts[2].substring(1);
+
+        // 내용을 ADMIN 으로 바꾸고 원래 서명을 붙인다
+        String forgedPayload = Base64.getUrlEncoder().withoutPadding().encodeToString(
+                new String(Base64.getUrlDecoder().decode(parts[1])).replace("USER", "ADMIN").getBytes());
+        String forged = parts[0] + "." + forgedPayload + "." + parts[2];
+
+        assertThat(jwtTokenProvider.resolveClaims(badSignature)).isNull();
+        assertThat(jwtTokenProvider.resolveClaims(forged)).isNull();
+        assertThat(jwtTokenProvider.resolveClaims("not-a-jwt")).isNull();
+        assertThat(jwtTokenProvider.resolveClaims(token).get("role", String.class)).isEqualTo("USER");
+    }
+
+    private static User user(int userId, UserRole role) {
+        return User.builder()
+                .userId(userId)
+                .loginId("jwtUser" + userId)
+                .role(role)
+                .build();
+    }
+}
@@ -0,0 +1,202 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemResponseDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
+import com.sesac.fmmall.DTO.CartResponseDTO;
+import com.sesac.fmmall.DTO.CartSummaryResponseDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
+@Transactional
+class CartServiceTest {
+
+    private static final int CART_LINES = 100;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private List<Product> products;
+    private Cart cart;
+
+    @BeforeEach
+    void setUp() {
+        // 1) 유저
+        user = userRepository.save(User.builder()
+                .loginId("cartUser")
+                .password("encoded-password")
+                .userName("장바구니 사용자")
+                .userPhone("010-1111-2222")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        // 2) 브랜드 / 카테고리 / 하위 카테고리
+        Brand brand = brandRepository.save(Brand.builder().name("장바구니 브랜드").build());
+        Category category = categoryRepository.save(Category.builder().name("생활가전").build());
+        RowCategory rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("청소기")
+                .category(category)
+                .build());
+
+        // 3) 상품 100개 + 장바구니에 1개씩
+        products = new ArrayList<>();
+        cart = cartRepository.save(new Cart(user));
+        for (int i = 0; i < CART_LINES; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("장바구니 상품 " + i)
+                    .price(1_000 * (i + 1))
+                    .stockQuantity(10)
+                    .description("장바구니 테스트용")
+                    .isInstallationRequired("N")
+                    .productStatus(ProductStatus.ACTIVE)
+                    .modelName("CART-TEST-" + i)
+                    .brand(brand)
+                    .category(category)
+                    .rowCategory(rowCategory)
+                    .build());
+            products.add(product);
+            cart.addCartItem(CartItem.createCartItem(product, 1));
+        }
+        cartRepository.save(cart);
+    }
+
+    @Test
+    @DisplayName("장바구니 조회 - 100개 항목이어도 상품 지연 로딩 없이 쿼리 2번")
+    void findAllCartItems_100Lines_constantQueries() {
+        // given
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        // when
+        long startedAt = System.nanoTime();
+        CartResponseDTO response = cartService.findAllCartItems(user.getUserId());
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        int selects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 장바구니 " + CART_LINES + "개 조회: SELECT=" + selects + ", " + elapsedMicros + "us");
+
+        // then: 장바구니 1번 + 항목/상품 projection 1번
+        assertThat(selects).isEqualTo(2);
+        assertThat(response.getItemList()).hasSize(CART_LINES);
+        assertThat(response.getTotalItemCount()).isEqualTo(CART_LINES);
+        // 1,000 + 2,000 + ... + 100,000
+        assertThat(response.getTotalPrice()).isEqualTo(1_000 * CART_LINES * (CART_LINES + 1) / 2);
+
+        CartItemResponseDTO first = response.getItemList().get(0);
+        assertThat(first.getProductName()).isEqualTo("장바구니 상품 0");
+        assertThat(first.getProductPrice()).isEqualTo(1_000);
+        assertThat(first.getTotalPrice()).isEqualTo(1_000);
+    }
+
+    @Test
+    @DisplayName("장바구니 수량 변경 - 요약 응답은 전체 목록을 다시 만들지 않는다")
+    void updateCartItemQuantitySummary_returnsDeltaAndTotals() {
+        // given (flush 해야 장바구니 상품 ID 가 채워진다)
+        entityManager.flush();
+        int cartItemId = cart.getCartItems().get(0).getCartItemId();
+        CartItemUpdateRequestDTO request = new CartItemUpdateRequestDTO();
+        request.setQuantity(3);
+
+        // 1) 전체 목록 응답
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+        long startedAt = System.nanoTime();
+        CartResponseDTO full = cartService.updateCartItemQuantity(user.getUserId(), cartItemId, request);
+        long fullMicros = (System.nanoTime() - startedAt) / 1_000;
+        int fullSelects = SelectQueryCounter.count();
+
+        // 2) 요약 응답
+        request.setQuantity(4);
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+        startedAt = System.nanoTime();
+        CartSummaryResponseDTO summary = cartService.updateCartItemQuantitySummary(user.getUserId(), cartItemId, request);
+        long summaryMicros = (System.nanoTime() - startedAt) / 1_000;
+        int summarySelects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 수량 변경 (" + CART_LINES + "개 장바구니): 전체 응답 SELECT=" + fullSelects + ", " + fullMicros + "us"
+                + " / 요약 응답 SELECT=" + summarySelects + ", " + summaryMicros + "us");
+
+        // then
+        assertThat(full.getItemList()).hasSize(CART_LINES);
+        assertThat(summary.getChangedItem().getCartItemId()).isEqualTo(cartItemId);
+        assertThat(summary.getChangedItem().getCartItemQuantity()).isEqualTo(4);
+        assertThat(summary.getChangedItem().getTotalPrice()).isEqualTo(4_000);
+        assertThat(summary.getTotalItemCount()).isEqualTo(CART_LINES);
+        assertThat(summary.getTotalPrice()).isEqualTo(1_000 * CART_LINES * (CART_LINES + 1) / 2 + 3_000);
+        assertThat(summarySelects).isLessThanOrEqualTo(fullSelects);
+    }
+
+    @Test
+    @DisplayName("장바구니 상품 추가 - 이미 담긴 상품이면 수량을 합치고 요약을 반환한다")
+    void createCartItemSummary_existingProduct_mergesQuantity() {
+        // given
+        CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+        request.setProductId(products.get(1).getProductId());
+        request.setQuantity(2);
+
+        // when
+        CartSummaryResponseDTO summary = cartService.createCartItemSummary(user.getUserId(), request);
+
+        // then
+        assertThat(summary.getCartId()).isEqualTo(cart.getCartId());
+        assertThat(summary.getChangedItem().getProductId()).isEqualTo(products.get(1).getProductId());
+        assertThat(summary.getChangedItem().getCartItemQuantity()).isEqualTo(3);
+        assertThat(summary.getTotalItemCount()).isEqualTo(CART_LINES);
+        assertThat(summary.getTotalPrice()).isEqualTo(1_000 * CART_LINES * (CART_LINES + 1) / 2 + 2 * 2_000);
+    }
+}
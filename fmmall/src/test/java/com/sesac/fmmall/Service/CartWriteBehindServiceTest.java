@@ -0,0 +1,362 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.CartItem.CartItemCheckRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemCreateRequestDTO;
+import com.sesac.fmmall.DTO.CartItem.CartItemUpdateRequestDTO;
+import com.sesac.fmmall.DTO.CartResponseDTO;
+import com.sesac.fmmall.DTO.CartSummaryResponseDTO;
+import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 장바구니 write-behind 테스트
+ * - 반영(flush)은 별도 트랜잭션으로 커밋되므로 @Transactional 을 붙이지 않고 @AfterEach 에서 정리한다.
+ * - 주기 반영은 테스트 중에 끼어들지 않도록 길게 잡고, flushUser 로 직접 반영한다.
+ */
+@SpringBootTest(properties = {
+        "fmmall.cart.write-behind.enabled=true",
+        "fmmall.cart.write-behind.flush-interval-ms=3600000",
+        "fmmall.cart.write-behind.max-flush-failures=2"
+})
+class CartWriteBehindServiceTest {
+
+    private static final int TWEAKS = 30;
+
+    @Autowired
+    private CartService cartService;
+
+    @Autowired
+    private CartWriteBehindService cartWriteBehindService;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private CartRepository cartRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+    private RowCategory rowCategory;
+    private Product product;
+    private Address address;
+    private PaymentMethod paymentMethod;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime() % 1_000_000_000L;
+
+        user = userRepository.save(User.builder()
+                .loginId("cartWbUser" + suffix)
+                .password("encoded-password")
+                .userName("장바구니 사용자")
+                .userPhone("010-1111-3333")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        brand = brandRepository.save(Brand.builder().name("write-behind 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("write-behind 카테고리").build());
+        rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("write-behind 하위 카테고리")
+                .category(category)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .name("write-behind 공기청정기")
+                .price(10_000)
+                .stockQuantity(100)
+                .description("장바구니 write-behind 테스트용")
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("CART-WB-001")
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+
+        address = addressRepository.save(Address.builder()
+                .receiverName("테스트 수령인")
+                .receiverPhone("010-9999-8888")
+                .zipcode("12345")
+                .address1("서울시 강남구 테헤란로 123")
+                .address2("101동 1001호")
+                .isDefault("Y")
+                .user(user)
+                .build());
+
+        paymentMethod = paymentMethodRepository.save(PaymentMethod.builder()
+                .cardCompany("HyundaiCard")
+                .maskedCardNumber("****-****-****-1234")
+                .isDefault(true)
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        // 남은 메모리 장바구니를 반영해 두고 DB 에서 지운다.
+        cartWriteBehindService.flushUser(user.getUserId());
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Order order : orderRepository.findByUser_UserId(user.getUserId())) {
+                paymentRepository.findByOrder(order).ifPresent(paymentRepository::delete);
+                orderRepository.delete(order);
+            }
+            cartRepository.findByUser_UserId(user.getUserId()).ifPresent(cartRepository::delete);
+        });
+        paymentMethodRepository.deleteById(paymentMethod.getPaymentMethodId());
+        addressRepository.deleteById(address.getAddressId());
+        productRepository.deleteById(product.getProductId());
+        rowCategoryRepository.deleteById(rowCategory.getRowCategoryId());
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("수량 변경 여러 번 - 반영 전에는 DB 를 건드리지 않고, 반영 시 마지막 수량 한 행만 기록된다")
+    void quantityTweaks_coalescedIntoSingleFlush() {
+        // given: 장바구니가 없던 사용자가 상품을 담는다 (임시 ID 로 응답)
+        CartSummaryResponseDTO added = cartService.createCartItemSummary(user.getUserId(), createRequest(1));
+        int cartItemId = added.getChangedItem().getCartItemId();
+        assertThat(cartItemId).isNegative();
+
+        // when: 수량을 여러 번 바꾼다
+        long startedAt = System.nanoTime();
+        CartSummaryResponseDTO last = null;
+        for (int i = 1; i <= TWEAKS; i++) {
+            last = cartService.updateCartItemQuantitySummary(user.getUserId(), cartItemId, updateRequest(i % 5 + 1));
+        }
+        long tweakMicros = (System.nanoTime() - startedAt) / 1_000;
+
+        // then: 아직 DB 에는 장바구니가 없다
+        assertThat(cartRepository.findByUser_UserId(user.getUserId())).isEmpty();
+        assertThat(last.getChangedItem().getCartItemQuantity()).isEqualTo(TWEAKS % 5 + 1);
+        assertThat(last.getTotalPrice()).isEqualTo(10_000 * (TWEAKS % 5 + 1));
+
+        // when: 반영
+        cartWriteBehindService.flushUser(user.getUserId());
+
+        // then: 장바구니 1개, 항목 1행, 마지막 수량
+        Cart cart = cartRepository.findByUser_UserId(user.getUserId()).orElseThrow();
+        List<CartItem> rows = cartItemRepository.findByCart_CartId(cart.getCartId());
+
+        System.out.println("=== 🔥 수량 변경 " + TWEAKS + "번: 메모리 처리 " + tweakMicros + "us, 반영 후 행=" + rows.size());
+
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getCartItemQuantity()).isEqualTo(TWEAKS % 5 + 1);
+
+        // 반영 후 응답은 실제 ID, 이전에 받은 임시 ID 로도 계속 수정할 수 있다
+        CartResponseDTO cartResponse = cartService.findAllCartItems(user.getUserId());
+        assertThat(cartResponse.getCartId()).isEqualTo(cart.getCartId());
+        assertThat(cartResponse.getItemList().get(0).getCartItemId()).isEqualTo(rows.get(0).getCartItemId());
+
+        cartService.updateCartItemQuantitySummary(user.getUserId(), cartItemId, updateRequest(7));
+        cartWriteBehindService.flushUser(user.getUserId());
+        assertThat(cartItemRepository.findById(rows.get(0).getCartItemId()).orElseThrow().getCartItemQuantity())
+                .isEqualTo(7);
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 - 아직 반영 안 된 변경도 주문에 그대로 들어가고, 주문 후에는 DB 에서 다시 읽는다")
+    void createOrderFromCart_readsFlushedSnapshot() {
+        // given: 메모리에만 있는 장바구니 (수량 3)
+        int cartItemId = cartService.createCartItemSummary(user.getUserId(), createRequest(1))
+                .getChangedItem().getCartItemId();
+        cartService.updateCartItemQuantitySummary(user.getUserId(), cartItemId, updateRequest(3));
+        CartItemCheckRequestDTO checkRequest = new CartItemCheckRequestDTO();
+        checkRequest.setCheckStatus("Y");
+        cartService.updateCheckStatus(user.getUserId(), cartItemId, checkRequest);
+        assertThat(cartRepository.findByUser_UserId(user.getUserId())).isEmpty();
+
+        // when
+        OrderResponse response = orderService.createOrderFromCart(user.getUserId(), CartOrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .build());
+
+        // then: 메모리 수량 그대로 주문, 재고 차감
+        assertThat(response.getTotalPrice()).isEqualTo(30_000);
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity())
+                .isEqualTo(97);
+
+        // 주문된 항목은 장바구니에서 빠졌고, 다음 조회는 DB 기준
+        CartResponseDTO after = cartService.findAllCartItems(user.getUserId());
+        assertThat(after.getItemList()).isEmpty();
+        assertThat(after.getTotalPrice()).isZero();
+    }
+
+    @Test
+    @DisplayName("장바구니 주문 - 주문 트랜잭션 안에서 반영하고, 같은 사용자의 장바구니 변경은 커밋될 때까지 기다린다")
+    void createOrderFromCart_sameUserEditWaitsForCommit() throws Exception {
+        // given: 메모리에만 있는 선택된 항목
+        int cartItemId = cartService.createCartItemSummary(user.getUserId(), createRequest(2))
+                .getChangedItem().getCartItemId();
+        CartItemCheckRequestDTO checkRequest = new CartItemCheckRequestDTO();
+        checkRequest.setCheckStatus("Y");
+        cartService.updateCheckStatus(user.getUserId(), cartItemId, checkRequest);
+
+        // when: 주문 트랜잭션이 열려 있는 동안 같은 사용자가 다시 담는다
+        CompletableFuture<CartSummaryResponseDTO> concurrentAdd = transactionTemplate.execute(status -> {
+            orderService.createOrderFromCart(user.getUserId(), CartOrderCreateRequest.builder()
+                    .addressId(address.getAddressId())
+                    .paymentMethodId(paymentMethod.getPaymentMethodId())
+                    .build());
+
+            CompletableFuture<CartSummaryResponseDTO> add = CompletableFuture.supplyAsync(
+                    () -> cartService.createCartItemSummary(user.getUserId(), createRequest(1)));
+            assertThatThrownBy(() -> add.get(300, TimeUnit.MILLISECONDS))
+                    .isInstanceOf(TimeoutException.class);
+            return add;
+        });
+
+        // then: 커밋 후에 진행되고, 주문으로 빠진 뒤의 장바구니(DB)에 새로 담긴다
+        CartSummaryResponseDTO added = concurrentAdd.get(5, TimeUnit.SECONDS);
+        assertThat(added.getChangedItem().getCartItemQuantity()).isEqualTo(1);
+        assertThat(added.getTotalItemCount()).isEqualTo(1);
+
+        cartWriteBehindService.flushUser(user.getUserId());
+        Cart cart = cartRepository.findByUser_UserId(user.getUserId()).orElseThrow();
+        List<CartItem> rows = cartItemRepository.findByCart_CartId(cart.getCartId());
+        assertThat(rows).hasSize(1);
+        assertThat(rows.get(0).getCartItemQuantity()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("반영 - 메모리 장바구니에 있던 상품이 삭제되면 그 항목만 버리고 나머지는 반영한다")
+    void flush_dropsLinesOfDeletedProducts() {
+        // given: 두 상품을 담고 (메모리), 그중 하나가 삭제된다
+        Product discontinued = productRepository.save(Product.builder()
+                .name("write-behind 단종 상품")
+                .price(5_000)
+                .stockQuantity(10)
+                .description("반영 전에 삭제되는 상품")
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("CART-WB-002")
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+
+        CartItemCreateRequestDTO discontinuedRequest = new CartItemCreateRequestDTO();
+        discontinuedRequest.setProductId(discontinued.getProductId());
+        discontinuedRequest.setQuantity(1);
+        cartService.createCartItemSummary(user.getUserId(), discontinuedRequest);
+        cartService.createCartItemSummary(user.getUserId(), createRequest(2));
+
+        productRepository.deleteById(discontinued.getProductId());
+
+        // when
+        cartWriteBehindService.flushUser(user.getUserId());
+
+        // then: 남은 상품 한 행만 반영되고, 메모리에서도 빠진다
+        Cart cart = cartRepository.findByUser_UserId(user.getUserId()).orElseThrow();
+        List<CartItem> rows = cartItemRepository.findByCart_CartId(cart.getCartId());
+        assertThat(rows).extracting(row -> row.getProduct().getProductId()).containsExactly(product.getProductId());
+
+        CartResponseDTO cartResponse = cartService.findAllCartItems(user.getUserId());
+        assertThat(cartResponse.getItemList()).hasSize(1);
+        assertThat(cartResponse.getTotalPrice()).isEqualTo(20_000);
+    }
+
+    @Test
+    @DisplayName("반영 - 계속 실패하는 장바구니는 max-flush-failures 번 뒤에 포기하고 메모리에서 내린다")
+    void flushDirty_givesUpAfterMaxFailures() {
+        // given: 메모리 장바구니가 반영되기 전에 사용자가 삭제됨 → cart 추가가 FK 로 계속 실패
+        User leaving = userRepository.save(User.builder()
+                .loginId("cartWbLeaving" + System.nanoTime() % 1_000_000_000L)
+                .password("encoded-password")
+                .userName("탈퇴 사용자")
+                .userPhone("010-1111-4444")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+        cartService.createCartItemSummary(leaving.getUserId(), createRequest(1));
+        userRepository.deleteById(leaving.getUserId());
+
+        // when & then: 1번째 실패는 다시 시도, 2번째에 포기
+        cartWriteBehindService.flushDirty();
+        assertThat(cartWriteBehindService.isCached(leaving.getUserId())).isTrue();
+
+        cartWriteBehindService.flushDirty();
+        assertThat(cartWriteBehindService.isCached(leaving.getUserId())).isFalse();
+        assertThat(cartRepository.findByUser_UserId(leaving.getUserId())).isEmpty();
+    }
+
+    private CartItemCreateRequestDTO createRequest(int quantity) {
+        CartItemCreateRequestDTO request = new CartItemCreateRequestDTO();
+        request.setProductId(product.getProductId());
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private CartItemUpdateRequestDTO updateRequest(int quantity) {
+        CartItemUpdateRequestDTO request = new CartItemUpdateRequestDTO();
+        request.setQuantity(quantity);
+        return request;
+    }
+}
@@ -0,0 +1,209 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.Inquiry.InquiryAnswerResponseDTO;
+import com.sesac.fmmall.DTO.Inquiry.InquiryResponseDTO;
+import com.sesac.fmmall.DTO.Inquiry.InquiryWithAnswersResponseDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
+@Transactional
+class InquiryServiceTest {
+
+    private static final int INQUIRIES = 30;
+    private static final int ANSWERS_PER_INQUIRY = 3;
+    private static final int ROUNDS = 20;
+
+    @Autowired
+    private InquiryService inquiryService;
+
+    @Autowired
+    private InquiryAnswerService inquiryAnswerService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private InquiryRepository inquiryRepository;
+
+    @Autowired
+    private InquiryAnswerRepository inquiryAnswerRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private Product product;
+    private Product emptyProduct;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(User.builder()
+                .loginId("inquiryUser")
+                .password("encoded-password")
+                .userName("문의 사용자")
+                .userPhone("010-4444-5555")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        Brand brand = brandRepository.save(Brand.builder().name("문의 브랜드").build());
+        Category category = categoryRepository.save(Category.builder().name("생활가전").build());
+        RowCategory rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("청소기")
+                .category(category)
+                .build());
+
+        product = productRepository.save(copyProduct("문의 테스트 청소기", brand, category, rowCategory));
+        emptyProduct = productRepository.save(copyProduct("문의 없는 청소기", brand, category, rowCategory));
+
+        // 문의 30개, 문의마다 답변 3개
+        List<InquiryAnswer> answers = new ArrayList<>();
+        for (int i = 0; i < INQUIRIES; i++) {
+            Inquiry inquiry = inquiryRepository.save(Inquiry.builder()
+                    .inquiryContent("문의 " + i)
+                    .user(user)
+                    .product(product)
+                    .build());
+            for (int j = 0; j < ANSWERS_PER_INQUIRY; j++) {
+                answers.add(InquiryAnswer.builder()
+                        .inquiryAnswerContent("답변 " + i + "-" + j)
+                        .user(user)
+                        .inquiry(inquiry)
+                        .build());
+            }
+        }
+        inquiryAnswerRepository.saveAll(answers);
+    }
+
+    @Test
+    @DisplayName("상품 Q&A - 문의 10개와 답변을 쿼리 몇 번으로 가져오고, 문의별 답변 조회(fan-out)와 결과가 같다")
+    void findInquiryWithAnswers_batchLoadsAnswers() {
+        // 1) 기존 방식: 문의 페이지 + 문의마다 답변 페이지
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        long startedAt = System.nanoTime();
+        Map<Integer, List<Integer>> fanOutAnswerIds = Map.of();
+        for (int round = 0; round < ROUNDS; round++) {
+            fanOutAnswerIds = fanOut();
+        }
+        long fanOutMicros = (System.nanoTime() - startedAt) / 1_000 / ROUNDS;
+        int fanOutSelects = SelectQueryCounter.count() / ROUNDS;
+
+        // 2) 묶음 조회: 문의 페이지 + 답변 IN 쿼리
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        startedAt = System.nanoTime();
+        Page<InquiryWithAnswersResponseDTO> combined = null;
+        for (int round = 0; round < ROUNDS; round++) {
+            combined = inquiryService.findInquiryWithAnswersByProductId(product.getProductId(), 1);
+        }
+        long combinedMicros = (System.nanoTime() - startedAt) / 1_000 / ROUNDS;
+        int combinedSelects = SelectQueryCounter.count() / ROUNDS;
+
+        System.out.println("=== 🔥 상품 Q&A 문의 10개 (답변 " + ANSWERS_PER_INQUIRY + "개씩): 문의별 조회 SELECT=" + fanOutSelects
+                + ", " + fanOutMicros + "us / 묶음 조회 SELECT=" + combinedSelects + ", " + combinedMicros + "us");
+
+        // then: 같은 문의, 문의마다 같은 답변
+        Map<Integer, List<Integer>> combinedAnswerIds = new LinkedHashMap<>();
+        for (InquiryWithAnswersResponseDTO inquiry : combined) {
+            combinedAnswerIds.put(inquiry.getInquiryId(),
+                    inquiry.getAnswers().stream().map(InquiryAnswerResponseDTO::getInquiryAnswerId).toList());
+        }
+
+        assertThat(combined.getContent()).hasSize(10);
+        assertThat(combined.getTotalElements()).isEqualTo(INQUIRIES);
+        assertThat(combinedAnswerIds).containsExactlyInAnyOrderEntriesOf(fanOutAnswerIds);
+        assertThat(combinedAnswerIds.values()).allSatisfy(ids -> assertThat(ids).hasSize(ANSWERS_PER_INQUIRY));
+
+        // 상품 확인 + 문의 페이지 + 개수 + 답변 IN = 4번, 문의 수와 무관
+        assertThat(combinedSelects).isLessThanOrEqualTo(4);
+        assertThat(fanOutSelects).isGreaterThan(combinedSelects + 10);
+    }
+
+    @Test
+    @DisplayName("상품 Q&A - 문의가 없으면 답변 조회 없이 빈 페이지")
+    void findInquiryWithAnswers_noInquiries_emptyPage() {
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        Page<InquiryWithAnswersResponseDTO> result =
+                inquiryService.findInquiryWithAnswersByProductId(emptyProduct.getProductId(), 1);
+
+        assertThat(result.getContent()).isEmpty();
+        assertThat(SelectQueryCounter.count()).isEqualTo(2);
+    }
+
+    // 기존 화면 흐름: 문의 목록 1번 + 문의마다 답변 목록
+    private Map<Integer, List<Integer>> fanOut() {
+        Page<InquiryResponseDTO> inquiries = inquiryService.findInquiryByProductIdSortedUpdatedAt(product.getProductId(), 1);
+        Map<Integer, List<Integer>> answerIds = new LinkedHashMap<>();
+        for (InquiryResponseDTO inquiry : inquiries) {
+            answerIds.put(inquiry.getInquiryId(), inquiryAnswerService.findInquiryAnswerByInquiryIdSortedUpdatedAt(inquiry.getInquiryId(), 1)
+                    .stream()
+                    .map(InquiryAnswerResponseDTO::getInquiryAnswerId)
+                    .toList());
+        }
+        return answerIds;
+    }
+
+    private Product copyProduct(String name, Brand brand, Category category, RowCategory rowCategory) {
+        return Product.builder()
+                .name(name)
+                .price(300_000)
+                .stockQuantity(10)
+                .description("상품 Q&A 테스트용")
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("QNA-" + name.hashCode())
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build();
+    }
+}
@@ -4,11 +4,17 @@ import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.Constant.UserRole;
 import com.sesac.fmmall.DTO.Order.CartOrderCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderHistoryPageResponse;
 import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
 import com.sesac.fmmall.DTO.Order.OrderResponse;
+import com.sesac.fmmall.DTO.Order.OrderSummaryResponse;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
 import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import jakarta.persistence.EntityManager;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,11 +26,15 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
-@SpringBootTest
+@SpringBootTest(properties = {
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
 class OrderServiceTest {
 
     @Autowired
@@ -58,6 +68,15 @@ class OrderServiceTest {
     @Autowired
     private OrderRepository orderRepository;
 
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private CartItemRepository cartItemRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
     // SecurityConfig 때문에 필요한 MockBean 들
     @MockBean
     private PasswordEncoder passwordEncoder;
@@ -138,6 +157,7 @@ class OrderServiceTest {
 
         cartItem = CartItem.createCartItem(product, 2);  // 수량 2개
         cart.addCartItem(cartItem);                      // 양방향 연관관계 편의 메서드
+        cartItem.updateCheckStatus("Y", user.getUserId()); // 장바구니 주문은 선택된 항목만 주문
         cart = cartRepository.save(cart);                // cascade 로 cartItem 함께 저장
 
         // 6) 결제수단(PaymentMethod)
@@ -189,11 +209,8 @@ class OrderServiceTest {
         assertThat(savedOrder.getPayment().getOrder().getOrderId())
                 .isEqualTo(savedOrder.getOrderId());
 
-        // 5) 재고 차감 검증
-        Product updatedProduct = productRepository.findById(product.getProductId())
-                .orElseThrow(() -> new AssertionError("상품을 찾을 수 없습니다."));
-
-        assertThat(updatedProduct.getStockQuantity())
+        // 5) 재고 차감 검증 (UPDATE 쿼리로 차감되므로 영속성 컨텍스트가 아닌 DB 값을 읽는다)
+        assertThat(productRepository.findStockQuantity(product.getProductId()))
                 .isEqualTo(beforeStock - cartItem.getCartItemQuantity());
     }
 
@@ -248,11 +265,324 @@ class OrderServiceTest {
 
         assertThat(savedOrder.getPayment()).isNotNull();
 
-        // 6) 재고 차감 확인
-        Product updatedProduct = productRepository.findById(product.getProductId())
-                .orElseThrow(() -> new AssertionError("상품을 찾을 수 없습니다."));
-
-        assertThat(updatedProduct.getStockQuantity())
+        // 6) 재고 차감 확인 (DB 값)
+        assertThat(productRepository.findStockQuantity(product.getProductId()))
                 .isEqualTo(beforeStock - orderQuantity);
     }
+
+    // ========================================================================
+    // ③ 대량 주문 시 상품 일괄 조회 테스트 (줄 수와 무관하게 SELECT 횟수 일정)
+    // ========================================================================
+    @Test
+    @DisplayName("직접 상품 리스트 기반 주문 - 주문 줄 수가 1줄이든 40줄이든 SELECT 횟수가 같다")
+    @Transactional
+    void createOrderDirect_largeOrder_constantSelectCount() {
+
+        int lineCount = 40;
+
+        // 1) 주문 줄마다 서로 다른 상품 준비
+        List<OrderItemCreateRequest> largeItems = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            Product extra = productRepository.save(copyProduct("대량주문 상품 " + i));
+            largeItems.add(OrderItemCreateRequest.builder()
+                    .productId(extra.getProductId())
+                    .quantity(1)
+                    .build());
+        }
+
+        OrderCreateRequest singleLineRequest = OrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .items(List.of(largeItems.get(0)))
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .build();
+
+        OrderCreateRequest largeRequest = OrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .items(largeItems)
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .build();
+
+        // 2) 1줄 주문의 SELECT 횟수 (영속성 컨텍스트를 비워 실제 DB 조회가 일어나게 한다)
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        orderService.createOrder(user.getUserId(), singleLineRequest);
+        int singleLineSelects = SelectQueryCounter.count();
+
+        // 3) 40줄 주문의 SELECT 횟수
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        OrderResponse response = orderService.createOrder(user.getUserId(), largeRequest);
+        int largeSelects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 SELECT 횟수: 1줄=" + singleLineSelects + ", " + lineCount + "줄=" + largeSelects);
+
+        // 4) 검증
+        assertThat(response.getItems()).hasSize(lineCount);
+        assertThat(largeSelects).isEqualTo(singleLineSelects);
+    }
+
+    // ========================================================================
+    // ④ 주문 목록(요약) 조회 - 주문 수와 무관하게 쿼리 2번
+    // ========================================================================
+    @Test
+    @DisplayName("주문 목록 조회 - 주문이 여러 건이어도 쿼리는 2번 (N+1 없음)")
+    @Transactional
+    void getOrdersByUser_constantQueryCount() {
+
+        int orderCount = 5;
+
+        // 1) 주문마다 상품 2종류(그중 하나는 2줄로 나눠 담음) 주문
+        Product second = productRepository.save(copyProduct("두 번째 상품"));
+        for (int i = 0; i < orderCount; i++) {
+            OrderCreateRequest request = OrderCreateRequest.builder()
+                    .addressId(address.getAddressId())
+                    .paymentMethodId(paymentMethod.getPaymentMethodId())
+                    .items(List.of(
+                            OrderItemCreateRequest.builder().productId(product.getProductId()).quantity(1).build(),
+                            OrderItemCreateRequest.builder().productId(second.getProductId()).quantity(1).build(),
+                            OrderItemCreateRequest.builder().productId(second.getProductId()).quantity(1).build()
+                    ))
+                    .build();
+            orderService.createOrder(user.getUserId(), request);
+        }
+
+        // 2) 영속성 컨텍스트를 비우고 통계 초기화
+        entityManager.flush();
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+        statistics.clear();
+
+        // 3) 서비스 호출
+        List<OrderSummaryResponse> summaries = orderService.getOrdersByUser(user.getUserId());
+
+        long queryCount = statistics.getPrepareStatementCount();
+        System.out.println("=== 🔥 주문 " + orderCount + "건 목록 조회 쿼리 수=" + queryCount);
+
+        // 4) 검증
+        assertThat(queryCount).isEqualTo(2);
+        assertThat(summaries).hasSize(orderCount);
+        assertThat(summaries).allSatisfy(summary -> {
+            assertThat(summary.getTotalQuantity()).isEqualTo(3);
+            assertThat(summary.getProductNames())
+                    .containsExactly(product.getName(), second.getName());
+            assertThat(summary.getTotalPrice()).isEqualTo(product.getPrice() * 3);
+        });
+    }
+
+    // ========================================================================
+    // ⑤ 주문 내역 커서 페이지 조회
+    // ========================================================================
+    @Test
+    @DisplayName("주문 내역 커서 페이지 - 중간에 새 주문이 들어와도 중복/누락 없이 최신순으로 끝까지 조회")
+    @Transactional
+    void getOrderHistory_keysetPaging() {
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(1)
+                        .build()))
+                .build();
+
+        List<Integer> createdOrderIds = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            createdOrderIds.add(orderService.createOrder(user.getUserId(), request).getOrderId());
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // 1) 첫 페이지
+        OrderHistoryPageResponse page = orderService.getOrderHistory(user.getUserId(), 2, null, null);
+        List<Integer> seen = new ArrayList<>();
+        page.getOrders().forEach(o -> seen.add(o.getOrderId()));
+        assertThat(page.isHasNext()).isTrue();
+
+        // 2) 페이지를 넘기는 도중 새 주문 추가 (이미 지나간 위치라 이후 페이지에 나오면 안 됨)
+        int lateOrderId = orderService.createOrder(user.getUserId(), request).getOrderId();
+        entityManager.flush();
+
+        while (page.isHasNext()) {
+            page = orderService.getOrderHistory(user.getUserId(), 2,
+                    page.getNextCursorCreatedAt(), page.getNextCursorOrderId());
+            page.getOrders().forEach(o -> seen.add(o.getOrderId()));
+        }
+
+        // 3) 검증: 기존 주문 5건이 최신순(같은 시각이면 주문번호 내림차순)으로 한 번씩
+        List<Integer> expected = new ArrayList<>(createdOrderIds);
+        expected.sort((a, b) -> Integer.compare(b, a));
+
+        assertThat(seen).containsExactlyElementsOf(expected);
+        assertThat(seen).doesNotContain(lateOrderId);
+        assertThat(page.getNextCursorOrderId()).isNull();
+    }
+
+    // ========================================================================
+    // ⑥ 사용자 + 상품 기준 주문 이력 - 상품의 전체 판매량과 무관
+    // ========================================================================
+    @Test
+    @DisplayName("상품별 내 주문 조회 - 다른 사용자의 판매량이 늘어도 읽는 행 수와 지연시간이 일정하다")
+    @Transactional
+    void getOrdersByUserAndProduct_independentOfGlobalSales() {
+
+        int otherSales = 2_000;
+
+        // 1) 내 주문 2건
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(1)
+                        .build()))
+                .build();
+        orderService.createOrder(user.getUserId(), request);
+        orderService.createOrder(user.getUserId(), request);
+
+        // 2) 판매량이 적을 때
+        Statistics statistics = entityManager.getEntityManagerFactory()
+                .unwrap(SessionFactory.class)
+                .getStatistics();
+
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        List<OrderResponse> before = orderService.getOrdersByUserAndProduct(user.getUserId(), product.getProductId());
+        long beforeNanos = System.nanoTime() - startedAt;
+        long beforeLoads = statistics.getEntityLoadCount();
+
+        // 3) 다른 사용자가 같은 상품을 대량 구매 (주문 + 주문상품을 직접 적재)
+        User other = userRepository.save(User.builder()
+                .loginId("heavyBuyer")
+                .password("encoded-password")
+                .userName("다른 사용자")
+                .userPhone("010-3333-4444")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        List<Order> otherOrders = new ArrayList<>();
+        for (int i = 0; i < otherSales; i++) {
+            otherOrders.add(Order.builder()
+                    .receiverName("다른 수령인")
+                    .receiverPhone("010-3333-4444")
+                    .zipcode("54321")
+                    .address1("부산시 테스트구")
+                    .address2("202호")
+                    .totalPrice(product.getPrice())
+                    .createdAt(LocalDateTime.now())
+                    .user(other)
+                    .orderItems(new ArrayList<>())
+                    .refunds(new ArrayList<>())
+                    .build());
+        }
+        orderRepository.saveAll(otherOrders);
+
+        List<OrderItem> otherItems = new ArrayList<>();
+        for (Order otherOrder : otherOrders) {
+            otherItems.add(OrderItem.builder()
+                    .quantity(1)
+                    .order(otherOrder)
+                    .product(product)
+                    .build());
+        }
+        orderItemRepository.saveAll(otherItems);
+
+        // 4) 판매량이 많을 때
+        entityManager.flush();
+        entityManager.clear();
+        statistics.clear();
+        startedAt = System.nanoTime();
+        List<OrderResponse> after = orderService.getOrdersByUserAndProduct(user.getUserId(), product.getProductId());
+        long afterNanos = System.nanoTime() - startedAt;
+        long afterLoads = statistics.getEntityLoadCount();
+
+        System.out.println("=== 🔥 상품별 내 주문 조회: 판매 2건=" + beforeNanos / 1_000 + "us (엔티티 " + beforeLoads + "개)"
+                + ", 판매 " + (otherSales + 2) + "건=" + afterNanos / 1_000 + "us (엔티티 " + afterLoads + "개)");
+
+        // 5) 검증: 결과와 읽어온 엔티티 수가 다른 사용자의 판매량에 영향을 받지 않는다
+        assertThat(before).hasSize(2);
+        assertThat(after).extracting(OrderResponse::getOrderId)
+                .containsExactlyElementsOf(before.stream().map(OrderResponse::getOrderId).toList());
+        assertThat(afterLoads).isEqualTo(beforeLoads);
+    }
+
+    // ========================================================================
+    // ⑦ 선택 항목만 장바구니 주문 - 200줄 중 50줄 선택
+    // ========================================================================
+    @Test
+    @DisplayName("장바구니 주문 - 200줄 중 선택한 50줄만 주문되고, SELECT 횟수는 1줄 주문과 같다")
+    @Transactional
+    void createOrderFromCart_selectedLinesOnly_constantSelectCount() {
+
+        int cartLines = 200;
+        int checkEvery = 4;
+        CartOrderCreateRequest request = CartOrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .build();
+
+        // 1) 선택된 1줄 주문 (setUp 의 장바구니)
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        orderService.createOrderFromCart(user.getUserId(), request);
+        int singleLineSelects = SelectQueryCounter.count();
+
+        // 2) 장바구니 200줄, 그중 50줄만 선택
+        List<CartItem> cartLinesToSave = new ArrayList<>();
+        for (int i = 0; i < cartLines; i++) {
+            Product extra = productRepository.save(copyProduct("장바구니 대량 상품 " + i));
+            cartLinesToSave.add(CartItem.restore(cart, extra, 1, i % checkEvery == 0 ? "Y" : "N"));
+        }
+        cartItemRepository.saveAll(cartLinesToSave);
+
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        long startedAt = System.nanoTime();
+        OrderResponse response = orderService.createOrderFromCart(user.getUserId(), request);
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        int largeSelects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 장바구니 주문 SELECT 횟수: 1줄=" + singleLineSelects
+                + ", " + cartLines + "줄 중 " + cartLines / checkEvery + "줄=" + largeSelects + " (" + elapsedMicros + "us)");
+
+        // 3) 검증: 선택한 줄만 주문, 나머지는 장바구니에 그대로
+        entityManager.flush();
+        entityManager.clear();
+        List<CartItem> remaining = cartItemRepository.findByCart_CartId(cart.getCartId());
+
+        assertThat(response.getItems()).hasSize(cartLines / checkEvery);
+        assertThat(remaining).hasSize(cartLines - cartLines / checkEvery);
+        assertThat(remaining).allSatisfy(item -> assertThat(item.getCheckStatus()).isEqualTo("N"));
+        assertThat(largeSelects).isEqualTo(singleLineSelects);
+    }
+
+    private Product copyProduct(String name) {
+        return Product.builder()
+                .name(name)
+                .price(product.getPrice())
+                .stockQuantity(10)
+                .capacity(product.getCapacity())
+                .sizeInch(product.getSizeInch())
+                .description(product.getDescription())
+                .isInstallationRequired(product.getIsInstallationRequired())
+                .productStatus(product.getProductStatus())
+                .modelName(product.getModelName())
+                .brand(product.getBrand())
+                .category(product.getCategory())
+                .rowCategory(product.getRowCategory())
+                .build();
+    }
 }
@@ -0,0 +1,402 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Cache.ProductCatalogCache;
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.Order.OrderCreateRequest;
+import com.sesac.fmmall.DTO.Order.OrderItemCreateRequest;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 동시 주문 재고 테스트
+ * - 여러 스레드가 각자 트랜잭션으로 주문하므로 테스트 메서드에 @Transactional 을 붙이지 않는다.
+ * - 대신 @AfterEach 에서 만든 데이터를 직접 정리한다.
+ */
+@SpringBootTest
+class OrderStockConcurrencyTest {
+
+    private static final int INITIAL_STOCK = 50;
+    private static final int BUYER_THREADS = 100;
+
+    // 경합 벤치마크: 64명이 각자 10건씩 주문
+    private static final int CONTENTION_THREADS = 64;
+    private static final int ORDERS_PER_BUYER = 10;
+    private static final int STOCK_SHARDS = 8;
+
+    @Autowired
+    private OrderService orderService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private AddressRepository addressRepository;
+
+    @Autowired
+    private PaymentMethodRepository paymentMethodRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private ProductStockService productStockService;
+
+    @Autowired
+    private ProductStockShardRepository productStockShardRepository;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+    private RowCategory rowCategory;
+    private Product product;
+    private Address address;
+    private PaymentMethod paymentMethod;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("stock" + System.nanoTime() % 1_000_000_000L)
+                .password("encoded-password")
+                .userName("동시주문 사용자")
+                .userPhone("010-0000-0000")
+                .role(UserRole.USER)
+                .build());
+
+        brand = brandRepository.save(Brand.builder().name("동시성 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("동시성 카테고리").build());
+        rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("동시성 하위 카테고리")
+                .category(category)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .name("한정 수량 TV")
+                .price(1_000)
+                .stockQuantity(INITIAL_STOCK)
+                .description("동시 주문 테스트용")
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("STOCK-TEST-001")
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+
+        address = addressRepository.save(Address.builder()
+                .receiverName("수령인")
+                .receiverPhone("010-0000-0000")
+                .zipcode("12345")
+                .address1("서울시 테스트구")
+                .address2("101호")
+                .isDefault("Y")
+                .user(user)
+                .build());
+
+        paymentMethod = paymentMethodRepository.save(PaymentMethod.builder()
+                .cardCompany("HyundaiCard")
+                .maskedCardNumber("****-****-****-0000")
+                .isDefault(true)
+                .user(user)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (Order order : orderRepository.findByUser_UserId(user.getUserId())) {
+                paymentRepository.findByOrder(order).ifPresent(paymentRepository::delete);
+                orderRepository.delete(order);
+            }
+        });
+        // 샤딩 모드였다면 해제해서 샤드 행을 정리한다.
+        productStockService.changeShardCount(product.getProductId(), 0);
+        paymentMethodRepository.deleteById(paymentMethod.getPaymentMethodId());
+        addressRepository.deleteById(address.getAddressId());
+        productRepository.deleteById(product.getProductId());
+        rowCategoryRepository.deleteById(rowCategory.getRowCategoryId());
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("동시 주문 - 재고보다 많은 구매 요청이 몰려도 초과 판매가 발생하지 않는다")
+    void concurrentOrders_neverOversell() throws InterruptedException {
+
+        OrderCreateRequest request = OrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(1)
+                        .build()))
+                .build();
+
+        AtomicInteger success = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+
+        ExecutorService executor = Executors.newFixedThreadPool(32);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(BUYER_THREADS);
+
+        for (int i = 0; i < BUYER_THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    orderService.createOrder(user.getUserId(), request);
+                    success.incrementAndGet();
+                } catch (IllegalArgumentException e) {
+                    soldOut.incrementAndGet();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        double ordersPerSec = success.get() / (elapsedNanos / 1_000_000_000.0);
+        System.out.println("=== 🔥 성공=" + success.get() + ", 재고부족=" + soldOut.get()
+                + ", 처리량=" + String.format("%.1f", ordersPerSec) + " orders/sec");
+
+        Product reloaded = productRepository.findById(product.getProductId()).orElseThrow();
+
+        assertThat(success.get()).isEqualTo(INITIAL_STOCK);
+        assertThat(soldOut.get()).isEqualTo(BUYER_THREADS - INITIAL_STOCK);
+        assertThat(reloaded.getStockQuantity()).isZero();
+        assertThat(orderRepository.findByUser_UserId(user.getUserId())).hasSize(INITIAL_STOCK);
+    }
+
+    @Test
+    @DisplayName("동시 주문 경합 - 단일 행 재고와 샤딩 재고의 처리량 비교 (64명 동시 구매)")
+    void contention_singleRowVsSharded() throws InterruptedException {
+
+        int totalOrders = CONTENTION_THREADS * ORDERS_PER_BUYER;
+
+        // 0. 워밍업 (JIT / 커넥션 풀) - 먼저 재는 쪽이 불리하지 않도록
+        resetStock(CONTENTION_THREADS * 2);
+        runBuyers(CONTENTION_THREADS, 2);
+
+        // 1. 단일 행 재고
+        resetStock(totalOrders);
+        double singleRowPerSec = runBuyers(CONTENTION_THREADS, ORDERS_PER_BUYER);
+        assertThat(productRepository.findById(product.getProductId()).orElseThrow().getStockQuantity()).isZero();
+
+        // 2. 샤딩 재고 (같은 재고를 8개 샤드로 나눔)
+        resetStock(totalOrders);
+        productStockService.changeShardCount(product.getProductId(), STOCK_SHARDS);
+        double shardedPerSec = runBuyers(CONTENTION_THREADS, ORDERS_PER_BUYER);
+
+        // 샤딩 해제 시 샤드 재고가 합쳐져서 상품 재고로 돌아온다 → 초과 판매 없이 모두 소진
+        int remaining = productStockService.changeShardCount(product.getProductId(), 0).getTotalStock();
+        assertThat(remaining).isZero();
+        assertThat(orderRepository.findByUser_UserId(user.getUserId()))
+                .hasSize(CONTENTION_THREADS * 2 + totalOrders * 2);
+
+        System.out.println("=== 🔥 단일 행: " + String.format("%.1f", singleRowPerSec) + " orders/sec"
+                + ", 샤딩(" + STOCK_SHARDS + "): " + String.format("%.1f", shardedPerSec) + " orders/sec"
+                + " (x" + String.format("%.2f", shardedPerSec / singleRowPerSec) + ")");
+
+        // 샤딩 모드는 한 행 경합을 나누려고 쓰는 것이므로, 같은 경합에서 단일 행보다 느리면 실패
+        assertThat(shardedPerSec).isGreaterThan(singleRowPerSec);
+    }
+
+    @Test
+    @DisplayName("샤딩 재고 품절 - 64명이 재고를 0까지 소진해도 실패는 모두 재고 부족(IllegalArgumentException)이다")
+    void shardedSellOut_failuresAreOnlySoldOut() throws InterruptedException {
+        int productId = product.getProductId();
+        int initialStock = 301;   // 샤드마다 나눠 떨어지지 않게 → 한 샤드로 부족한 주문이 계속 생긴다
+
+        resetStock(initialStock);
+        productStockService.changeShardCount(productId, STOCK_SHARDS);
+
+        AtomicInteger ordered = new AtomicInteger();
+        AtomicInteger soldOut = new AtomicInteger();
+        List<Throwable> unexpected = new CopyOnWriteArrayList<>();
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONTENTION_THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(CONTENTION_THREADS);
+
+        for (int i = 0; i < CONTENTION_THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    // 3개씩 사다가 재고 부족이면 1개씩, 1개도 부족하면 종료 → 마지막 한 개까지 소진
+                    for (int qty : new int[]{3, 1}) {
+                        while (true) {
+                            try {
+                                orderService.createOrder(user.getUserId(), singleItemOrder(qty));
+                                ordered.addAndGet(qty);
+                            } catch (IllegalArgumentException e) {
+                                soldOut.incrementAndGet();
+                                break;
+                            }
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } catch (Throwable e) {
+                    // 교착(CannotAcquireLockException) 등 재고 부족이 아닌 실패
+                    unexpected.add(e);
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        executor.shutdown();
+
+        System.out.println("=== 🔥 샤딩 품절: 판매=" + ordered.get() + "개, 재고부족=" + soldOut.get()
+                + ", 그 외 실패=" + unexpected.size());
+
+        assertThat(unexpected).isEmpty();
+        assertThat(ordered.get()).isEqualTo(initialStock);
+        assertThat(productStockShardRepository.sumQuantity(productId)).isZero();
+    }
+
+    @Test
+    @DisplayName("재고 리밸런싱 - 합계가 그대로면 상품 재고/캐시를 건드리지 않고, 바뀌었을 때만 반영한다")
+    void rebalance_onlyWhenTotalChanged() {
+        int productId = product.getProductId();
+
+        // 80개를 8개 샤드로 → 샤드마다 10개
+        resetStock(80);
+        productStockService.changeShardCount(productId, STOCK_SHARDS);
+        productService.findProductByProductId(productId);
+        long loadsBefore = productCatalogCache.getStats().getLoadCount();
+
+        // 1. 주문 없이 리밸런싱 → 캐시가 그대로 남아 있다
+        productStockService.rebalanceAll();
+        productService.findProductByProductId(productId);
+
+        assertThat(productCatalogCache.getStats().getLoadCount() - loadsBefore).isZero();
+
+        // 2. 0번 샤드에서 7개 판매 → 샤드가 고르게 다시 나뉘고, 합계 73 이 상품과 캐시에 반영된다
+        transactionTemplate.executeWithoutResult(status ->
+                productStockShardRepository.decreaseIfEnough(productId, 0, 7));
+        productStockService.rebalanceAll();
+        ProductResponseDTO afterSale = productService.findProductByProductId(productId);
+
+        assertThat(productCatalogCache.getStats().getLoadCount() - loadsBefore).isEqualTo(1);
+        assertThat(afterSale.getStockQuantity()).isEqualTo(73);
+        assertThat(productStockShardRepository.findByProduct_ProductIdOrderByShardNo(productId))
+                .extracting(ProductStockShard::getQuantity)
+                .containsExactly(10, 9, 9, 9, 9, 9, 9, 9);
+    }
+
+    private void resetStock(int stock) {
+        transactionTemplate.executeWithoutResult(status ->
+                productRepository.overwriteStock(product.getProductId(), stock));
+    }
+
+    /**
+     * threads 명이 동시에 ordersPerBuyer 건씩 주문하고, 모든 주문이 성공했는지 확인한 뒤 초당 주문 수를 반환한다.
+     */
+    private double runBuyers(int threads, int ordersPerBuyer) throws InterruptedException {
+
+        OrderCreateRequest request = singleItemOrder(1);
+
+        AtomicInteger success = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(threads);
+
+        for (int i = 0; i < threads; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int n = 0; n < ordersPerBuyer; n++) {
+                        orderService.createOrder(user.getUserId(), request);
+                        success.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(120, TimeUnit.SECONDS)).isTrue();
+        long elapsedNanos = System.nanoTime() - startedAt;
+        executor.shutdown();
+
+        assertThat(success.get()).isEqualTo(threads * ordersPerBuyer);
+        return success.get() / (elapsedNanos / 1_000_000_000.0);
+    }
+
+    private OrderCreateRequest singleItemOrder(int quantity) {
+        return OrderCreateRequest.builder()
+                .addressId(address.getAddressId())
+                .paymentMethodId(paymentMethod.getPaymentMethodId())
+                .items(List.of(OrderItemCreateRequest.builder()
+                        .productId(product.getProductId())
+                        .quantity(quantity)
+                        .build()))
+                .build();
+    }
+}
@@ -1,8 +1,11 @@
 package com.sesac.fmmall.Service;
 
+import com.sesac.fmmall.Cache.ProductCatalogCache;
+import com.sesac.fmmall.Constant.ProductSort;
 import com.sesac.fmmall.Constant.ProductStatus;
 import com.sesac.fmmall.DTO.Product.ProductRequestDTO;
 import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Product.ProductSearchConditionDTO;
 import com.sesac.fmmall.Entity.Brand;
 import com.sesac.fmmall.Entity.Category;
 import com.sesac.fmmall.Entity.Product;
@@ -13,19 +16,17 @@ import com.sesac.fmmall.Repository.ProductRepository;
 import com.sesac.fmmall.Repository.RowCategoryRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Page;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
 
 @SpringBootTest
 class ProductServiceTest {
@@ -45,14 +46,13 @@ class ProductServiceTest {
     @Autowired
     private BrandRepository brandRepository;
 
+    @Autowired
+    private ProductCatalogCache productCatalogCache;
+
     // SecurityConfig 때문에 필요한 MockBean 들
     @MockBean
     private PasswordEncoder passwordEncoder;
 
-    // ⚠ 핵심: ModelMapper도 MockBean으로 등록 (OrderService, ProductService 둘 다 이걸 주입받음)
-    @MockBean
-    private ModelMapper modelMapper;
-
     @Test
     @DisplayName("ProductId값으로 상품을 조회하면 DTO에 상품명이 들어온다.")
     void findProductByProductId() {
@@ -66,30 +66,13 @@ class ProductServiceTest {
         System.out.println("=== 🔥 DB에서 읽어온 Entity ===");
         System.out.println(foundProduct.getProductId() + " / " + foundProduct.getName());
 
-        // 2) ModelMapper mock 이 진짜 매핑을 하도록 설정 + name -> productName 매핑
-        given(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class)))
-                .willAnswer(invocation -> {
-                    Product source = invocation.getArgument(0);
-
-                    ModelMapper real = new ModelMapper();
-                    real.getConfiguration()
-                            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
-                            .setFieldMatchingEnabled(true);
-
-                    // 🧩 엔티티의 name -> DTO의 productName 으로 매핑
-                    real.typeMap(Product.class, ProductResponseDTO.class)
-                            .addMappings(m -> m.map(Product::getName, ProductResponseDTO::setProductName));
-
-                    return real.map(source, ProductResponseDTO.class);
-                });
-
-        // 3) 서비스 호출
+        // 2) 서비스 호출
         ProductResponseDTO productDTO = productService.findProductByProductId(productId);
 
         System.out.println("=== 🔥 DTO로 변환된 결과 ===");
         System.out.println(productDTO.getProductId() + " / " + productDTO.getProductName());
 
-        // 4) 검증
+        // 3) 검증
         assertThat(productDTO).isNotNull();
         assertThat(productDTO.getProductId()).isEqualTo(productId);
         assertThat(productDTO.getProductName()).isEqualTo(foundProduct.getName());
@@ -128,26 +111,10 @@ class ProductServiceTest {
                 .rowCategoryId(rowCategory.getRowCategoryId())
                 .build();
 
-        // 🔹 3) ModelMapper mock -> 실제 매핑 수행하게 설정
-        given(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class)))
-                .willAnswer(invocation -> {
-                    Product source = invocation.getArgument(0);
-
-                    ModelMapper real = new ModelMapper();
-                    real.getConfiguration()
-                            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
-                            .setFieldMatchingEnabled(true);
-
-                    real.typeMap(Product.class, ProductResponseDTO.class)
-                            .addMappings(m -> m.map(Product::getName, ProductResponseDTO::setProductName));
-
-                    return real.map(source, ProductResponseDTO.class);
-                });
-
-        // 🔹 4) 서비스 호출
+        // 🔹 3) 서비스 호출
         ProductResponseDTO result = productService.createProduct(requestDTO);
 
-        // 🔹 5) 검증
+        // 🔹 4) 검증
         assertThat(result).isNotNull();
         assertThat(result.getProductName()).isEqualTo(requestDTO.getProductName());
         assertThat(result.getProductPrice()).isEqualTo(requestDTO.getProductPrice());
@@ -200,33 +167,17 @@ class ProductServiceTest {
                 .rowCategoryId(originalRowCategory.getRowCategoryId())
                 .build();
 
-        // 🔹 3) ModelMapper mock → 실제 매핑 수행하도록 설정 (기존 테스트와 동일 패턴)
-        given(modelMapper.map(any(Product.class), eq(ProductResponseDTO.class)))
-                .willAnswer(invocation -> {
-                    Product source = invocation.getArgument(0);
-
-                    ModelMapper real = new ModelMapper();
-                    real.getConfiguration()
-                            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
-                            .setFieldMatchingEnabled(true);
-
-                    real.typeMap(Product.class, ProductResponseDTO.class)
-                            .addMappings(m -> m.map(Product::getName, ProductResponseDTO::setProductName));
-
-                    return real.map(source, ProductResponseDTO.class);
-                });
-
-        // 🔹 4) 서비스 호출
+        // 🔹 3) 서비스 호출
         ProductResponseDTO result = productService.modifyProduct(productId, requestDTO);
 
-        // 🔹 5) DTO 검증
+        // 🔹 4) DTO 검증
         assertThat(result).isNotNull();
         assertThat(result.getProductId()).isEqualTo(productId);
         assertThat(result.getProductName()).isEqualTo(updatedName);
         assertThat(result.getProductPrice()).isEqualTo(updatedPrice);
         assertThat(result.getDescription()).isEqualTo(updatedDescription);
 
-        // 🔹 6) 실제 DB에 반영됐는지 검증 (영속성 컨텍스트/더티체킹 결과 확인)
+        // 🔹 5) 실제 DB에 반영됐는지 검증 (영속성 컨텍스트/더티체킹 결과 확인)
         Product updatedEntity = productRepository.findById(productId)
                 .orElseThrow(() -> new AssertionError("수정된 상품이 DB에 존재하지 않습니다."));
 
@@ -260,4 +211,132 @@ class ProductServiceTest {
         // 🔹 3) 삭제 후에는 존재하지 않아야 함
         assertThat(productRepository.existsById(productId)).isFalse();
     }
+
+    @Test
+    @DisplayName("상품 상세 캐시 - 두 번째 조회부터는 DB 조회 없이 캐시에서 반환하고, 상품 수정 시 제거된다.")
+    @Transactional
+    void findProductByProductId_cacheHitAndEvict() {
+        // 🔹 1) 조회 대상 상품 + 캐시 초기화
+        List<Product> allProducts = productRepository.findAll();
+        assertThat(allProducts).isNotEmpty();
+
+        Product target = allProducts.get(0);
+        int productId = target.getProductId();
+        productCatalogCache.evict(productId);
+        long loadsBefore = productCatalogCache.getStats().getLoadCount();
+
+        // 🔹 2) 첫 조회 (캐시 미스 → DB 조회 + 매핑)
+        long firstStartedAt = System.nanoTime();
+        productService.findProductByProductId(productId);
+        long firstNanos = System.nanoTime() - firstStartedAt;
+
+        // 🔹 3) 반복 조회 (캐시 적중)
+        long hitsBefore = productCatalogCache.getStats().getHitCount();
+        int repeat = 1000;
+        long cachedStartedAt = System.nanoTime();
+        for (int i = 0; i < repeat; i++) {
+            productService.findProductByProductId(productId);
+        }
+        long cachedNanos = System.nanoTime() - cachedStartedAt;
+
+        System.out.println("=== 🔥 /Product/{id} 첫 조회=" + firstNanos / 1_000 + "µs, 캐시 조회 평균="
+                + String.format("%.2f", cachedNanos / 1_000.0 / repeat) + "µs");
+
+        assertThat(productCatalogCache.getStats().getLoadCount() - loadsBefore).isEqualTo(1);
+        assertThat(productCatalogCache.getStats().getHitCount() - hitsBefore).isEqualTo(repeat);
+
+        // 🔹 4) 상품 수정 → 캐시 제거 → 다시 조회하면 수정된 값으로 매핑
+        String updatedName = target.getName() + "_캐시";
+        ProductRequestDTO requestDTO = ProductRequestDTO.builder()
+                .productName(updatedName)
+                .productPrice(target.getPrice())
+                .description(target.getDescription())
+                .productStatus(target.getProductStatus())
+                .isInstallationRequired(target.getIsInstallationRequired())
+                .brandId(target.getBrand().getBrandId())
+                .categoryId(target.getCategory().getCategoryId())
+                .rowCategoryId(target.getRowCategory().getRowCategoryId())
+                .build();
+        productService.modifyProduct(productId, requestDTO);
+
+        ProductResponseDTO afterModify = productService.findProductByProductId(productId);
+
+        assertThat(afterModify.getProductName()).isEqualTo(updatedName);
+        assertThat(productCatalogCache.getStats().getLoadCount() - loadsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("findProducts - 카테고리 + 가격 범위 필터, 가격 오름차순으로 한 페이지만 조회한다.")
+    void findProducts_filterSortAndPage() {
+        // 🔹 1) 필터 기준이 될 상품 하나 선택
+        List<Product> allProducts = productRepository.findAll();
+        assertThat(allProducts).isNotEmpty();
+
+        Product base = allProducts.get(0);
+        int categoryId = base.getCategory().getCategoryId();
+        int maxPrice = base.getPrice() * 2;
+
+        ProductSearchConditionDTO condition = ProductSearchConditionDTO.builder()
+                .categoryId(categoryId)
+                .maxPrice(maxPrice)
+                .sort(ProductSort.PRICE_ASC)
+                .build();
+
+        // 🔹 2) 서비스 호출 (1페이지, 5개)
+        Page<ProductResponseDTO> page = productService.findProducts(condition, 1, 5);
+
+        long expectedTotal = allProducts.stream()
+                .filter(p -> p.getCategory().getCategoryId() == categoryId && p.getPrice() <= maxPrice)
+                .count();
+
+        System.out.println("=== 🔥 필터 결과 total=" + page.getTotalElements() + ", 이번 페이지=" + page.getNumberOfElements());
+
+        // 🔹 3) 검증
+        assertThat(page.getTotalElements()).isEqualTo(expectedTotal);
+        assertThat(page.getContent()).hasSizeLessThanOrEqualTo(5);
+        assertThat(page.getContent()).allSatisfy(dto -> {
+            assertThat(dto.getCategoryId()).isEqualTo(categoryId);
+            assertThat(dto.getProductPrice()).isLessThanOrEqualTo(maxPrice);
+        });
+        assertThat(page.getContent())
+                .extracting(ProductResponseDTO::getProductPrice)
+                .isSorted();
+    }
+
+    @Test
+    @DisplayName("findProducts - 브랜드 여러 개(brandIds)로 거르면 그 브랜드 상품만, 전체 개수는 서버 기준")
+    void findProducts_multipleBrands() {
+        // 🔹 1) 상품이 있는 브랜드 두 개 선택
+        List<Product> allProducts = productRepository.findAll();
+        List<Integer> brandIds = allProducts.stream()
+                .filter(p -> p.getBrand() != null)
+                .map(p -> p.getBrand().getBrandId())
+                .distinct()
+                .limit(2)
+                .toList();
+        assertThat(brandIds).isNotEmpty();
+
+        ProductSearchConditionDTO condition = ProductSearchConditionDTO.builder()
+                .brandIds(brandIds)
+                .sort(ProductSort.PRICE_DESC)
+                .build();
+
+        // 🔹 2) 서비스 호출 (1페이지, 6개)
+        Page<ProductResponseDTO> page = productService.findProducts(condition, 1, 6);
+
+        long expectedTotal = allProducts.stream()
+                .filter(p -> p.getBrand() != null && brandIds.contains(p.getBrand().getBrandId()))
+                .count();
+
+        System.out.println("=== 🔥 브랜드 " + brandIds + " 결과 total=" + page.getTotalElements()
+                + ", totalPages=" + page.getTotalPages());
+
+        // 🔹 3) 검증
+        assertThat(page.getTotalElements()).isEqualTo(expectedTotal);
+        assertThat(page.getTotalPages()).isEqualTo((int) ((expectedTotal + 5) / 6));
+        assertThat(page.getContent()).allSatisfy(dto -> assertThat(brandIds).contains(dto.getBrandId()));
+        assertThat(page.getContent())
+                .extracting(ProductResponseDTO::getProductPrice)
+                .isSortedAccordingTo((a, b) -> Integer.compare(b, a));
+    }
 }
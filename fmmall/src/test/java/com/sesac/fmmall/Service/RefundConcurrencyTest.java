@@ -0,0 +1,258 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.RefundReasonCode;
+import com.sesac.fmmall.Constant.RefundStatus;
+import com.sesac.fmmall.Constant.RefundType;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 환불 상태 전이 동시성 테스트
+ * - 여러 관리자가 같은 환불을 동시에 승인/거절해도 한 명만 성공해야 한다.
+ * - 스레드마다 각자 트랜잭션으로 처리하므로 @Transactional 을 붙이지 않고 @AfterEach 에서 정리한다.
+ */
+@SpringBootTest
+class RefundConcurrencyTest {
+
+    private static final int ADMIN_THREADS = 16;
+    private static final int ROUNDS = 10;
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private RefundRepository refundRepository;
+
+    @Autowired
+    private RefundItemRepository refundItemRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private User admin;
+    private Brand brand;
+    private Category category;
+    private RowCategory rowCategory;
+    private Product product;
+    private Order order;
+    private OrderItem orderItem;
+    private Payment payment;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime() % 1_000_000_000L;
+
+        user = userRepository.save(User.builder()
+                .loginId("refundUser" + suffix)
+                .password("encoded-password")
+                .userName("환불 사용자")
+                .userPhone("010-0000-0000")
+                .role(UserRole.USER)
+                .build());
+
+        admin = userRepository.save(User.builder()
+                .loginId("refundAdmin" + suffix)
+                .password("encoded-password")
+                .userName("환불 관리자")
+                .userPhone("010-9999-9999")
+                .role(UserRole.ADMIN)
+                .build());
+
+        brand = brandRepository.save(Brand.builder().name("환불 동시성 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("환불 동시성 카테고리").build());
+        rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("환불 동시성 하위 카테고리")
+                .category(category)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .name("환불 테스트 냉장고")
+                .price(10_000)
+                .stockQuantity(100)
+                .description("환불 동시성 테스트용")
+                .isInstallationRequired("N")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("REFUND-TEST-001")
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+
+        order = orderRepository.save(Order.builder()
+                .receiverName("수령인")
+                .receiverPhone("010-0000-0000")
+                .zipcode("12345")
+                .address1("서울시 테스트구")
+                .address2("101호")
+                .totalPrice(10_000 * ROUNDS)
+                .createdAt(LocalDateTime.now())
+                .user(user)
+                .build());
+
+        orderItem = orderItemRepository.save(OrderItem.builder()
+                .quantity(ROUNDS)
+                .order(order)
+                .product(product)
+                .build());
+
+        payment = paymentRepository.save(Payment.builder()
+                .paymentMethodType("HyundaiCard")
+                .paidAt(LocalDateTime.now())
+                .order(order)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status -> {
+            Order saved = orderRepository.findById(order.getOrderId()).orElseThrow();
+            refundRepository.deleteAll(refundRepository.findByOrder(saved));
+            paymentRepository.deleteById(payment.getPaymentId());
+            orderRepository.delete(saved);
+        });
+        productRepository.deleteById(product.getProductId());
+        rowCategoryRepository.deleteById(rowCategory.getRowCategoryId());
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+        userRepository.deleteById(admin.getUserId());
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("동시 승인/거절 - 같은 환불에 여러 관리자가 동시에 눌러도 한 명만 성공한다")
+    void concurrentApproveAndReject_onlyOneWins() throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(ADMIN_THREADS);
+
+        for (int round = 0; round < ROUNDS; round++) {
+
+            Refund refund = saveRequestedRefund();
+
+            AtomicInteger approved = new AtomicInteger();
+            AtomicInteger rejected = new AtomicInteger();
+            AtomicInteger conflicts = new AtomicInteger();
+
+            CountDownLatch start = new CountDownLatch(1);
+            CountDownLatch done = new CountDownLatch(ADMIN_THREADS);
+
+            for (int i = 0; i < ADMIN_THREADS; i++) {
+                boolean approve = i % 2 == 0;
+                executor.submit(() -> {
+                    try {
+                        start.await();
+                        if (approve) {
+                            refundService.approveRefund(refund.getRefundId(), admin.getUserId());
+                            approved.incrementAndGet();
+                        } else {
+                            refundService.rejectRefund(refund.getRefundId(), admin.getUserId());
+                            rejected.incrementAndGet();
+                        }
+                    } catch (IllegalStateException e) {
+                        conflicts.incrementAndGet();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    } finally {
+                        done.countDown();
+                    }
+                });
+            }
+
+            start.countDown();
+            assertThat(done.await(30, TimeUnit.SECONDS)).isTrue();
+
+            Refund reloaded = refundRepository.findById(refund.getRefundId()).orElseThrow();
+            RefundStatus expected = approved.get() == 1 ? RefundStatus.APPROVED : RefundStatus.REJECTED;
+
+            System.out.println("=== 🔥 라운드 " + round + ": 승인=" + approved.get() + ", 거절=" + rejected.get()
+                    + ", 충돌=" + conflicts.get() + ", 최종=" + reloaded.getRefundStatus());
+
+            // 승인 또는 거절 중 정확히 한 번만 성공
+            assertThat(approved.get() + rejected.get()).isEqualTo(1);
+            assertThat(conflicts.get()).isEqualTo(ADMIN_THREADS - 1);
+
+            // 환불 상태와 아이템 상태가 이긴 쪽으로 일치, 버전은 한 번만 증가
+            assertThat(reloaded.getRefundStatus()).isEqualTo(expected);
+            assertThat(reloaded.getIsTrue()).isEqualTo(YesNo.N);
+            assertThat(reloaded.getVersion()).isEqualTo(1L);
+            assertThat(refundItemRepository.findByRefund(reloaded))
+                    .allSatisfy(item -> assertThat(item.getRefundStatus()).isEqualTo(expected));
+        }
+
+        executor.shutdown();
+    }
+
+    private Refund saveRequestedRefund() {
+        Refund refund = Refund.builder()
+                .reasonCode(RefundReasonCode.CHANGE.name())
+                .reasonDetail("동시 처리 테스트")
+                .totalAmount(10_000)
+                .refundType(RefundType.PARTIAL)
+                .isTrue(YesNo.N)
+                .order(order)
+                .payment(payment)
+                .refundItems(new ArrayList<>())
+                .build();
+        refund.addRefundItem(RefundItem.builder()
+                .refundQuantity(1)
+                .refundPrice(10_000)
+                .refundStatus(RefundStatus.REQUESTED)
+                .orderItem(orderItem)
+                .build());
+        return refundRepository.save(refund);
+    }
+}
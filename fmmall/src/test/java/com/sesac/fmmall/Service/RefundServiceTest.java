@@ -1,25 +1,31 @@
 package com.sesac.fmmall.Service;
 
 import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.RefundBulkResult;
 import com.sesac.fmmall.Constant.RefundReasonCode;
 import com.sesac.fmmall.Constant.RefundStatus;
 import com.sesac.fmmall.Constant.RefundType;
 import com.sesac.fmmall.Constant.UserRole;
 import com.sesac.fmmall.Constant.YesNo;
+import com.sesac.fmmall.DTO.Refund.RefundBulkItemResponse;
+import com.sesac.fmmall.DTO.Refund.RefundBulkRequest;
+import com.sesac.fmmall.DTO.Refund.RefundBulkResponse;
 import com.sesac.fmmall.DTO.Refund.RefundCreateRequest;
 import com.sesac.fmmall.DTO.Refund.RefundItemCreateRequest;
-import com.sesac.fmmall.DTO.Refund.RefundItemResponse;
 import com.sesac.fmmall.DTO.Refund.RefundResponse;
+import com.sesac.fmmall.DTO.Refund.RefundSummaryResponse;
 import com.sesac.fmmall.Entity.*;
 import com.sesac.fmmall.Repository.*;
 import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
-import org.modelmapper.ModelMapper;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Slice;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -28,11 +34,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.*;
-import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.eq;
-import static org.mockito.BDDMockito.given;
 
-@SpringBootTest
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
 @Transactional
 class RefundServiceTest {
 
@@ -69,6 +73,9 @@ class RefundServiceTest {
     @Autowired
     private RowCategoryRepository rowCategoryRepository;
 
+    @Autowired
+    private EntityManager entityManager;
+
     // SecurityConfig 때문에 필요한 MockBean 들
     @MockBean
     private PasswordEncoder passwordEncoder;
@@ -76,10 +83,6 @@ class RefundServiceTest {
     @MockBean
     private JwtAuthorizationFilter jwtAuthorizationFilter;
 
-    // BeanConfig 의 ModelMapper 대신 MockBean 으로 주입
-    @MockBean
-    private ModelMapper modelMapper;
-
     private User user;        // 일반 사용자
     private User admin;       // 관리자
     private Product product;
@@ -176,33 +179,6 @@ class RefundServiceTest {
                 .build();
         payment = paymentRepository.save(payment);
         order.setPayment(payment);
-
-        // === 5) ModelMapper Mock -> 실제 매핑 위임 설정 ===
-        given(modelMapper.map(any(Refund.class), eq(RefundResponse.class)))
-                .willAnswer(invocation -> {
-                    Refund source = invocation.getArgument(0);
-
-                    ModelMapper real = new ModelMapper();
-                    real.getConfiguration()
-                            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
-                            .setFieldMatchingEnabled(true)
-                            .setAmbiguityIgnored(true);
-
-                    return real.map(source, RefundResponse.class);
-                });
-
-        given(modelMapper.map(any(RefundItem.class), eq(RefundItemResponse.class)))
-                .willAnswer(invocation -> {
-                    RefundItem source = invocation.getArgument(0);
-
-                    ModelMapper real = new ModelMapper();
-                    real.getConfiguration()
-                            .setFieldAccessLevel(org.modelmapper.config.Configuration.AccessLevel.PRIVATE)
-                            .setFieldMatchingEnabled(true)
-                            .setAmbiguityIgnored(true);
-
-                    return real.map(source, RefundItemResponse.class);
-                });
     }
 
     @Test
@@ -324,8 +300,364 @@ class RefundServiceTest {
         // then
         assertThat(response).isNotNull();
 
+        assertThat(response.getRefundStatus()).isEqualTo(RefundStatus.APPROVED.name());
+
         RefundItem changed = refundItemRepository.findById(refundItem.getRefundItemId())
                 .orElseThrow();
         assertThat(changed.getRefundStatus()).isEqualTo(RefundStatus.APPROVED);
     }
+
+    @Test
+    @DisplayName("createRefund - 주문상품 수와 무관하게 SELECT 횟수가 일정하다 (50줄 환불)")
+    void createRefund_manyLines_boundedSelectCount() {
+        // given: 50줄짜리 주문 (줄마다 2개씩)
+        int lineCount = 50;
+
+        Order largeOrder = orderRepository.save(Order.builder()
+                .receiverName("수령인")
+                .receiverPhone("010-1234-5678")
+                .zipcode("12345")
+                .address1("서울시 테스트구")
+                .address2("테스트로 101호")
+                .totalPrice(0)
+                .createdAt(LocalDateTime.now())
+                .user(user)
+                .orderItems(new ArrayList<>())
+                .refunds(new ArrayList<>())
+                .build());
+
+        List<RefundItemCreateRequest> itemReqs = new ArrayList<>();
+        for (int i = 0; i < lineCount; i++) {
+            OrderItem line = orderItemRepository.save(OrderItem.builder()
+                    .quantity(2)
+                    .order(largeOrder)
+                    .product(product)
+                    .refundItems(new ArrayList<>())
+                    .build());
+            itemReqs.add(RefundItemCreateRequest.builder()
+                    .orderItemId(line.getOrderItemId())
+                    .refundQuantity(1)
+                    .build());
+        }
+
+        Payment largePayment = paymentRepository.save(Payment.builder()
+                .paymentMethodType("HyundaiCard")
+                .paidAt(LocalDateTime.now())
+                .order(largeOrder)
+                .build());
+
+        RefundCreateRequest singleLineRequest = RefundCreateRequest.builder()
+                .orderId(order.getOrderId())
+                .paymentId(payment.getPaymentId())
+                .reasonCode(RefundReasonCode.CHANGE.name())
+                .reasonDetail("단순 변심")
+                .refundType(RefundType.PARTIAL.name())
+                .items(List.of(RefundItemCreateRequest.builder()
+                        .orderItemId(orderItem.getOrderItemId())
+                        .refundQuantity(1)
+                        .build()))
+                .build();
+
+        RefundCreateRequest largeRequest = RefundCreateRequest.builder()
+                .orderId(largeOrder.getOrderId())
+                .paymentId(largePayment.getPaymentId())
+                .reasonCode(RefundReasonCode.CHANGE.name())
+                .reasonDetail("단순 변심")
+                .refundType(RefundType.PARTIAL.name())
+                .items(itemReqs)
+                .build();
+
+        // when: 1줄 환불 / 50줄 환불의 SELECT 횟수 비교
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        refundService.createRefund(user.getUserId(), singleLineRequest);
+        int singleLineSelects = SelectQueryCounter.count();
+
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        RefundResponse response = refundService.createRefund(user.getUserId(), largeRequest);
+        int largeSelects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 SELECT 횟수: 1줄=" + singleLineSelects + ", " + lineCount + "줄=" + largeSelects);
+
+        // then
+        assertThat(response.getItems()).hasSize(lineCount);
+        assertThat(response.getTotalAmount()).isEqualTo(10_000 * lineCount);
+        assertThat(largeSelects).isEqualTo(singleLineSelects);
+
+        // 기존 환불 수량은 집계 쿼리로 반영된다 → 남은 1개씩을 넘겨서 요청하면 실패
+        entityManager.flush();
+        entityManager.clear();
+
+        List<RefundItemCreateRequest> overReqs = itemReqs.stream()
+                .map(req -> RefundItemCreateRequest.builder()
+                        .orderItemId(req.getOrderItemId())
+                        .refundQuantity(2)
+                        .build())
+                .toList();
+
+        RefundCreateRequest overRequest = RefundCreateRequest.builder()
+                .orderId(largeOrder.getOrderId())
+                .paymentId(largePayment.getPaymentId())
+                .reasonCode(RefundReasonCode.CHANGE.name())
+                .reasonDetail("단순 변심")
+                .refundType(RefundType.FULL.name())
+                .items(overReqs)
+                .build();
+
+        assertThatThrownBy(() -> refundService.createRefund(user.getUserId(), overRequest))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessageContaining("환불 수량이 주문 수량을 초과합니다");
+    }
+
+    @Test
+    @DisplayName("getRefundsByUser - 상태 필터 + 페이지 조회를 쿼리 1번으로 처리한다")
+    void getRefundsByUser_statusFilterAndPage_singleQuery() {
+        // given: 요청 상태 환불 3건 + 승인 상태 환불 1건
+        for (int i = 0; i < 4; i++) {
+            saveRefund(i == 3 ? RefundStatus.APPROVED : RefundStatus.REQUESTED);
+        }
+
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        // when
+        Slice<RefundSummaryResponse> firstPage =
+                refundService.getRefundsByUser(user.getUserId(), RefundStatus.REQUESTED, 1, 2);
+        int selects = SelectQueryCounter.count();
+
+        Slice<RefundSummaryResponse> secondPage =
+                refundService.getRefundsByUser(user.getUserId(), RefundStatus.REQUESTED, 2, 2);
+        Slice<RefundSummaryResponse> approved =
+                refundService.getRefundsByUser(user.getUserId(), RefundStatus.APPROVED, 1, 20);
+        Slice<RefundSummaryResponse> all =
+                refundService.getRefundsByUser(user.getUserId(), null, 1, 20);
+
+        System.out.println("=== 🔥 환불 목록 SELECT 횟수: " + selects);
+
+        // then
+        assertThat(selects).isEqualTo(1);
+        assertThat(firstPage.getContent()).hasSize(2);
+        assertThat(firstPage.hasNext()).isTrue();
+        assertThat(secondPage.getContent()).hasSize(1);
+        assertThat(secondPage.hasNext()).isFalse();
+        assertThat(firstPage.getContent().get(0).getRefundId())
+                .isGreaterThan(firstPage.getContent().get(1).getRefundId());
+        assertThat(approved.getContent()).hasSize(1);
+        assertThat(all.getContent()).hasSize(4);
+    }
+
+    @Test
+    @DisplayName("completeRefund - 승인되지 않은 환불은 완료 처리할 수 없다 (상태 전이표)")
+    void completeRefund_notApproved_throwException() {
+        // given
+        Refund requested = saveRefund(RefundStatus.REQUESTED);
+
+        // when & then
+        assertThatThrownBy(() -> refundService.completeRefund(requested.getRefundId(), admin.getUserId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("REQUESTED 상태의 환불은 COMPLETED 처리할 수 없습니다");
+
+        Refund unchanged = refundRepository.findById(requested.getRefundId()).orElseThrow();
+        assertThat(unchanged.getRefundStatus()).isEqualTo(RefundStatus.REQUESTED);
+        assertThat(unchanged.getVersion()).isZero();
+    }
+
+    @Test
+    @DisplayName("processRefundsInBulk - 여러 환불을 한 번에 승인하고 건별 결과를 반환한다")
+    void processRefundsInBulk_approve_perIdResults() {
+        // given: 요청 상태 2건 + 이미 승인된 1건 + 없는 ID
+        Refund requested1 = saveRefund(RefundStatus.REQUESTED);
+        Refund requested2 = saveRefund(RefundStatus.REQUESTED);
+        Refund alreadyApproved = saveRefund(RefundStatus.APPROVED);
+        int missingId = Integer.MAX_VALUE;
+
+        RefundBulkRequest request = RefundBulkRequest.builder()
+                .refundIds(List.of(requested1.getRefundId(), requested2.getRefundId(),
+                        alreadyApproved.getRefundId(), missingId, requested1.getRefundId()))
+                .targetStatus(RefundStatus.APPROVED.name())
+                .build();
+
+        entityManager.flush();
+        entityManager.clear();
+        SelectQueryCounter.reset();
+
+        // when
+        RefundBulkResponse response = refundService.processRefundsInBulk(request, admin.getUserId());
+        int selects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 일괄 승인: 성공=" + response.getSuccessCount()
+                + ", 실패=" + response.getFailCount() + ", SELECT=" + selects);
+
+        // then: 관리자 1번 + 환불/아이템 chunk 1번 + chunk 상태 잠금 재확인 1번
+        assertThat(selects).isEqualTo(3);
+        assertThat(response.getSuccessCount()).isEqualTo(2);
+        assertThat(response.getFailCount()).isEqualTo(2);
+        assertThat(response.getResults())
+                .extracting(RefundBulkItemResponse::getRefundId, RefundBulkItemResponse::getResult)
+                .containsExactly(
+                        tuple(requested1.getRefundId(), RefundBulkResult.SUCCESS.name()),
+                        tuple(requested2.getRefundId(), RefundBulkResult.SUCCESS.name()),
+                        tuple(alreadyApproved.getRefundId(), RefundBulkResult.ALREADY_PROCESSED.name()),
+                        tuple(missingId, RefundBulkResult.NOT_FOUND.name()));
+
+        for (Refund refund : List.of(requested1, requested2, alreadyApproved)) {
+            assertThat(refundItemRepository.findByRefund(refund))
+                    .allSatisfy(item -> assertThat(item.getRefundStatus()).isEqualTo(RefundStatus.APPROVED));
+        }
+    }
+
+    @Test
+    @DisplayName("processRefundsInBulk - 관리자가 아니면 예외 발생")
+    void processRefundsInBulk_nonAdmin_throwException() {
+        RefundBulkRequest request = RefundBulkRequest.builder()
+                .refundIds(List.of(1))
+                .targetStatus(RefundStatus.APPROVED.name())
+                .build();
+
+        assertThatThrownBy(() -> refundService.processRefundsInBulk(request, user.getUserId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("관리자만 환불을 일괄 처리할 수 있습니다.");
+    }
+
+    @Test
+    @DisplayName("processRefundsInBulk - 조회 후 다른 관리자가 먼저 바꾼 환불은 실패로 돌리고 아이템도 건드리지 않는다")
+    void processRefundsInBulk_lostUpdate_itemsUntouched() {
+        // given: 일괄 처리의 조회 시점엔 REQUESTED 로 보이지만 (영속성 컨텍스트),
+        //        DB 에서는 이미 다른 관리자가 REJECTED 로 바꾼 환불
+        Refund stale = saveRefund(RefundStatus.REQUESTED);
+        Refund requested = saveRefund(RefundStatus.REQUESTED);
+        entityManager.flush();
+
+        entityManager.createNativeQuery("UPDATE refund SET refund_status = 'REJECTED' WHERE refund_id = :refundId")
+                .setParameter("refundId", stale.getRefundId())
+                .executeUpdate();
+
+        RefundBulkRequest request = RefundBulkRequest.builder()
+                .refundIds(List.of(stale.getRefundId(), requested.getRefundId()))
+                .targetStatus(RefundStatus.APPROVED.name())
+                .build();
+
+        // when
+        RefundBulkResponse response = refundService.processRefundsInBulk(request, admin.getUserId());
+
+        // then
+        assertThat(response.getResults())
+                .extracting(RefundBulkItemResponse::getRefundId, RefundBulkItemResponse::getResult)
+                .containsExactly(
+                        tuple(stale.getRefundId(), RefundBulkResult.INVALID_STATE.name()),
+                        tuple(requested.getRefundId(), RefundBulkResult.SUCCESS.name()));
+
+        assertThat(refundItemRepository.findByRefund(stale))
+                .allSatisfy(item -> assertThat(item.getRefundStatus()).isEqualTo(RefundStatus.REQUESTED));
+        assertThat(refundItemRepository.findByRefund(requested))
+                .allSatisfy(item -> assertThat(item.getRefundStatus()).isEqualTo(RefundStatus.APPROVED));
+    }
+
+    @Test
+    @DisplayName("processRefundsInBulk - 다른 관리자가 이미 같은 상태로 바꾼 환불은 SUCCESS 가 아니라 ALREADY_PROCESSED")
+    void processRefundsInBulk_alreadyMovedToTarget_notReportedAsSuccess() {
+        // given: 일괄 처리의 조회 시점엔 REQUESTED 로 보이지만 (영속성 컨텍스트),
+        //        DB 에서는 이미 다른 관리자가 APPROVED 로 바꾼 환불
+        Refund approvedByOther = saveRefund(RefundStatus.REQUESTED);
+        Refund requested = saveRefund(RefundStatus.REQUESTED);
+        entityManager.flush();
+
+        entityManager.createNativeQuery("UPDATE refund SET refund_status = 'APPROVED' WHERE refund_id = :refundId")
+                .setParameter("refundId", approvedByOther.getRefundId())
+                .executeUpdate();
+        Number versionBefore = (Number) entityManager
+                .createNativeQuery("SELECT version FROM refund WHERE refund_id = :refundId")
+                .setParameter("refundId", approvedByOther.getRefundId())
+                .getSingleResult();
+
+        RefundBulkRequest request = RefundBulkRequest.builder()
+                .refundIds(List.of(approvedByOther.getRefundId(), requested.getRefundId()))
+                .targetStatus(RefundStatus.APPROVED.name())
+                .build();
+
+        // when
+        RefundBulkResponse response = refundService.processRefundsInBulk(request, admin.getUserId());
+
+        // then: 이번 호출로 바뀐 건 requested 하나뿐
+        assertThat(response.getResults())
+                .extracting(RefundBulkItemResponse::getRefundId, RefundBulkItemResponse::getResult)
+                .containsExactly(
+                        tuple(approvedByOther.getRefundId(), RefundBulkResult.ALREADY_PROCESSED.name()),
+                        tuple(requested.getRefundId(), RefundBulkResult.SUCCESS.name()));
+        assertThat(response.getSuccessCount()).isEqualTo(1);
+        assertThat(response.getFailCount()).isEqualTo(1);
+
+        Number versionAfter = (Number) entityManager
+                .createNativeQuery("SELECT version FROM refund WHERE refund_id = :refundId")
+                .setParameter("refundId", approvedByOther.getRefundId())
+                .getSingleResult();
+        assertThat(versionAfter.longValue()).isEqualTo(versionBefore.longValue());
+        assertThat(refundItemRepository.findByRefund(approvedByOther))
+                .allSatisfy(item -> assertThat(item.getRefundStatus()).isEqualTo(RefundStatus.REQUESTED));
+    }
+
+    @Test
+    @DisplayName("backfillLegacyRefunds - 상태/버전 도입 전 환불은 아이템 상태로 채워서 다시 승인되지 않는다")
+    void backfillLegacyRefunds_fillsStatusFromItems() {
+        // given: 컬럼 추가 전에 승인까지 끝난 환불 (refund_status 는 암묵값, version 은 NULL)
+        Refund legacy = saveRefund(RefundStatus.APPROVED);
+        entityManager.flush();
+
+        entityManager.createNativeQuery(
+                        "UPDATE refund SET refund_status = 'REQUESTED', version = NULL WHERE refund_id = :refundId")
+                .setParameter("refundId", legacy.getRefundId())
+                .executeUpdate();
+        entityManager.createNativeQuery("UPDATE refund_item SET version = NULL WHERE refund_id = :refundId")
+                .setParameter("refundId", legacy.getRefundId())
+                .executeUpdate();
+        entityManager.clear();
+
+        // when
+        refundService.backfillLegacyRefunds();
+        entityManager.clear();
+
+        // then
+        Refund filled = refundRepository.findById(legacy.getRefundId()).orElseThrow();
+        assertThat(filled.getRefundStatus()).isEqualTo(RefundStatus.APPROVED);
+        assertThat(filled.getVersion()).isZero();
+        assertThat(refundItemRepository.findByRefund(filled))
+                .allSatisfy(item -> assertThat(item.getVersion()).isZero());
+
+        assertThatThrownBy(() -> refundService.approveRefund(legacy.getRefundId(), admin.getUserId()))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("APPROVED 상태의 환불은 APPROVED 처리할 수 없습니다");
+
+        // 버전이 채워졌으니 이후 전이는 정상적으로 올라간다
+        refundService.completeRefund(legacy.getRefundId(), admin.getUserId());
+        Refund completed = refundRepository.findById(legacy.getRefundId()).orElseThrow();
+        assertThat(completed.getRefundStatus()).isEqualTo(RefundStatus.COMPLETED);
+        assertThat(completed.getVersion()).isEqualTo(1L);
+    }
+
+    private Refund saveRefund(RefundStatus status) {
+        Refund refund = Refund.builder()
+                .reasonCode(RefundReasonCode.CHANGE.name())
+                .reasonDetail("테스트 환불")
+                .totalAmount(10_000)
+                .refundType(RefundType.PARTIAL)
+                .isTrue(YesNo.N)
+                .refundStatus(status)
+                .order(order)
+                .payment(payment)
+                .refundItems(new ArrayList<>())
+                .build();
+        refund.addRefundItem(RefundItem.builder()
+                .refundQuantity(1)
+                .refundPrice(10_000)
+                .refundStatus(status)
+                .orderItem(orderItem)
+                .build());
+        return refundRepository.save(refund);
+    }
 }
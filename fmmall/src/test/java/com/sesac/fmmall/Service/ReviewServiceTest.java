@@ -0,0 +1,348 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.ReviewSort;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.Product.ProductResponseDTO;
+import com.sesac.fmmall.DTO.Review.ReviewFeedPageResponseDTO;
+import com.sesac.fmmall.DTO.Review.ReviewFeedResponseDTO;
+import com.sesac.fmmall.DTO.Review.ReviewModifyRequestDTO;
+import com.sesac.fmmall.DTO.Review.ReviewRequestDTO;
+import com.sesac.fmmall.DTO.Review.ReviewResponseDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
+@Transactional
+class ReviewServiceTest {
+
+    private static final int ORDER_ITEMS = 5;
+    private static final int FEED_REVIEWS = 5_000;
+    private static final int FEED_PAGE_SIZE = 10;
+
+    @Autowired
+    private ReviewService reviewService;
+
+    @Autowired
+    private ProductService productService;
+
+    @Autowired
+    private ProductRatingService productRatingService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private OrderRepository orderRepository;
+
+    @Autowired
+    private OrderItemRepository orderItemRepository;
+
+    @Autowired
+    private ReviewRepository reviewRepository;
+
+    @Autowired
+    private ProductRatingSummaryRepository productRatingSummaryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Product product;
+    private List<OrderItem> orderItems;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("reviewUser")
+                .password("encoded-password")
+                .userName("리뷰 사용자")
+                .userPhone("010-2222-3333")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        Brand brand = brandRepository.save(Brand.builder().name("리뷰 브랜드").build());
+        Category category = categoryRepository.save(Category.builder().name("계절가전").build());
+        RowCategory rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("에어컨")
+                .category(category)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .name("리뷰 테스트 에어컨")
+                .price(1_500_000)
+                .stockQuantity(10)
+                .description("리뷰 평점 집계 테스트용")
+                .isInstallationRequired("Y")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("REVIEW-TEST-001")
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+
+        // 같은 상품을 5번 주문 (리뷰는 주문상품당 1개)
+        orderItems = new ArrayList<>();
+        for (int i = 0; i < ORDER_ITEMS; i++) {
+            Order order = orderRepository.save(Order.builder()
+                    .receiverName("수령인")
+                    .receiverPhone("010-2222-3333")
+                    .zipcode("12345")
+                    .address1("서울시 테스트구")
+                    .address2("101호")
+                    .totalPrice(product.getPrice())
+                    .createdAt(LocalDateTime.now())
+                    .user(user)
+                    .build());
+
+            orderItems.add(orderItemRepository.save(OrderItem.builder()
+                    .quantity(1)
+                    .order(order)
+                    .product(product)
+                    .build()));
+        }
+    }
+
+    @Test
+    @DisplayName("리뷰 등록 - 상품 응답에 평균 평점/리뷰 수/점수 분포가 바로 반영된다")
+    void insertReview_updatesProductRating() {
+        // when: 5점, 4점, 4.4점(→ 4점 칸), 평점 없는 리뷰
+        writeReview(0, 5.0);
+        writeReview(1, 4.0);
+        writeReview(2, 4.4);
+        writeReview(3, null);
+
+        // then
+        ProductResponseDTO response = productService.findProductByProductId(product.getProductId());
+
+        assertThat(response.getReviewCount()).isEqualTo(3);
+        assertThat(response.getAverageRating()).isEqualTo(4.5);   // 13.4 / 3 = 4.47
+        assertThat(response.getRatingCounts()).containsExactly(0, 0, 0, 2, 1);
+    }
+
+    @Test
+    @DisplayName("리뷰 수정/삭제 - 이전 평점은 빼고 새 평점을 더한다")
+    void modifyAndDeleteReview_updatesProductRating() {
+        ReviewResponseDTO first = writeReview(0, 5.0);
+        ReviewResponseDTO second = writeReview(1, 3.0);
+
+        // when: 5점 → 1점, 3점 리뷰 삭제
+        ReviewModifyRequestDTO modifyRequest = new ReviewModifyRequestDTO();
+        modifyRequest.setReviewContent("생각보다 별로예요");
+        modifyRequest.setReviewRating(1.0);
+        reviewService.modifyReviewContent(first.getReviewId(), user.getUserId(), modifyRequest);
+        reviewService.deleteReview(second.getReviewId(), user.getUserId());
+
+        // then
+        ProductRatingSummary summary = findSummary();
+        assertThat(summary.getReviewCount()).isEqualTo(1);
+        assertThat(summary.getRatingSum()).isEqualTo(1.0);
+        assertThat(summary.getRatingCounts()).containsExactly(1, 0, 0, 0, 0);
+
+        ProductResponseDTO response = productService.findProductByProductId(product.getProductId());
+        assertThat(response.getAverageRating()).isEqualTo(1.0);
+    }
+
+    @Test
+    @DisplayName("평점 재계산 - 어긋난 집계를 리뷰 기준으로 바로잡는다")
+    void reconcileAll_fixesDrift() {
+        writeReview(0, 5.0);
+        writeReview(1, 2.0);
+
+        // given: 집계를 일부러 틀어 놓는다
+        productRatingSummaryRepository.overwrite(product.getProductId(), 10, 10.0, 10, 0, 0, 0, 0);
+        entityManager.clear();
+
+        // when
+        int corrected = productRatingService.reconcileAll();
+
+        // then
+        entityManager.clear();
+        ProductRatingSummary summary = findSummary();
+        assertThat(corrected).isGreaterThanOrEqualTo(1);
+        assertThat(summary.getReviewCount()).isEqualTo(2);
+        assertThat(summary.getRatingSum()).isEqualTo(7.0);
+        assertThat(summary.getRatingCounts()).containsExactly(0, 1, 0, 0, 1);
+    }
+
+    @Test
+    @DisplayName("리뷰 등록 - 평점이 1~5점을 벗어나면 예외")
+    void insertReview_invalidRating_throwException() {
+        assertThatThrownBy(() -> writeReview(0, 6.0))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("평점은 1점 이상 5점 이하여야 합니다.");
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 피드 - 등록한 리뷰가 최신순/평점순으로 조회되고, 평점순은 평점 없는 리뷰를 뺀다")
+    void findReviewsByProduct_sortedFeed() {
+        ReviewResponseDTO low = writeReview(0, 2.0);
+        ReviewResponseDTO high = writeReview(1, 5.0);
+        ReviewResponseDTO unrated = writeReview(2, null);
+
+        // 최신순: 수정일이 같으면 reviewId 역순
+        ReviewFeedPageResponseDTO latest = reviewService.findReviewsByProduct(
+                product.getProductId(), ReviewSort.LATEST, 2, null, null, null);
+        ReviewFeedPageResponseDTO latestNext = reviewService.findReviewsByProduct(
+                product.getProductId(), ReviewSort.LATEST, 2,
+                latest.getNextCursorUpdatedAt(), null, latest.getNextCursorReviewId());
+
+        assertThat(latest.isHasNext()).isTrue();
+        assertThat(latest.getReviews()).extracting(ReviewFeedResponseDTO::getReviewId)
+                .containsExactly(unrated.getReviewId(), high.getReviewId());
+        assertThat(latest.getReviews().get(0).getUserName()).isEqualTo("리뷰 사용자");
+        assertThat(latestNext.isHasNext()).isFalse();
+        assertThat(latestNext.getReviews()).extracting(ReviewFeedResponseDTO::getReviewId)
+                .containsExactly(low.getReviewId());
+
+        // 평점순
+        ReviewFeedPageResponseDTO rating = reviewService.findReviewsByProduct(
+                product.getProductId(), ReviewSort.RATING, 10, null, null, null);
+
+        assertThat(rating.isHasNext()).isFalse();
+        assertThat(rating.getReviews()).extracting(ReviewFeedResponseDTO::getReviewId)
+                .containsExactly(high.getReviewId(), low.getReviewId());
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 피드 - 리뷰 5,000개에서 500페이지째도 첫 페이지와 같은 쿼리 수로 조회된다")
+    void findReviewsByProduct_deepPage_constantSelectCount() {
+        // given: 주문 1건에 주문상품 5,000개, 주문상품마다 리뷰 1개 (평점 1~5 순환)
+        Order order = orderItems.get(0).getOrder();
+        List<OrderItem> feedItems = new ArrayList<>();
+        for (int i = 0; i < FEED_REVIEWS; i++) {
+            feedItems.add(OrderItem.builder().quantity(1).order(order).product(product).build());
+        }
+        orderItemRepository.saveAll(feedItems);
+
+        List<Review> reviews = new ArrayList<>();
+        for (int i = 0; i < FEED_REVIEWS; i++) {
+            reviews.add(Review.builder()
+                    .reviewContent("피드 리뷰 " + i)
+                    .reviewRating((double) (i % 5 + 1))
+                    .user(user)
+                    .orderItem(feedItems.get(i))
+                    .product(product)
+                    .build());
+        }
+        reviewRepository.saveAll(reviews);
+        entityManager.flush();
+        entityManager.clear();
+
+        // when: 최신순으로 끝까지 넘기면서 첫 페이지와 500페이지째를 잰다
+        Set<Integer> seen = new HashSet<>();
+        ReviewFeedPageResponseDTO page = null;
+        long firstMicros = 0;
+        long lastMicros = 0;
+        int firstSelects = 0;
+        int lastSelects = 0;
+        int pages = 0;
+        do {
+            SelectQueryCounter.reset();
+            long startedAt = System.nanoTime();
+            page = page == null
+                    ? reviewService.findReviewsByProduct(product.getProductId(), ReviewSort.LATEST,
+                    FEED_PAGE_SIZE, null, null, null)
+                    : reviewService.findReviewsByProduct(product.getProductId(), ReviewSort.LATEST,
+                    FEED_PAGE_SIZE, page.getNextCursorUpdatedAt(), null, page.getNextCursorReviewId());
+            long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+            pages++;
+
+            if (pages == 1) {
+                firstMicros = elapsedMicros;
+                firstSelects = SelectQueryCounter.count();
+            }
+            lastMicros = elapsedMicros;
+            lastSelects = SelectQueryCounter.count();
+
+            page.getReviews().forEach(review -> seen.add(review.getReviewId()));
+        } while (page.isHasNext());
+
+        System.out.println("=== 🔥 리뷰 피드 " + FEED_REVIEWS + "개 / " + pages + "페이지: 첫 페이지 SELECT=" + firstSelects
+                + ", " + firstMicros + "us / 마지막 페이지 SELECT=" + lastSelects + ", " + lastMicros + "us");
+
+        // then: 빠짐·중복 없이 모든 리뷰, 페이지마다 쿼리 수 동일
+        assertThat(pages).isEqualTo(FEED_REVIEWS / FEED_PAGE_SIZE);
+        assertThat(seen).hasSize(FEED_REVIEWS);
+        assertThat(lastSelects).isEqualTo(firstSelects);
+
+        // 평점순도 커서로 끝까지 넘기면 평점이 줄어드는 방향으로만 나온다
+        List<Double> ratings = new ArrayList<>();
+        page = null;
+        do {
+            page = page == null
+                    ? reviewService.findReviewsByProduct(product.getProductId(), ReviewSort.RATING,
+                    100, null, null, null)
+                    : reviewService.findReviewsByProduct(product.getProductId(), ReviewSort.RATING,
+                    100, page.getNextCursorUpdatedAt(), page.getNextCursorRating(), page.getNextCursorReviewId());
+            page.getReviews().forEach(review -> ratings.add(review.getReviewRating()));
+        } while (page.isHasNext());
+
+        assertThat(ratings).hasSize(FEED_REVIEWS);
+        assertThat(ratings).isSortedAccordingTo((a, b) -> Double.compare(b, a));
+    }
+
+    @Test
+    @DisplayName("상품별 리뷰 피드 - 없는 상품이면 예외")
+    void findReviewsByProduct_unknownProduct_throwException() {
+        assertThatThrownBy(() -> reviewService.findReviewsByProduct(-1, ReviewSort.LATEST, 10, null, null, null))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품입니다.");
+    }
+
+    private ReviewResponseDTO writeReview(int orderItemIndex, Double rating) {
+        ReviewRequestDTO request = new ReviewRequestDTO();
+        request.setOrderItemId(orderItems.get(orderItemIndex).getOrderItemId());
+        request.setReviewContent("리뷰 " + orderItemIndex);
+        request.setReviewRating(rating);
+        return reviewService.insertReview(user.getUserId(), request);
+    }
+
+    // upsert 는 네이티브 쿼리라 영속성 컨텍스트를 비우고 다시 읽는다
+    private ProductRatingSummary findSummary() {
+        entityManager.flush();
+        entityManager.clear();
+        return productRatingSummaryRepository.findById(product.getProductId()).orElseThrow();
+    }
+}
@@ -0,0 +1,130 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.User.UserUpdateRequestDto;
+import com.sesac.fmmall.Entity.User;
+import com.sesac.fmmall.Repository.UserRepository;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Security.UserPrincipalCache;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+
+/**
+ * JWT 인증용 사용자 캐시 테스트
+ * - 캐시가 비어 있을 때만 user 를 SELECT 하는지 보려면 영속성 컨텍스트(1차 캐시)가 끼면 안 되므로
+ *   @Transactional 을 붙이지 않고 @AfterEach 에서 정리한다.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
+class UserServiceTest {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserPrincipalCache userPrincipalCache;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("principalUser" + System.nanoTime() % 1_000_000_000L)
+                .password("encoded-password")
+                .userName("캐시 사용자")
+                .userPhone("010-1111-5555")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (userRepository.existsById(user.getUserId())) {
+            userRepository.deleteById(user.getUserId());
+        }
+        userPrincipalCache.invalidate(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("사용자 캐시 - 두 번째 인증부터는 user SELECT 없이 캐시에서 꺼내고, 회원정보 수정 시 제거된다.")
+    void getUser_cacheHitAndInvalidateOnUpdate() {
+        // 🔹 1) 첫 조회 (캐시 미스 → user SELECT 1번)
+        long loadsBefore = userPrincipalCache.getStats().getLoadCount();
+        SelectQueryCounter.reset();
+
+        User first = userPrincipalCache.getUser(user.getUserId());
+
+        assertThat(first.getUserName()).isEqualTo("캐시 사용자");
+        assertThat(first.getPassword()).isNull();
+        assertThat(SelectQueryCounter.count()).isEqualTo(1);
+
+        // 🔹 2) 반복 조회 (요청마다 필터가 호출하는 것과 같음) → SELECT 없음
+        long hitsBefore = userPrincipalCache.getStats().getHitCount();
+        int repeat = 1000;
+        SelectQueryCounter.reset();
+        long cachedStartedAt = System.nanoTime();
+        for (int i = 0; i < repeat; i++) {
+            userPrincipalCache.getUser(user.getUserId());
+        }
+        long cachedNanos = System.nanoTime() - cachedStartedAt;
+
+        System.out.println("=== 🔥 인증 사용자 캐시 조회 평균="
+                + String.format("%.2f", cachedNanos / 1_000.0 / repeat) + "µs, SELECT=" + SelectQueryCounter.count());
+
+        assertThat(SelectQueryCounter.count()).isZero();
+        assertThat(userPrincipalCache.getStats().getHitCount() - hitsBefore).isEqualTo(repeat);
+        assertThat(userPrincipalCache.getStats().getLoadCount() - loadsBefore).isEqualTo(1);
+
+        // 🔹 3) 회원정보 수정 → 캐시 제거 → 다음 요청은 DB 에서 다시 읽어 수정된 값
+        UserUpdateRequestDto updateDto = new UserUpdateRequestDto();
+        updateDto.setUserName("이름 바뀐 사용자");
+        userService.updateUser(user.getUserId(), updateDto);
+
+        SelectQueryCounter.reset();
+        User afterUpdate = userPrincipalCache.getUser(user.getUserId());
+
+        assertThat(afterUpdate.getUserName()).isEqualTo("이름 바뀐 사용자");
+        assertThat(SelectQueryCounter.count()).isEqualTo(1);
+        assertThat(userPrincipalCache.getStats().getLoadCount() - loadsBefore).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("사용자 캐시 - 탈퇴하면 캐시에서 제거되어 다음 요청은 인증되지 않는다.")
+    void getUser_invalidateOnDelete() {
+        // given: 캐시에 올라간 사용자
+        assertThat(userPrincipalCache.getUser(user.getUserId())).isNotNull();
+        given(passwordEncoder.matches(any(), any())).willReturn(true);
+
+        // when
+        userService.deleteUser(user.getUserId(), "password");
+
+        // then: 캐시에 남아 있지 않고, DB 에서 다시 읽으면 없는 사용자
+        SelectQueryCounter.reset();
+        assertThat(userPrincipalCache.getUser(user.getUserId())).isNull();
+        assertThat(SelectQueryCounter.count()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,213 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.WishList.WishListRequestDTO;
+import com.sesac.fmmall.DTO.WishList.WishListResponseDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.Pageable;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 위시리스트 토글 동시성 테스트
+ * - 같은 (유저, 상품) 을 여러 스레드가 동시에 눌러도 행이 중복되지 않고, 성공한 추가/삭제 수와 최종 상태가 맞아야 한다.
+ * - 토글의 삭제/추가 쿼리가 각자 커밋되므로 @Transactional 을 붙이지 않고 @AfterEach 에서 정리한다.
+ */
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
+class WishListConcurrencyTest {
+
+    private static final int THREADS = 16;
+    private static final int TOGGLES_PER_THREAD = 20;
+
+    @Autowired
+    private WishListService wishListService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    @Autowired
+    private WishListRepository wishListRepository;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private Brand brand;
+    private Category category;
+    private RowCategory rowCategory;
+    private Product product;
+
+    @BeforeEach
+    void setUp() {
+        long suffix = System.nanoTime() % 1_000_000_000L;
+
+        user = userRepository.save(User.builder()
+                .loginId("wishUser" + suffix)
+                .password("encoded-password")
+                .userName("위시리스트 사용자")
+                .userPhone("010-5555-6666")
+                .role(UserRole.USER)
+                .build());
+
+        brand = brandRepository.save(Brand.builder().name("위시리스트 브랜드").build());
+        category = categoryRepository.save(Category.builder().name("위시리스트 카테고리").build());
+        rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("위시리스트 하위 카테고리")
+                .category(category)
+                .build());
+
+        product = productRepository.save(Product.builder()
+                .name("위시리스트 테스트 세탁기")
+                .price(500_000)
+                .stockQuantity(10)
+                .description("위시리스트 동시성 테스트용")
+                .isInstallationRequired("Y")
+                .productStatus(ProductStatus.ACTIVE)
+                .modelName("WISH-TEST-001")
+                .brand(brand)
+                .category(category)
+                .rowCategory(rowCategory)
+                .build());
+    }
+
+    @AfterEach
+    void tearDown() {
+        wishListRepository.deleteByUserIdAndProductId(user.getUserId(), product.getProductId());
+        productRepository.deleteById(product.getProductId());
+        rowCategoryRepository.deleteById(rowCategory.getRowCategoryId());
+        categoryRepository.deleteById(category.getCategoryId());
+        brandRepository.deleteById(brand.getBrandId());
+        userRepository.deleteById(user.getUserId());
+    }
+
+    @Test
+    @DisplayName("토글 - 추가/삭제 모두 사전 SELECT 없이 처리된다")
+    void toggle_noLookupSelects() {
+        WishListRequestDTO request = request(product.getProductId());
+
+        SelectQueryCounter.reset();
+        WishListResponseDTO added = wishListService.toggleWishlist(user.getUserId(), request);
+        int addSelects = SelectQueryCounter.count();
+
+        SelectQueryCounter.reset();
+        WishListResponseDTO removed = wishListService.toggleWishlist(user.getUserId(), request);
+        int removeSelects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 위시리스트 토글 SELECT: 추가=" + addSelects + ", 삭제=" + removeSelects);
+
+        assertThat(added.isAdded()).isTrue();
+        assertThat(added.getProductId()).isEqualTo(product.getProductId());
+        assertThat(removed.isAdded()).isFalse();
+        assertThat(addSelects).isZero();
+        assertThat(removeSelects).isZero();
+    }
+
+    @Test
+    @DisplayName("토글 - 없는 상품이면 예외")
+    void toggle_unknownProduct_throwException() {
+        assertThatThrownBy(() -> wishListService.toggleWishlist(user.getUserId(), request(-1)))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 상품입니다.");
+    }
+
+    @Test
+    @DisplayName("동시 토글 - 같은 상품을 여러 스레드가 동시에 눌러도 중복 행이 없고 최종 상태가 성공 횟수와 일치한다")
+    void concurrentToggles_consistentState() throws InterruptedException {
+
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        AtomicInteger added = new AtomicInteger();
+        AtomicInteger removed = new AtomicInteger();
+        AtomicInteger conflicts = new AtomicInteger();
+        AtomicInteger unexpected = new AtomicInteger();
+
+        CountDownLatch start = new CountDownLatch(1);
+        CountDownLatch done = new CountDownLatch(THREADS);
+        WishListRequestDTO request = request(product.getProductId());
+
+        for (int i = 0; i < THREADS; i++) {
+            executor.submit(() -> {
+                try {
+                    start.await();
+                    for (int j = 0; j < TOGGLES_PER_THREAD; j++) {
+                        try {
+                            if (wishListService.toggleWishlist(user.getUserId(), request).isAdded()) {
+                                added.incrementAndGet();
+                            } else {
+                                removed.incrementAndGet();
+                            }
+                        } catch (IllegalArgumentException e) {
+                            conflicts.incrementAndGet();
+                        } catch (RuntimeException e) {
+                            unexpected.incrementAndGet();
+                        }
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+
+        long startedAt = System.nanoTime();
+        start.countDown();
+        assertThat(done.await(60, TimeUnit.SECONDS)).isTrue();
+        long elapsedMillis = (System.nanoTime() - startedAt) / 1_000_000;
+        executor.shutdown();
+
+        long rows = wishListRepository.findAllByUser_UserId(user.getUserId(), Pageable.unpaged()).getTotalElements();
+
+        System.out.println("=== 🔥 동시 토글 " + THREADS * TOGGLES_PER_THREAD + "번: 추가=" + added.get()
+                + ", 삭제=" + removed.get() + ", 충돌=" + conflicts.get() + ", 최종 행=" + rows + " (" + elapsedMillis + "ms)");
+
+        // 충돌은 "이미 추가됨" 으로만 끝나고, 그 외 예외는 없다
+        assertThat(unexpected.get()).isZero();
+        assertThat(added.get() + removed.get() + conflicts.get()).isEqualTo(THREADS * TOGGLES_PER_THREAD);
+
+        // 같은 (유저, 상품) 행은 최대 1개, 성공한 추가 - 삭제 = 남은 행 수
+        assertThat(rows).isBetween(0L, 1L);
+        assertThat(added.get() - removed.get()).isEqualTo((int) rows);
+    }
+
+    private WishListRequestDTO request(int productId) {
+        WishListRequestDTO request = new WishListRequestDTO();
+        request.setProductId(productId);
+        return request;
+    }
+}
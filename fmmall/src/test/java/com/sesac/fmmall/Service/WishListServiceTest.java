@@ -0,0 +1,170 @@
+package com.sesac.fmmall.Service;
+
+import com.sesac.fmmall.Constant.ProductStatus;
+import com.sesac.fmmall.Constant.UserRole;
+import com.sesac.fmmall.DTO.WishList.WishListMembershipResponseDTO;
+import com.sesac.fmmall.DTO.WishList.WishListRequestDTO;
+import com.sesac.fmmall.Entity.*;
+import com.sesac.fmmall.Repository.*;
+import com.sesac.fmmall.Security.JwtAuthorizationFilter;
+import com.sesac.fmmall.Support.SelectQueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest(properties =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.sesac.fmmall.Support.SelectQueryCounter")
+@Transactional
+class WishListServiceTest {
+
+    private static final int PRODUCTS = 100;
+    private static final int WISHLIST_EVERY = 10;
+
+    @Autowired
+    private WishListService wishListService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private BrandRepository brandRepository;
+
+    @Autowired
+    private CategoryRepository categoryRepository;
+
+    @Autowired
+    private RowCategoryRepository rowCategoryRepository;
+
+    @Autowired
+    private ProductRepository productRepository;
+
+    // SecurityConfig 때문에 필요한 MockBean 들
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtAuthorizationFilter jwtAuthorizationFilter;
+
+    private User user;
+    private List<Integer> productIds;
+
+    @BeforeEach
+    void setUp() {
+        user = userRepository.save(User.builder()
+                .loginId("wishListUser")
+                .password("encoded-password")
+                .userName("위시리스트 사용자")
+                .userPhone("010-7777-8888")
+                .role(UserRole.USER)
+                .createdAt(LocalDateTime.now())
+                .build());
+
+        Brand brand = brandRepository.save(Brand.builder().name("위시리스트 브랜드").build());
+        Category category = categoryRepository.save(Category.builder().name("주방가전").build());
+        RowCategory rowCategory = rowCategoryRepository.save(RowCategory.builder()
+                .name("전자레인지")
+                .category(category)
+                .build());
+
+        // 상품 100개, 그중 10개를 찜
+        productIds = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i++) {
+            Product product = productRepository.save(Product.builder()
+                    .name("위시리스트 상품 " + i)
+                    .price(100_000)
+                    .stockQuantity(10)
+                    .description("위시리스트 테스트용")
+                    .isInstallationRequired("N")
+                    .productStatus(ProductStatus.ACTIVE)
+                    .modelName("WISH-LIST-" + i)
+                    .brand(brand)
+                    .category(category)
+                    .rowCategory(rowCategory)
+                    .build());
+            productIds.add(product.getProductId());
+
+            if (i % WISHLIST_EVERY == 0) {
+                wishListService.toggleWishlist(user.getUserId(), request(product.getProductId()));
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("포함 여부 일괄 조회 - 100개 상품을 쿼리 한 번으로 확인하고, 다시 조회하면 쿼리 없음")
+    void findWishListedProductIds_singleQueryThenCached() {
+        // 1) 첫 조회: 찜한 상품 ID 적재 쿼리 1번
+        SelectQueryCounter.reset();
+        long startedAt = System.nanoTime();
+        WishListMembershipResponseDTO first = wishListService.findWishListedProductIds(user.getUserId(), productIds);
+        long firstMicros = (System.nanoTime() - startedAt) / 1_000;
+        int firstSelects = SelectQueryCounter.count();
+
+        // 2) 같은 사용자 재조회: 캐시
+        SelectQueryCounter.reset();
+        startedAt = System.nanoTime();
+        WishListMembershipResponseDTO second = wishListService.findWishListedProductIds(user.getUserId(), productIds);
+        long secondMicros = (System.nanoTime() - startedAt) / 1_000;
+        int secondSelects = SelectQueryCounter.count();
+
+        System.out.println("=== 🔥 위시리스트 포함 여부 " + PRODUCTS + "개: 첫 조회 SELECT=" + firstSelects + ", " + firstMicros + "us"
+                + " / 캐시 SELECT=" + secondSelects + ", " + secondMicros + "us");
+
+        List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < PRODUCTS; i += WISHLIST_EVERY) {
+            expected.add(productIds.get(i));
+        }
+        assertThat(first.getWishListedProductIds()).containsExactlyElementsOf(expected);
+        assertThat(second.getWishListedProductIds()).containsExactlyElementsOf(expected);
+        assertThat(firstSelects).isEqualTo(1);
+        assertThat(secondSelects).isZero();
+    }
+
+    @Test
+    @DisplayName("포함 여부 일괄 조회 - 토글하면 해당 사용자 캐시가 비워져 바로 반영된다")
+    void toggleWishlist_invalidatesMembership() {
+        int added = productIds.get(1);
+        int removed = productIds.get(0);
+        List<Integer> visible = List.of(removed, added, productIds.get(2));
+
+        assertThat(wishListService.findWishListedProductIds(user.getUserId(), visible).getWishListedProductIds())
+                .containsExactly(removed);
+
+        // when
+        wishListService.toggleWishlist(user.getUserId(), request(added));
+        wishListService.toggleWishlist(user.getUserId(), request(removed));
+
+        // then
+        assertThat(wishListService.findWishListedProductIds(user.getUserId(), visible).getWishListedProductIds())
+                .containsExactly(added);
+    }
+
+    @Test
+    @DisplayName("포함 여부 일괄 조회 - 한 번에 200개를 넘기면 예외")
+    void findWishListedProductIds_tooMany_throwException() {
+        List<Integer> tooMany = new ArrayList<>();
+        for (int i = 0; i < 201; i++) {
+            tooMany.add(i + 1);
+        }
+
+        assertThatThrownBy(() -> wishListService.findWishListedProductIds(user.getUserId(), tooMany))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private WishListRequestDTO request(int productId) {
+        WishListRequestDTO request = new WishListRequestDTO();
+        request.setProductId(productId);
+        return request;
+    }
+}
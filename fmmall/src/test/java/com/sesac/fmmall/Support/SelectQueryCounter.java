@@ -0,0 +1,31 @@
+package com.sesac.fmmall.Support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 테스트용 SELECT 쿼리 카운터
+ * - spring.jpa.properties.hibernate.session_factory.statement_inspector 로 등록해서 사용
+ * - Hibernate 가 실행하는 SQL 중 SELECT 문 개수만 센다.
+ */
+public class SelectQueryCounter implements StatementInspector {
+
+    private static final AtomicInteger SELECT_COUNT = new AtomicInteger();
+
+    @Override
+    public String inspect(String sql) {
+        if (sql != null && sql.stripLeading().regionMatches(true, 0, "select", 0, 6)) {
+            SELECT_COUNT.incrementAndGet();
+        }
+        return sql;
+    }
+
+    public static void reset() {
+        SELECT_COUNT.set(0);
+    }
+
+    public static int count() {
+        return SELECT_COUNT.get();
+    }
+}
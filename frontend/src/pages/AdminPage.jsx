@@ -25,7 +25,7 @@ const AdminPage = () => {
             const users = usersResponse.data || [];
 
             // 상품 통계
-            const productsResponse = await productAPI.getAllProducts();
+            const productsResponse = await productAPI.exportProducts();
             const products = productsResponse.data || [];
 
             setStats({
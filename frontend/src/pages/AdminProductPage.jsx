@@ -38,7 +38,7 @@ const AdminProductPage = () => {
     const loadProducts = async () => {
         try {
             setLoading(true);
-            const response = await productAPI.getAllProducts();
+            const response = await productAPI.exportProducts();
             setProducts(response.data || []);
         } catch (error) {
             console.error('상품 목록 로딩 실패:', error);
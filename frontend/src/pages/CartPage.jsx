@@ -33,14 +33,49 @@ const CartPage = () => {
         }
 
         try {
-            await cartAPI.updateCartItem(cartItemId, { quantity: newQuantity });
-            loadCart();
+            const response = await cartAPI.updateCartItem(cartItemId, { quantity: newQuantity });
+            const { changedItem, totalItemCount, totalPrice } = response.data;
+            // 전체 목록을 다시 불러오지 않고 변경된 항목과 합계만 반영
+            setCartData((prev) => ({
+                ...prev,
+                itemList: prev.itemList.map((item) =>
+                    item.cartItemId === changedItem.cartItemId ? changedItem : item
+                ),
+                totalItemCount,
+                totalPrice,
+            }));
         } catch (error) {
             console.error('수량 변경 실패:', error);
             alert('수량 변경에 실패했습니다.');
         }
     };
 
+    const handleCheckChange = async (cartItemId, checked) => {
+        try {
+            const response = await cartAPI.checkCartItem(cartItemId, checked ? 'Y' : 'N');
+            const { changedItem } = response.data;
+            setCartData((prev) => ({
+                ...prev,
+                itemList: prev.itemList.map((item) =>
+                    item.cartItemId === changedItem.cartItemId ? changedItem : item
+                ),
+            }));
+        } catch (error) {
+            console.error('상품 선택 변경 실패:', error);
+            alert('상품 선택 변경에 실패했습니다.');
+        }
+    };
+
+    const handleCheckAll = async (checked) => {
+        try {
+            const response = await cartAPI.checkAllCartItems(checked ? 'Y' : 'N');
+            setCartData(response.data);
+        } catch (error) {
+            console.error('전체 선택 변경 실패:', error);
+            alert('전체 선택 변경에 실패했습니다.');
+        }
+    };
+
     const handleRemoveItem = async (cartItemId) => {
         if (!window.confirm('이 상품을 장바구니에서 삭제하시겠습니까?')) return;
 
@@ -70,6 +105,11 @@ const CartPage = () => {
             alert('장바구니가 비어있습니다.');
             return;
         }
+        // 장바구니 주문은 선택된 상품만 주문된다.
+        if (!cartData.itemList.some((item) => item.checkStatus === 'Y')) {
+            alert('주문할 상품을 선택해주세요.');
+            return;
+        }
         // 👉 결제 페이지로 이동
         navigate('/cart/checkout');
     };
@@ -123,6 +163,20 @@ const CartPage = () => {
                     </div>
                 ) : (
                     <>
+                        <label style={{
+                            display: 'flex',
+                            alignItems: 'center',
+                            gap: '0.5rem',
+                            marginBottom: '1rem'
+                        }}>
+                            <input
+                                type="checkbox"
+                                checked={cartData.itemList.every((item) => item.checkStatus === 'Y')}
+                                onChange={(e) => handleCheckAll(e.target.checked)}
+                            />
+                            전체 선택
+                        </label>
+
                         <div style={{ marginBottom: '2rem' }}>
                             {cartData.itemList.map((item) => (
                                 <div
@@ -137,6 +191,13 @@ const CartPage = () => {
                                         alignItems: 'center'
                                     }}
                                 >
+                                    {/* 주문 선택 */}
+                                    <input
+                                        type="checkbox"
+                                        checked={item.checkStatus === 'Y'}
+                                        onChange={(e) => handleCheckChange(item.cartItemId, e.target.checked)}
+                                    />
+
                                     {/* 상품 이미지 영역 */}
                                     <div style={{
                                         width: '120px',
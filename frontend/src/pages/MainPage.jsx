@@ -1,13 +1,29 @@
-import React, { useState, useEffect } from 'react';
+import React, { useState, useEffect, useRef } from 'react';
 import Sidebar from '../components/Sidebar';
 import ProductCard from '../components/ProductCard';
 import IntroStack from '../components/IntroStack';
 import { productAPI, wishlistAPI } from '../services/api';
 import { shouldShowIntro, markIntroAsViewed } from '../utils/introUtils';
 
+// 화면 정렬 옵션 → 서버 ProductSort
+const SORT_PARAMS = {
+    recommended: 'LATEST',
+    newest: 'LATEST',
+    'price-low': 'PRICE_ASC',
+    'price-high': 'PRICE_DESC',
+};
+
+const toPrice = (value) => {
+    if (value === '' || value === null || value === undefined) {
+        return undefined;
+    }
+    const price = Number(value);
+    return Number.isNaN(price) ? undefined : price;
+};
+
 const MainPage = () => {
     const [products, setProducts] = useState([]);
-    const [filteredProducts, setFilteredProducts] = useState([]);
+    const [filters, setFilters] = useState({ categoryId: null, brandIds: [], priceRange: { min: '', max: '' } });
     const [sortOption, setSortOption] = useState('recommended');
     const [loading, setLoading] = useState(true);
     const [showIntro, setShowIntro] = useState(true);
@@ -16,68 +32,81 @@ const MainPage = () => {
     // ✅ 위시리스트 상태 추가
     const [wishlistedProductIds, setWishlistedProductIds] = useState([]);
 
-    // 페이지네이션 상태
+    // 페이지네이션 상태 (전체 개수/페이지 수는 서버 응답 기준)
     const [currentPage, setCurrentPage] = useState(1);
+    const [totalPages, setTotalPages] = useState(0);
+    const [totalElements, setTotalElements] = useState(0);
     const itemsPerPage = 6;
 
+    // 필터를 빠르게 바꿀 때 늦게 도착한 이전 응답은 버린다
+    const requestSeq = useRef(0);
+
     useEffect(() => {
         if (!shouldShowIntro()) {
             setShowIntro(false);
             setIntroComplete(true);
+            return undefined;
         }
 
-        loadProducts();
-        loadWishlist(); // ✅ 위시리스트 로드 추가
+        const timer = setTimeout(() => {
+            handleIntroComplete();
+        }, 7000);
+        return () => clearTimeout(timer);
     }, []);
 
-    // 필터나 정렬이 변경되면 첫 페이지로 이동
+    // 필터/정렬/페이지가 바뀌면 그 페이지만 서버에서 다시 조회
     useEffect(() => {
-        setCurrentPage(1);
-    }, [filteredProducts.length]);
+        loadProducts(); // 상품을 불러온 뒤 해당 상품들의 위시리스트 여부도 함께 불러온다
+    }, [filters, sortOption, currentPage]);
 
     const loadProducts = async () => {
+        const seq = ++requestSeq.current;
         try {
             setLoading(true);
-            const response = await productAPI.getAllProducts();
-            const productData = response.data || [];
+            const response = await productAPI.getAllProducts({
+                categoryId: filters.categoryId ?? undefined,
+                brandIds: filters.brandIds,
+                minPrice: toPrice(filters.priceRange?.min),
+                maxPrice: toPrice(filters.priceRange?.max),
+                sort: SORT_PARAMS[sortOption],
+                curPage: currentPage,
+                size: itemsPerPage,
+            });
+            if (seq !== requestSeq.current) {
+                return;
+            }
+            const productData = response.data?.content || [];
             setProducts(productData);
-            setFilteredProducts(productData);
+            setTotalPages(response.data?.totalPages || 0);
+            setTotalElements(response.data?.totalElements || 0);
+            loadWishlist(productData.map((product) => product.productId));
         } catch (error) {
+            if (seq !== requestSeq.current) {
+                return;
+            }
             console.error('상품 로딩 실패:', error);
+            setProducts([]);
+            setTotalPages(0);
+            setTotalElements(0);
         } finally {
-            setLoading(false);
-            setTimeout(() => {
-                handleIntroComplete();
-            }, 7000);
+            if (seq === requestSeq.current) {
+                setLoading(false);
+            }
         }
     };
 
-    // ✅ 위시리스트 로드 함수 추가
-    const loadWishlist = async () => {
+    // ✅ 화면에 보여줄 상품들 중 위시리스트에 있는 상품 ID 만 조회
+    const loadWishlist = async (productIds) => {
         const token = localStorage.getItem('token');
-        if (!token) {
+        if (!token || productIds.length === 0) {
             // 로그인하지 않은 경우 빈 배열
             setWishlistedProductIds([]);
             return;
         }
 
         try {
-            // 전체 위시리스트를 가져오기 (페이지네이션 무시)
-            const response = await wishlistAPI.getMyWishlists(1);
-
-            // 위시리스트의 모든 페이지 데이터를 가져오기
-            const totalPages = response.data.totalPages || 1;
-            let allWishlistItems = response.data.content || [];
-
-            // 나머지 페이지들도 가져오기
-            for (let page = 2; page <= totalPages; page++) {
-                const nextResponse = await wishlistAPI.getMyWishlists(page);
-                allWishlistItems = [...allWishlistItems, ...(nextResponse.data.content || [])];
-            }
-
-            // productId만 추출하여 배열로 저장
-            const productIds = allWishlistItems.map(item => item.productId);
-            setWishlistedProductIds(productIds);
+            const response = await wishlistAPI.getMembership(productIds);
+            setWishlistedProductIds(response.data.wishListedProductIds || []);
         } catch (error) {
             console.error('위시리스트 로딩 실패:', error);
             // 에러 발생 시 빈 배열로 설정
@@ -91,71 +120,17 @@ const MainPage = () => {
         setTimeout(() => setIntroComplete(true), 500);
     };
 
-    const handleFilterChange = (filters) => {
-        let filtered = [...products];
-
-        // 1) 카테고리
-        if (filters.categoryId !== null && filters.categoryId !== undefined) {
-            filtered = filtered.filter(p => p.categoryId === filters.categoryId);
-        }
-
-        // 2) 브랜드
-        if (filters.brandIds && filters.brandIds.length > 0) {
-            filtered = filtered.filter(p =>
-                filters.brandIds.includes(p.brandId)
-            );
-        }
-
-        // 3) 가격대
-        if (filters.priceRange) {
-            const min =
-                filters.priceRange.min !== ''
-                    ? Number(filters.priceRange.min)
-                    : null;
-            const max =
-                filters.priceRange.max !== ''
-                    ? Number(filters.priceRange.max)
-                    : null;
-
-            if (min !== null && !Number.isNaN(min)) {
-                filtered = filtered.filter(p => p.productPrice >= min);
-            }
-
-            if (max !== null && !Number.isNaN(max)) {
-                filtered = filtered.filter(p => p.productPrice <= max);
-            }
-        }
-
-        setFilteredProducts(filtered);
+    // 필터나 정렬이 변경되면 첫 페이지부터 다시 조회
+    const handleFilterChange = (nextFilters) => {
+        setFilters(nextFilters);
+        setCurrentPage(1);
     };
 
     const handleSortChange = (sortValue) => {
         setSortOption(sortValue);
-        let sorted = [...filteredProducts];
-
-        switch (sortValue) {
-            case 'price-low':
-                sorted.sort((a, b) => a.productPrice - b.productPrice);
-                break;
-            case 'price-high':
-                sorted.sort((a, b) => b.productPrice - a.productPrice);
-                break;
-            case 'newest':
-                sorted.sort((a, b) => b.productId - a.productId);
-                break;
-            default:
-                break;
-        }
-
-        setFilteredProducts(sorted);
+        setCurrentPage(1);
     };
 
-    // 페이지네이션 계산
-    const totalPages = Math.ceil(filteredProducts.length / itemsPerPage);
-    const indexOfLastItem = currentPage * itemsPerPage;
-    const indexOfFirstItem = indexOfLastItem - itemsPerPage;
-    const currentProducts = filteredProducts.slice(indexOfFirstItem, indexOfLastItem);
-
     // 페이지 변경 핸들러
     const handlePageChange = (pageNumber) => {
         setCurrentPage(pageNumber);
@@ -202,7 +177,7 @@ const MainPage = () => {
                 <div className="toolbar">
                     <div className="toolbar__left">
                         <h1 className="toolbar__title">전체 상품</h1>
-                        <p className="toolbar__subtitle">{filteredProducts.length}개의 상품</p>
+                        <p className="toolbar__subtitle">{totalElements}개의 상품</p>
                     </div>
 
                     <select
@@ -227,8 +202,8 @@ const MainPage = () => {
                         }}>
                             <p>상품을 불러오는 중...</p>
                         </div>
-                    ) : currentProducts.length > 0 ? (
-                        currentProducts.map((product) => (
+                    ) : products.length > 0 ? (
+                        products.map((product) => (
                             <ProductCard
                                 key={product.productId}
                                 product={product}
@@ -248,7 +223,7 @@ const MainPage = () => {
                 </section>
 
                 {/* 페이지네이션 */}
-                {!loading && filteredProducts.length > 0 && totalPages > 1 && (
+                {!loading && totalPages > 1 && (
                     <div style={{
                         display: 'flex',
                         justifyContent: 'center',
@@ -61,8 +61,30 @@ export const authAPI = {
 };
 // 상품 관련 API
 export const productAPI = {
-  getAllProducts: () => 
-    apiClient.get('/Product/findAll'),
+  // 상품 목록 (서버에서 필터/정렬/페이지 처리: { content, totalPages, totalElements, ... })
+  // params: { categoryId, brandIds: [], minPrice, maxPrice, sort, curPage, size }
+  getAllProducts: ({ brandIds, ...params } = {}) =>
+    apiClient.get('/Product/findAll', {
+      params: {
+        curPage: 1,
+        size: 20,
+        ...params,
+        // 스프링이 "1,2" 를 List 로 바인딩한다 (axios 기본 brandIds[]=1 형식은 못 받음)
+        ...(brandIds && brandIds.length > 0 ? { brandIds: brandIds.join(',') } : {}),
+      },
+    }),
+
+  // 상품 검색 (관련도 순 페이지)
+  searchProducts: (q, curPage = 1, size = 20) =>
+    apiClient.get('/Product/search', { params: { q, curPage, size } }),
+
+  // 자동완성 (상품명/모델명/브랜드, 판매량 순)
+  autocomplete: (q, limit = 10) =>
+    apiClient.get('/Product/autocomplete', { params: { q, limit } }),
+
+  // [관리자] 전체 상품 내보내기 (최대 개수 제한)
+  exportProducts: () =>
+    apiClient.get('/Admin/Product/export'),
   
   getProductById: (productId) => 
     apiClient.get(`/Product/findOne/${productId}`),
@@ -156,13 +178,21 @@ export const cartAPI = {
     getCart: () =>
         apiClient.get('/Cart/findAll'),
 
-    // 장바구니에 상품 추가
+    // 장바구니에 상품 추가 (추가된 항목 + 합계만 응답)
     addToCart: (data) =>
-        apiClient.post('/Cart/insert', data),
+        apiClient.post('/Cart/insert/summary', data),
 
-    // 장바구니 상품 수량 변경
+    // 장바구니 상품 수량 변경 (변경된 항목 + 합계만 응답)
     updateCartItem: (cartItemId, data) =>
-        apiClient.put(`/Cart/modify/${cartItemId}`, data),
+        apiClient.put(`/Cart/modify/${cartItemId}/summary`, data),
+
+    // 장바구니 상품 주문 선택/해제 (변경된 항목 + 합계만 응답)
+    checkCartItem: (cartItemId, checkStatus) =>
+        apiClient.put(`/Cart/check/${cartItemId}`, { checkStatus }),
+
+    // 장바구니 전체 주문 선택/해제
+    checkAllCartItems: (checkStatus) =>
+        apiClient.put('/Cart/checkAll', { checkStatus }),
 
     // 장바구니 상품 삭제
     removeCartItem: (cartItemId) =>
@@ -210,6 +240,10 @@ export const wishlistAPI = {
     getWishlistById: (wishListId) =>
         apiClient.get(`/WishList/findOne/${wishListId}`),
 
+    // 위시리스트 포함 여부 일괄 조회 (상품 ID 최대 200개)
+    getMembership: (productIds) =>
+        apiClient.get('/WishList/membership', { params: { productIds: productIds.join(',') } }),
+
     // 위시리스트 토글 (추가/삭제)
     toggleWishlist: (data) =>
         apiClient.post('/WishList/toggle', data),
@@ -225,9 +259,9 @@ export const refundAPI = {
     createRefund: (refundData) =>
         apiClient.post('/Refund/insert', refundData),
 
-    // 내 환불 내역
-    getMyRefunds: () =>
-        apiClient.get('/Refund/findAll'),
+    // 내 환불 내역 (페이지, status 로 상태 필터)
+    getMyRefunds: (params = {}) =>
+        apiClient.get('/Refund/findAll', { params: { curPage: 1, size: 20, ...params } }),
 
     // 환불 상세
     getRefundDetail: (refundId) =>
@@ -244,6 +278,18 @@ export const reviewAPI = {
     getMyReviews: (curPage = 1) =>
         apiClient.get(`/Review/findByUser/me?curPage=${curPage}`),
 
+    // 상품별 리뷰 피드 (커서 기반, cursor 는 이전 응답의 nextCursor* 값)
+    getProductReviews: (productId, { sort = 'LATEST', size = 20, cursor } = {}) =>
+        apiClient.get(`/Review/product/${productId}`, {
+            params: {
+                sort,
+                size,
+                cursorUpdatedAt: cursor?.updatedAt,
+                cursorRating: cursor?.rating,
+                cursorReviewId: cursor?.reviewId,
+            },
+        }),
+
     // 리뷰 단건 조회
     getReviewById: (reviewId) =>
         apiClient.get(`/Review/findOne/${reviewId}`),
@@ -271,6 +317,10 @@ export const inquiryAPI = {
     getMyInquiries: (curPage = 1) =>
         apiClient.get(`/Inquiry/findByUser/me?curPage=${curPage}`),
 
+    // 상품 Q&A (문의 + 답변 한 번에)
+    getProductQna: (productId, curPage = 1) =>
+        apiClient.get(`/Inquiry/qna/${productId}?curPage=${curPage}`),
+
     // 문의 단건 조회
     getInquiryById: (inquiryId) =>
         apiClient.get(`/Inquiry/findOne/${inquiryId}`),